@@ -3,8 +3,11 @@ package com.example.devjobs.admin.controller;
 import com.example.devjobs.admin.dto.IndividualUserListResponse;
 import com.example.devjobs.admin.dto.CompanyUserListResponse;
 import com.example.devjobs.admin.dto.AdminJobPostingListResponse;
+import com.example.devjobs.admin.dto.MetricResponse;
 import com.example.devjobs.admin.service.AdminService;
 import com.example.devjobs.common.ApiResponse;
+import com.example.devjobs.home.dto.HomeSnapshotStatusDto;
+import com.example.devjobs.home.service.HomeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -19,6 +22,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Admin API", description = "관리자 전용 API")
 @RestController
 @RequestMapping("/api/admin")
@@ -28,6 +33,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final AdminService adminService;
+    private final HomeService homeService;
 
     @Operation(summary = "개인회원 목록 조회", description = "관리자가 개인회원 목록을 조회합니다")
     @ApiResponses({
@@ -111,4 +117,27 @@ public class AdminController {
         adminService.deleteJobPosting(jobId);
         return ResponseEntity.ok(ApiResponse.success());
     }
-}
\ No newline at end of file
+    
+    @Operation(summary = "운영 지표 조회", description = "캐시 적중/미스, 대기열 길이, SSE 연결 수 등 애플리케이션이 기록한 지표를 조회합니다")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/metrics")
+    public ResponseEntity<ApiResponse<List<MetricResponse>>> getMetrics(
+            @Parameter(description = "지표 이름 접두사 (예: cache, notification.sse)")
+            @RequestParam(required = false) String prefix
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(adminService.getMetrics(prefix)));
+    }
+    
+    @Operation(summary = "홈화면 스냅샷 상태 조회", description = "홈화면 데이터 스냅샷의 생성 시각, 경과 시간, 생성 소요 시간을 조회합니다")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/home-snapshot")
+    public ResponseEntity<ApiResponse<HomeSnapshotStatusDto>> getHomeSnapshotStatus() {
+        return ResponseEntity.ok(ApiResponse.success(homeService.getSnapshotStatus()));
+    }
+}
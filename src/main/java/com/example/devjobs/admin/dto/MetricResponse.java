@@ -0,0 +1,39 @@
+package com.example.devjobs.admin.dto;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MetricResponse {
+    private String name;
+    private Map<String, String> tags;
+    // 통계 종류(COUNT, VALUE, TOTAL_TIME 등)별 값
+    private Map<String, Double> measurements;
+
+    public static MetricResponse from(Meter meter) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (Tag tag : meter.getId().getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        Map<String, Double> measurements = new LinkedHashMap<>();
+        for (Measurement measurement : meter.measure()) {
+            measurements.put(measurement.getStatistic().name(), measurement.getValue());
+        }
+        return MetricResponse.builder()
+                .name(meter.getId().getName())
+                .tags(tags)
+                .measurements(measurements)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.devjobs.admin.search;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 관리자 채용공고 검색 (제목, 회사명).
+ * app.admin.search.mode 설정값(like, fulltext)에 따라 구현체가 선택됩니다.
+ */
+public interface AdminJobPostingSearch {
+
+    /**
+     * 검색어로 채용공고를 회사, 카테고리 정보와 함께 조회합니다.
+     *
+     * @param status null이면 상태와 관계없이 검색
+     */
+    Page<JobPosting> search(String search, JobPostingStatus status, Pageable pageable);
+}
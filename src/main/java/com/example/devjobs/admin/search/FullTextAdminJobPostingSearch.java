@@ -0,0 +1,179 @@
+package com.example.devjobs.admin.search;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * MariaDB FULLTEXT 인덱스(job_postings.title, company_users.company_name)를 사용하는 검색입니다.
+ * 검색어의 각 단어로 시작하는 단어를 모두 포함한 공고를 찾으므로, LIKE 모드와 달리 단어 중간의 문자열은 찾지 않습니다.
+ * 인덱스는 db/migration/admin-job-posting-fulltext.sql 로 생성합니다.
+ * <p>
+ * 서로 다른 테이블의 MATCH를 OR로 묶으면 MariaDB가 어느 FULLTEXT 인덱스도 쓰지 못하고 모든 행을 평가하므로,
+ * 제목 일치와 회사명 일치를 각각 한 테이블의 인덱스로 찾은 뒤 UNION ALL로 합쳐 공고별 점수를 더합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.admin.search.mode", havingValue = "fulltext")
+public class FullTextAdminJobPostingSearch implements AdminJobPostingSearch {
+
+    static final String MIGRATION_SCRIPT = "db/migration/admin-job-posting-fulltext.sql";
+
+    // BOOLEAN MODE 연산자로 해석되는 문자
+    private static final String OPERATOR_CHARS = "[+\\-<>()~*\"@]";
+
+    // 정렬 가능한 속성과 컬럼 (네이티브 쿼리이므로 그 외 속성은 무시)
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "jp.job_posting_id",
+            "title", "jp.title",
+            "deadline", "jp.deadline",
+            "salary", "jp.salary",
+            "createDate", "jp.create_date"
+    );
+
+    private final EntityManager em;
+    private final JobPostingRepository jobPostingRepository;
+    private final DataSource dataSource;
+    private final boolean relevanceOrder;
+    private final boolean applyMigration;
+
+    public FullTextAdminJobPostingSearch(EntityManager em,
+                                         JobPostingRepository jobPostingRepository,
+                                         DataSource dataSource,
+                                         @Value("${app.admin.search.fulltext.relevance-order:true}") boolean relevanceOrder,
+                                         @Value("${app.admin.search.fulltext.apply-migration:true}") boolean applyMigration) {
+        this.em = em;
+        this.jobPostingRepository = jobPostingRepository;
+        this.dataSource = dataSource;
+        this.relevanceOrder = relevanceOrder;
+        this.applyMigration = applyMigration;
+    }
+
+    /**
+     * 인덱스가 없으면 생성합니다 (CREATE ... IF NOT EXISTS 이므로 여러 번 실행해도 안전).
+     */
+    @PostConstruct
+    void applyMigration() {
+        if (!applyMigration) {
+            return;
+        }
+        DatabasePopulatorUtils.execute(
+                new ResourceDatabasePopulator(new ClassPathResource(MIGRATION_SCRIPT)), dataSource);
+        log.info("관리자 채용공고 FULLTEXT 인덱스 확인 완료");
+    }
+
+    @Override
+    public Page<JobPosting> search(String search, JobPostingStatus status, Pageable pageable) {
+        String booleanQuery = toBooleanQuery(search);
+        if (booleanQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        String where = " FROM job_postings jp JOIN (" + matchedIds() + ") m ON m.job_posting_id = jp.job_posting_id" +
+                (status != null ? " WHERE jp.status = :status" : "");
+
+        Query idQuery = em.createNativeQuery("SELECT jp.job_posting_id" + where + orderBy(pageable.getSort()));
+        bind(idQuery, booleanQuery, status);
+        idQuery.setFirstResult((int) pageable.getOffset());
+        idQuery.setMaxResults(pageable.getPageSize());
+        List<Long> ids = ((List<?>) idQuery.getResultList()).stream()
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toList());
+
+        return PageableExecutionUtils.getPage(load(ids), pageable, () -> {
+            Query countQuery = em.createNativeQuery("SELECT COUNT(*)" + where);
+            bind(countQuery, booleanQuery, status);
+            return ((Number) countQuery.getSingleResult()).longValue();
+        });
+    }
+
+    /**
+     * 컬럼이 검색어와 얼마나 관련 있는지 나타내는 식입니다. 일치하지 않으면 0입니다.
+     */
+    protected String matchExpression(String column) {
+        return "MATCH(" + column + ") AGAINST(:query IN BOOLEAN MODE)";
+    }
+
+    /**
+     * 제목 또는 회사명이 일치하는 공고 ID와 관련도 점수입니다. 각 SELECT는 한 테이블의 FULLTEXT 인덱스만 사용합니다.
+     */
+    private String matchedIds() {
+        return "SELECT job_posting_id, SUM(score) AS score FROM (" +
+                "SELECT t.job_posting_id, " + matchExpression("t.title") + " AS score FROM job_postings t" +
+                " WHERE " + matchExpression("t.title") +
+                " UNION ALL " +
+                "SELECT c.job_posting_id, " + matchExpression("cu.company_name") + " AS score FROM company_users cu" +
+                " JOIN job_postings c ON c.company_user_id = cu.id" +
+                " WHERE " + matchExpression("cu.company_name") +
+                ") matched GROUP BY job_posting_id";
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 질의로 바꿉니다. 예) "백엔드 개발" → "+백엔드* +개발*"
+     */
+    static String toBooleanQuery(String search) {
+        if (search == null) {
+            return "";
+        }
+        return Arrays.stream(search.replaceAll(OPERATOR_CHARS, " ").trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> "+" + term + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    private String orderBy(Sort sort) {
+        if (relevanceOrder) {
+            return " ORDER BY m.score DESC, jp.job_posting_id DESC";
+        }
+        String columns = sort.stream()
+                .filter(order -> SORT_COLUMNS.containsKey(order.getProperty()))
+                .map(order -> SORT_COLUMNS.get(order.getProperty()) + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+        if (sort.getOrderFor("id") != null) {
+            return " ORDER BY " + columns;
+        }
+        return " ORDER BY " + (columns.isEmpty() ? "" : columns + ", ") + "jp.job_posting_id DESC";
+    }
+
+    private void bind(Query query, String booleanQuery, JobPostingStatus status) {
+        query.setParameter("query", booleanQuery);
+        if (status != null) {
+            query.setParameter("status", status.name());
+        }
+    }
+
+    // IN 조회는 순서를 보장하지 않으므로 검색 결과 순서대로 다시 정렬
+    private List<JobPosting> load(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> positions = IntStream.range(0, ids.size()).boxed()
+                .collect(Collectors.toMap(ids::get, Function.identity()));
+        return jobPostingRepository.findAllWithCompanyUserAndCategoryByIdIn(ids).stream()
+                .sorted(Comparator.comparing(jobPosting -> positions.get(jobPosting.getId())))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.devjobs.admin.search;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 LIKE '%검색어%' 검색입니다. 부분 문자열까지 찾지만 인덱스를 사용하지 못합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.admin.search.mode", havingValue = "like", matchIfMissing = true)
+public class LikeAdminJobPostingSearch implements AdminJobPostingSearch {
+
+    private final JobPostingRepository jobPostingRepository;
+
+    @Override
+    public Page<JobPosting> search(String search, JobPostingStatus status, Pageable pageable) {
+        if (status != null) {
+            return jobPostingRepository.findBySearchAndStatus(search, status, pageable);
+        }
+        return jobPostingRepository.findBySearch(search, pageable);
+    }
+}
@@ -3,9 +3,12 @@ package com.example.devjobs.admin.service;
 import com.example.devjobs.admin.dto.CompanyUserListResponse;
 import com.example.devjobs.admin.dto.IndividualUserListResponse;
 import com.example.devjobs.admin.dto.AdminJobPostingListResponse;
+import com.example.devjobs.admin.dto.MetricResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface AdminService {
     Page<IndividualUserListResponse> getIndividualUsers(String search, Pageable pageable);
     Page<CompanyUserListResponse> getCompanyUsers(String search, Pageable pageable);
@@ -13,4 +16,5 @@ public interface AdminService {
     CompanyUserListResponse getCompanyUser(Long userId);
     Page<AdminJobPostingListResponse> getJobPostings(String search, String status, Pageable pageable);
     void deleteJobPosting(Long jobId);
+    List<MetricResponse> getMetrics(String prefix);
 }
\ No newline at end of file
@@ -3,21 +3,32 @@ package com.example.devjobs.admin.service;
 import com.example.devjobs.admin.dto.CompanyUserListResponse;
 import com.example.devjobs.admin.dto.IndividualUserListResponse;
 import com.example.devjobs.admin.dto.AdminJobPostingListResponse;
+import com.example.devjobs.admin.dto.MetricResponse;
+import com.example.devjobs.admin.search.AdminJobPostingSearch;
 import com.example.devjobs.application.repository.ApplicationRepository;
 import com.example.devjobs.jobposting.repository.JobPostingRepository;
 import com.example.devjobs.jobposting.entity.JobPosting;
 import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
+import com.example.devjobs.jobposting.search.JobPostingsChangedEvent;
+import com.example.devjobs.jobposting.service.JobPostingDetailCache;
 import com.example.devjobs.user.entity.CompanyUser;
 import com.example.devjobs.user.entity.IndividualUser;
 import com.example.devjobs.user.repository.UserRepository;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +39,10 @@ public class AdminServiceImpl implements AdminService {
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
     private final JobPostingRepository jobPostingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobPostingDetailCache jobPostingDetailCache;
+    private final AdminJobPostingSearch adminJobPostingSearch;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public Page<IndividualUserListResponse> getIndividualUsers(String search, Pageable pageable) {
@@ -39,8 +54,10 @@ public class AdminServiceImpl implements AdminService {
             users = userRepository.findAllIndividualUsers(pageable);
         }
         
+        // 페이지 전체의 지원서 수를 한 번에 조회
+        Map<Long, Long> applicationCounts = applicationRepository.countByIndividualUserIds(ids(users.getContent(), IndividualUser::getId));
         List<IndividualUserListResponse> responses = users.getContent().stream()
-                .map(this::mapToIndividualResponse)
+                .map(user -> mapToIndividualResponse(user, applicationCounts))
                 .collect(Collectors.toList());
                 
         return new PageImpl<>(responses, pageable, users.getTotalElements());
@@ -56,8 +73,10 @@ public class AdminServiceImpl implements AdminService {
             users = userRepository.findAllCompanyUsers(pageable);
         }
         
+        // 페이지 전체의 채용공고 수를 한 번에 조회
+        Map<Long, Long> jobPostingCounts = jobPostingRepository.countByCompanyUserIds(ids(users.getContent(), CompanyUser::getId));
         List<CompanyUserListResponse> responses = users.getContent().stream()
-                .map(this::mapToCompanyResponse)
+                .map(user -> mapToCompanyResponse(user, jobPostingCounts))
                 .collect(Collectors.toList());
                 
         return new PageImpl<>(responses, pageable, users.getTotalElements());
@@ -67,18 +86,18 @@ public class AdminServiceImpl implements AdminService {
     public IndividualUserListResponse getIndividualUser(Long userId) {
         IndividualUser user = userRepository.findIndividualUserById(userId)
                 .orElseThrow(() -> new RuntimeException("Individual user not found"));
-        return mapToIndividualResponse(user);
+        return mapToIndividualResponse(user, applicationRepository.countByIndividualUserIds(List.of(userId)));
     }
 
     @Override
     public CompanyUserListResponse getCompanyUser(Long userId) {
         CompanyUser user = userRepository.findCompanyUserById(userId)
                 .orElseThrow(() -> new RuntimeException("Company user not found"));
-        return mapToCompanyResponse(user);
+        return mapToCompanyResponse(user, jobPostingRepository.countByCompanyUserIds(List.of(userId)));
     }
 
-    private IndividualUserListResponse mapToIndividualResponse(IndividualUser user) {
-        int applicationCount = applicationRepository.countByIndividualUser(user);
+    private IndividualUserListResponse mapToIndividualResponse(IndividualUser user, Map<Long, Long> applicationCounts) {
+        int applicationCount = applicationCounts.getOrDefault(user.getId(), 0L).intValue();
         
         return IndividualUserListResponse.builder()
                 .userId(user.getId())
@@ -93,8 +112,8 @@ public class AdminServiceImpl implements AdminService {
                 .build();
     }
 
-    private CompanyUserListResponse mapToCompanyResponse(CompanyUser user) {
-        int jobPostingCount = jobPostingRepository.countByCompanyUser(user);
+    private CompanyUserListResponse mapToCompanyResponse(CompanyUser user, Map<Long, Long> jobPostingCounts) {
+        int jobPostingCount = jobPostingCounts.getOrDefault(user.getId(), 0L).intValue();
         
         return CompanyUserListResponse.builder()
                 .userId(user.getId())
@@ -116,11 +135,10 @@ public class AdminServiceImpl implements AdminService {
     public Page<AdminJobPostingListResponse> getJobPostings(String search, String status, Pageable pageable) {
         Page<JobPosting> jobPostings;
         
-        if (search != null && !search.trim().isEmpty() && status != null && !status.trim().isEmpty()) {
-            JobPostingStatus postingStatus = JobPostingStatus.valueOf(status);
-            jobPostings = jobPostingRepository.findBySearchAndStatus(search, postingStatus, pageable);
-        } else if (search != null && !search.trim().isEmpty()) {
-            jobPostings = jobPostingRepository.findBySearch(search, pageable);
+        if (search != null && !search.trim().isEmpty()) {
+            // 검색 방식(LIKE, FULLTEXT)은 app.admin.search.mode 설정에 따름
+            JobPostingStatus postingStatus = status != null && !status.trim().isEmpty() ? JobPostingStatus.valueOf(status) : null;
+            jobPostings = adminJobPostingSearch.search(search, postingStatus, pageable);
         } else if (status != null && !status.trim().isEmpty()) {
             JobPostingStatus postingStatus = JobPostingStatus.valueOf(status);
             jobPostings = jobPostingRepository.findByStatus(postingStatus, pageable);
@@ -128,6 +146,7 @@ public class AdminServiceImpl implements AdminService {
             jobPostings = jobPostingRepository.findAllWithCompanyUser(pageable);
         }
         
+        // 지원서 수는 채용공고의 application_count 컬럼을 사용 (별도 집계 쿼리 없음)
         List<AdminJobPostingListResponse> responses = jobPostings.getContent().stream()
                 .map(this::mapToJobPostingResponse)
                 .collect(Collectors.toList());
@@ -141,11 +160,23 @@ public class AdminServiceImpl implements AdminService {
         JobPosting jobPosting = jobPostingRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job posting not found"));
         jobPostingRepository.delete(jobPosting);
+        eventPublisher.publishEvent(JobPostingsChangedEvent.of(jobId));
+        jobPostingDetailCache.evict(jobId);
+    }
+    
+    // 애플리케이션이 기록한 미터 (캐시 적중/미스, 대기열 길이, SSE 연결 수 등). DB를 사용하지 않음
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MetricResponse> getMetrics(String prefix) {
+        return meterRegistry.getMeters().stream()
+                .filter(meter -> prefix == null || prefix.isBlank() || meter.getId().getName().startsWith(prefix))
+                .sorted(Comparator.comparing((Meter meter) -> meter.getId().getName())
+                        .thenComparing(meter -> meter.getId().getTags().toString()))
+                .map(MetricResponse::from)
+                .toList();
     }
     
     private AdminJobPostingListResponse mapToJobPostingResponse(JobPosting jobPosting) {
-        int applicationCount = applicationRepository.countByJobPosting(jobPosting);
-        
         return AdminJobPostingListResponse.builder()
                 .id(jobPosting.getId())
                 .title(jobPosting.getTitle())
@@ -158,9 +189,13 @@ public class AdminServiceImpl implements AdminService {
                 .deadline(jobPosting.getDeadline())
                 .status(jobPosting.getStatus())
                 .viewCount(0) // 조회수 필드가 없다면 0으로
-                .applicationCount(applicationCount)
+                .applicationCount(jobPosting.getApplicationCount())
                 .createdAt(jobPosting.getCreateDate())
                 .updatedAt(jobPosting.getUpdateDate())
                 .build();
     }
-}
\ No newline at end of file
+
+    private <T> List<Long> ids(List<T> entities, Function<T, Long> idGetter) {
+        return entities.stream().map(idGetter).collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.devjobs.application.controller;
 
 import com.example.devjobs.application.dto.*;
+import com.example.devjobs.application.entity.ApplicationStatus;
 import com.example.devjobs.application.service.ApplicationService;
 import com.example.devjobs.common.ApiResponse;
 import com.example.devjobs.user.service.UserDetailsImpl;
@@ -11,6 +12,10 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -74,7 +79,8 @@ public class ApplicationController {
         return ResponseEntity.ok(ApiResponse.success());
     }
 
-    @Operation(summary = "채용공고 지원자 목록 조회", description = "특정 채용공고의 지원자 목록을 조회합니다. 해당 공고를 등록한 기업만 조회 가능합니다.")
+    @Operation(summary = "채용공고 지원자 목록 조회", description = "특정 채용공고의 지원자 목록을 페이지 단위로 조회합니다. " +
+            "상태로 필터링할 수 있으며, appliedAt, status, applicantName으로 정렬할 수 있습니다. 해당 공고를 등록한 기업만 조회 가능합니다.")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음"),
@@ -83,10 +89,30 @@ public class ApplicationController {
     @SecurityRequirement(name = "JWT")
     @GetMapping("/job/{jobPostingId}")
     @PreAuthorize("hasRole('COMPANY') and @applicationServiceImpl.isJobPostingOwner(#jobPostingId, principal.userId)")
-    public ResponseEntity<ApiResponse<List<ApplicationForCompanyResponse>>> getJobApplicants(
+    public ResponseEntity<ApiResponse<Page<ApplicationForCompanyResponse>>> getJobApplicants(
             @Parameter(description = "채용공고 ID") @PathVariable("jobPostingId") Long jobPostingId,
+            @Parameter(description = "지원 상태 (미지정 시 전체)") @RequestParam(value = "status", required = false) ApplicationStatus status,
+            @Parameter(description = "페이지 정보") @PageableDefault(size = 20, sort = "appliedAt", direction = Sort.Direction.DESC) Pageable pageable,
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        List<ApplicationForCompanyResponse> response = applicationService.getJobApplicants(jobPostingId, userDetails.getUserId());
+        Page<ApplicationForCompanyResponse> response = applicationService.getJobApplicants(
+                jobPostingId, userDetails.getUserId(), status, pageable);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "지원 상태 일괄 변경", description = "여러 지원서의 상태를 한 번에 변경합니다. 모든 지원서가 본인 공고의 지원서여야 하며, " +
+            "지원자 알림은 응답 후 비동기로 전송됩니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "상태 변경 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음 (다른 회사의 지원서 또는 없는 지원서 포함)")
+    })
+    @SecurityRequirement(name = "JWT")
+    @PatchMapping("/status")
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<ApiResponse<BulkUpdateStatusResponse>> updateApplicationStatuses(
+            @RequestBody @Valid BulkUpdateStatusRequest requestDTO,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        BulkUpdateStatusResponse response = applicationService.updateApplicationStatuses(requestDTO, userDetails.getUserId());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
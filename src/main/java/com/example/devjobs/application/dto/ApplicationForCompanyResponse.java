@@ -2,6 +2,7 @@ package com.example.devjobs.application.dto;
 
 import com.example.devjobs.application.entity.Application;
 import com.example.devjobs.application.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class ApplicationForCompanyResponse {
     private Long applicationId;
     private Long applicantId;
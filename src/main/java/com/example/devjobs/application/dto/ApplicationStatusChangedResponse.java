@@ -0,0 +1,22 @@
+package com.example.devjobs.application.dto;
+
+import com.example.devjobs.application.entity.Application;
+import com.example.devjobs.application.entity.ApplicationStatus;
+
+/**
+ * 지원 상태 변경 알림(SSE)으로 지원자에게 보내는 내용입니다.
+ */
+public record ApplicationStatusChangedResponse(
+    Long applicationId,
+    Long jobPostingId,
+    String jobPostingTitle,
+    ApplicationStatus status
+) {
+    public static ApplicationStatusChangedResponse from(Application application) {
+        return new ApplicationStatusChangedResponse(
+                application.getId(),
+                application.getJobPosting().getId(),
+                application.getJobPosting().getTitle(),
+                application.getStatus());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.devjobs.application.dto;
+
+import com.example.devjobs.application.entity.ApplicationStatus;
+
+/**
+ * 일괄 상태 변경 대상 지원서의 소유권 확인과 알림에 필요한 필드만 담습니다.
+ */
+public record ApplicationStatusTarget(
+    Long applicationId,
+    Long applicantId,
+    Long jobPostingId,
+    String jobPostingTitle,
+    ApplicationStatus status
+) {}
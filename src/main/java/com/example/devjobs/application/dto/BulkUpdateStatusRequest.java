@@ -0,0 +1,15 @@
+package com.example.devjobs.application.dto;
+
+import com.example.devjobs.application.entity.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkUpdateStatusRequest(
+    @NotEmpty(message = "지원 ID 목록은 필수입니다.")
+    @Size(max = 1000, message = "한 번에 1000건까지 상태를 변경할 수 있습니다.")
+    List<Long> applicationIds,
+    @NotNull ApplicationStatus status
+) {}
@@ -0,0 +1,6 @@
+package com.example.devjobs.application.dto;
+
+public record BulkUpdateStatusResponse(
+    int requestedCount,  // 요청한 지원서 수 (중복 제외)
+    int updatedCount     // 실제로 상태가 바뀐 지원서 수 (이미 같은 상태인 지원서 제외)
+) {}
@@ -7,7 +7,13 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", uniqueConstraints = {
+        // 같은 공고에 중복 지원 방지 (동시 요청도 DB에서 막음)
+        @UniqueConstraint(name = Application.UK_JOB_POSTING_USER, columnNames = {"job_posting_id", "user_id"})
+}, indexes = {
+        // 공고별 지원자 목록 (ApplicationRepository.findApplicants)
+        @Index(name = "idx_applications_job_posting_status_submitted", columnList = "job_posting_id, status, submission_date")
+})
 @Setter
 @Getter
 @Builder
@@ -16,6 +22,8 @@ import lombok.*;
 @AttributeOverride(name = "createDate", column = @Column(name = "submission_date"))
 public class Application extends BaseEntity {
 
+    public static final String UK_JOB_POSTING_USER = "uk_applications_job_posting_user";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "application_id")
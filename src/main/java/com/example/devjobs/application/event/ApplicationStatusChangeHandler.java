@@ -0,0 +1,18 @@
+package com.example.devjobs.application.event;
+
+import java.util.List;
+
+/**
+ * 지원 상태 변경 이벤트를 묶음 단위로 처리합니다. (알림 전송, 캐시 무효화 등)
+ * {@link ApplicationStatusEventDispatcher}의 작업 스레드에서 트랜잭션 없이 호출됩니다.
+ */
+public interface ApplicationStatusChangeHandler {
+
+    void handle(List<ApplicationStatusChangedEvent> events);
+
+    /**
+     * 대기열이 가득 차 처리하지 못하고 버린 이벤트를 알립니다. 요청 스레드(커밋 직후)에서 호출됩니다.
+     */
+    default void dropped(ApplicationStatusChangedEvent event) {
+    }
+}
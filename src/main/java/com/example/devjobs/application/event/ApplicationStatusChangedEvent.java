@@ -0,0 +1,10 @@
+package com.example.devjobs.application.event;
+
+import com.example.devjobs.application.dto.ApplicationStatusChangedResponse;
+
+/**
+ * 지원 상태가 바뀌었을 때 지원자 한 명마다 발행되는 이벤트입니다.
+ * 커밋 후 {@link ApplicationStatusEventDispatcher}가 모아서 처리합니다.
+ */
+public record ApplicationStatusChangedEvent(Long applicantId, ApplicationStatusChangedResponse change) {
+}
@@ -0,0 +1,131 @@
+package com.example.devjobs.application.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 지원 상태 변경 이벤트를 커밋 후 대기열에 넣고, 전용 스레드가 batch-size개씩 모아 핸들러에 넘깁니다.
+ * 요청 스레드는 대기열에 넣기만 하므로 일괄 상태 변경이 알림 전송을 기다리지 않습니다.
+ * 대기열이 가득 차면 요청을 막지 않고 이벤트를 버리며, application.status.events{result=dropped}로 기록하고
+ * 각 핸들러의 {@link ApplicationStatusChangeHandler#dropped}를 호출합니다.
+ * (알림 핸들러는 지원자 채널에 RESYNC를 보내 클라이언트가 목록을 다시 조회하게 함)
+ * 작업 스레드는 애플리케이션 시작 시 시작하고, 종료 시 대기열에 남은 이벤트를 처리한 뒤 멈춥니다.
+ */
+@Slf4j
+@Component
+public class ApplicationStatusEventDispatcher implements SmartLifecycle {
+
+    private final List<ApplicationStatusChangeHandler> handlers;
+    private final BlockingQueue<ApplicationStatusChangedEvent> queue;
+    private final int batchSize;
+    private volatile Thread worker;
+    private final Counter dispatched;
+    private final Counter dropped;
+
+    public ApplicationStatusEventDispatcher(List<ApplicationStatusChangeHandler> handlers,
+                                            @Value("${app.application.status-events.queue-capacity:10000}") int queueCapacity,
+                                            @Value("${app.application.status-events.batch-size:100}") int batchSize,
+                                            MeterRegistry registry) {
+        this.handlers = handlers;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.dispatched = registry.counter("application.status.events", "result", "dispatched");
+        this.dropped = registry.counter("application.status.events", "result", "dropped");
+        registry.gauge("application.status.events.queue.depth", queue, BlockingQueue::size);
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트도 바로 대기열에 넣음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        if (!queue.offer(event)) {
+            dropped.increment();
+            log.warn("지원 상태 변경 이벤트 대기열이 가득 차 이벤트를 버렸습니다. applicationId={}", event.change().applicationId());
+            for (ApplicationStatusChangeHandler handler : handlers) {
+                try {
+                    handler.dropped(event);
+                } catch (RuntimeException e) {
+                    log.warn("버린 지원 상태 변경 이벤트 처리 중 오류가 발생했습니다. handler={}", handler.getClass().getSimpleName(), e);
+                }
+            }
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(this::run, "application-status-events");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (worker == null) {
+            return;
+        }
+        worker.interrupt();
+        try {
+            worker.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    // 웹 서버보다 먼저 시작하고 늦게 멈춰, 종료 중에 처리된 요청의 이벤트까지 처리
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        List<ApplicationStatusChangedEvent> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            dispatch(batch);
+        }
+        // 종료 시 대기열에 남은 이벤트까지 처리
+        while (queue.drainTo(batch, batchSize) > 0) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(List<ApplicationStatusChangedEvent> batch) {
+        List<ApplicationStatusChangedEvent> events = List.copyOf(batch);
+        batch.clear();
+        for (ApplicationStatusChangeHandler handler : handlers) {
+            try {
+                handler.handle(events);
+            } catch (RuntimeException e) {
+                log.warn("지원 상태 변경 이벤트 처리 중 오류가 발생했습니다. handler={}", handler.getClass().getSimpleName(), e);
+            }
+        }
+        dispatched.increment(events.size());
+    }
+}
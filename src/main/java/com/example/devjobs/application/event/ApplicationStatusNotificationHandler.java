@@ -0,0 +1,32 @@
+package com.example.devjobs.application.event;
+
+import com.example.devjobs.notification.service.NotificationPushService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 지원 상태 변경을 지원자에게 실시간 알림(SSE)으로 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationStatusNotificationHandler implements ApplicationStatusChangeHandler {
+
+    public static final String STATUS_EVENT = "application-status";
+
+    private final NotificationPushService notificationPushService;
+
+    @Override
+    public void handle(List<ApplicationStatusChangedEvent> events) {
+        for (ApplicationStatusChangedEvent event : events) {
+            notificationPushService.push(event.applicantId(), STATUS_EVENT, event.change());
+        }
+    }
+
+    // 보내지 못한 알림이 있으므로 지원자의 클라이언트가 목록을 다시 조회하게 함
+    @Override
+    public void dropped(ApplicationStatusChangedEvent event) {
+        notificationPushService.resync(event.applicantId());
+    }
+}
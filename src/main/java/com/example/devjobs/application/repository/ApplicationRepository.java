@@ -1,19 +1,89 @@
 package com.example.devjobs.application.repository;
 
+import com.example.devjobs.application.dto.ApplicationForCompanyResponse;
+import com.example.devjobs.application.dto.ApplicationStatusTarget;
 import com.example.devjobs.application.entity.Application;
+import com.example.devjobs.application.entity.ApplicationStatus;
+import com.example.devjobs.common.IdCount;
 import com.example.devjobs.jobposting.entity.JobPosting;
 import com.example.devjobs.user.entity.IndividualUser;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
-    Optional<Application> findByJobPostingAndIndividualUser(JobPosting jobPosting, IndividualUser individualUser);
     List<Application> findByIndividualUser(IndividualUser individualUser);
-    List<Application> findByJobPosting(JobPosting jobPosting);
     int countByIndividualUser(IndividualUser individualUser);
     int countByJobPosting(JobPosting jobPosting);
+
+    /**
+     * 일괄 상태 변경 대상 중 companyUserId가 등록한 공고의 지원서만 조회합니다.
+     * 요청한 ID 수보다 적게 조회되면 없는 지원서이거나 다른 회사의 지원서가 섞여 있는 것입니다.
+     */
+    @Query("SELECT new com.example.devjobs.application.dto.ApplicationStatusTarget(a.id, a.individualUser.id, j.id, j.title, a.status) " +
+           "FROM Application a JOIN a.jobPosting j WHERE a.id IN :ids AND j.companyUser.id = :companyUserId")
+    List<ApplicationStatusTarget> findStatusTargets(@Param("ids") Collection<Long> ids, @Param("companyUserId") Long companyUserId);
+
+    /**
+     * 현재 상태가 from인 지원서만 to로 바꿉니다. 그사이 다른 요청이 상태를 바꿨다면 바뀐 건수가 줄어듭니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :to, a.updateDate = :now WHERE a.id IN :ids AND a.status = :from")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("from") ApplicationStatus from,
+                     @Param("to") ApplicationStatus to, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Application a WHERE a.id = :id AND a.status = :status")
+    int deleteByIdAndStatus(@Param("id") Long id, @Param("status") ApplicationStatus status);
+
+    /**
+     * 소유권 확인(공고의 기업 ID)과 상태 변경 알림(공고 제목)에 채용공고가 필요하므로 지원서와 함께 조회합니다.
+     */
+    @Query("SELECT a FROM Application a JOIN FETCH a.jobPosting WHERE a.id = :id")
+    Optional<Application> findWithJobPostingById(@Param("id") Long id);
+
+    String APPLICANT_FIELDS = "a.id, u.id, u.name, u.email, a.status, a.createDate";
+
+    // 공고별 지원자 목록 (지원자 이름, 이메일을 함께 조회, (job_posting_id, status, submission_date) 인덱스 사용)
+    @Query(value = "SELECT new com.example.devjobs.application.dto.ApplicationForCompanyResponse(" + APPLICANT_FIELDS + ") " +
+                   "FROM Application a JOIN a.individualUser u WHERE a.jobPosting.id = :jobPostingId",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.jobPosting.id = :jobPostingId")
+    Page<ApplicationForCompanyResponse> findApplicants(@Param("jobPostingId") Long jobPostingId, Pageable pageable);
+
+    @Query(value = "SELECT new com.example.devjobs.application.dto.ApplicationForCompanyResponse(" + APPLICANT_FIELDS + ") " +
+                   "FROM Application a JOIN a.individualUser u WHERE a.jobPosting.id = :jobPostingId AND a.status = :status",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.jobPosting.id = :jobPostingId AND a.status = :status")
+    Page<ApplicationForCompanyResponse> findApplicantsByStatus(@Param("jobPostingId") Long jobPostingId,
+                                                               @Param("status") ApplicationStatus status,
+                                                               Pageable pageable);
+
+    /**
+     * 공고의 지원자 목록을 한 페이지씩 조회합니다. status가 null이면 모든 상태를 조회합니다.
+     * 정렬은 쿼리 별칭(a: 지원서, u: 지원자)을 사용한 JpaSort로 전달해야 합니다.
+     */
+    default Page<ApplicationForCompanyResponse> findApplicants(Long jobPostingId, ApplicationStatus status, Pageable pageable) {
+        return status == null ? findApplicants(jobPostingId, pageable) : findApplicantsByStatus(jobPostingId, status, pageable);
+    }
+
+    @Query("SELECT a.individualUser.id AS id, COUNT(a) AS count FROM Application a " +
+           "WHERE a.individualUser.id IN :userIds GROUP BY a.individualUser.id")
+    List<IdCount> countGroupByIndividualUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 개인 회원별 지원서 수를 한 번의 쿼리로 조회합니다. 지원서가 없는 회원은 결과에 포함되지 않습니다.
+     */
+    default Map<Long, Long> countByIndividualUserIds(Collection<Long> userIds) {
+        return userIds.isEmpty() ? Map.of() : IdCount.toMap(countGroupByIndividualUserIdIn(userIds));
+    }
 }
\ No newline at end of file
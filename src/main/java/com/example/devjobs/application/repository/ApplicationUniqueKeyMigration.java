@@ -0,0 +1,92 @@
+package com.example.devjobs.application.repository;
+
+import com.example.devjobs.application.entity.Application;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 중복 지원을 막는 유니크 키(uk_applications_job_posting_user)를 보장합니다.
+ * 키는 db/migration/applications-unique-job-posting-user.sql 로 기존 중복 지원을 정리한 뒤 생성하며,
+ * 마이그레이션을 끈 경우에도 키가 없으면 시작을 중단합니다.
+ * 키가 없으면 동시 지원이 모두 저장되고 "이미 지원한 공고입니다." 판단도 동작하지 않기 때문입니다.
+ * ddl-auto로 테이블이 만들어진 뒤 실행되도록 entityManagerFactory 이후에 초기화합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class ApplicationUniqueKeyMigration {
+
+    static final String MIGRATION_SCRIPT = "db/migration/applications-unique-job-posting-user.sql";
+
+    private static final String TABLE = "applications";
+    private static final Set<String> KEY_COLUMNS = Set.of("job_posting_id", "user_id");
+
+    private final DataSource dataSource;
+    private final boolean applyMigration;
+
+    public ApplicationUniqueKeyMigration(DataSource dataSource,
+                                         @Value("${app.application.unique-key.apply-migration:true}") boolean applyMigration) {
+        this.dataSource = dataSource;
+        this.applyMigration = applyMigration;
+    }
+
+    @PostConstruct
+    void applyMigration() {
+        if (applyMigration) {
+            DatabasePopulatorUtils.execute(
+                    new ResourceDatabasePopulator(new ClassPathResource(MIGRATION_SCRIPT)), dataSource);
+        }
+        if (!hasUniqueKey()) {
+            throw new IllegalStateException("applications 테이블에 (job_posting_id, user_id) 유니크 키가 없습니다. "
+                    + MIGRATION_SCRIPT + " 를 실행하세요.");
+        }
+        log.info("지원서 유니크 키({}) 확인 완료", Application.UK_JOB_POSTING_USER);
+    }
+
+    /**
+     * (job_posting_id, user_id) 두 컬럼으로만 이루어진 유니크 인덱스가 있는지 확인합니다.
+     * 이름은 DB마다 다르게 붙으므로(H2는 제약 이름 뒤에 _INDEX_x) 컬럼 구성으로 판단합니다.
+     */
+    boolean hasUniqueKey() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // 테이블 이름을 대문자로 저장하는 DB(H2)와 소문자로 저장하는 DB(MariaDB)를 모두 확인
+            for (String table : Set.of(TABLE, TABLE.toUpperCase(Locale.ROOT))) {
+                Map<String, Set<String>> uniqueIndexes = new HashMap<>();
+                try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+                    while (rs.next()) {
+                        String index = rs.getString("INDEX_NAME");
+                        String column = rs.getString("COLUMN_NAME");
+                        if (index != null && column != null) {
+                            uniqueIndexes.computeIfAbsent(index, key -> new HashSet<>())
+                                    .add(column.toLowerCase(Locale.ROOT));
+                        }
+                    }
+                }
+                if (uniqueIndexes.containsValue(KEY_COLUMNS)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new IllegalStateException("applications 테이블의 인덱스를 확인하지 못했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.devjobs.application.service;
+
+import com.example.devjobs.application.entity.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 채용공고의 지원서 수(job_postings.application_count, 상태별 *_count)를 상대 UPDATE로 증감합니다.
+ * 지원서 변경과 같은 트랜잭션에서, 지원서 행보다 먼저 호출하여 공고 행 잠금을 먼저 잡습니다.
+ * (지원서 INSERT의 외래키 확인이 공고 행에 공유 잠금을 걸기 때문에, 나중에 공고 행을 UPDATE하면 동시 지원끼리 교착될 수 있음)
+ * 감소는 0 아래로 내려가지 않게 하고, 어긋난 값은 reconcileApplicationCountsJob이 보정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationCounter {
+
+    static final Map<ApplicationStatus, String> STATUS_COLUMNS = new EnumMap<>(Map.of(
+            ApplicationStatus.APPLIED, "applied_count",
+            ApplicationStatus.PASSED, "passed_count",
+            ApplicationStatus.INTERVIEW, "interview_count",
+            ApplicationStatus.ACCEPTED, "accepted_count",
+            ApplicationStatus.REJECTED, "rejected_count"
+    ));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void added(Long jobPostingId, ApplicationStatus status) {
+        String column = STATUS_COLUMNS.get(status);
+        jdbcTemplate.update("UPDATE job_postings SET application_count = application_count + 1, " +
+                column + " = " + column + " + 1 WHERE job_posting_id = ?", jobPostingId);
+    }
+
+    public void removed(Long jobPostingId, ApplicationStatus status) {
+        String column = STATUS_COLUMNS.get(status);
+        jdbcTemplate.update("UPDATE job_postings SET application_count = GREATEST(application_count - 1, 0), " +
+                column + " = GREATEST(" + column + " - 1, 0) WHERE job_posting_id = ?", jobPostingId);
+    }
+
+    /**
+     * 공고의 지원서 count건이 from 상태에서 to 상태로 바뀌었음을 반영합니다.
+     */
+    public void moved(Long jobPostingId, ApplicationStatus from, ApplicationStatus to, int count) {
+        String fromColumn = STATUS_COLUMNS.get(from);
+        String toColumn = STATUS_COLUMNS.get(to);
+        jdbcTemplate.update("UPDATE job_postings SET " + fromColumn + " = GREATEST(" + fromColumn + " - ?, 0), " +
+                toColumn + " = " + toColumn + " + ? WHERE job_posting_id = ?", count, count, jobPostingId);
+    }
+}
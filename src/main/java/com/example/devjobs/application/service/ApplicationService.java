@@ -1,6 +1,9 @@
 package com.example.devjobs.application.service;
 
 import com.example.devjobs.application.dto.*;
+import com.example.devjobs.application.entity.ApplicationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -11,10 +14,12 @@ public interface ApplicationService {
 
     List<ApplicationForIndividualResponse> getMyApplications(Long userId);
 
-    List<ApplicationForCompanyResponse> getJobApplicants(Long jobPostingId, Long companyId);
+    Page<ApplicationForCompanyResponse> getJobApplicants(Long jobPostingId, Long companyId, ApplicationStatus status, Pageable pageable);
 
     void updateApplicationStatus(Long applicationId, UpdateStatusRequestDTO requestDTO, Long companyId);
 
+    BulkUpdateStatusResponse updateApplicationStatuses(BulkUpdateStatusRequest requestDTO, Long companyId);
+
     // @PreAuthorize를 위한 메소드
     boolean isApplicationOwner(Long applicationId, Long userId);
     boolean isJobPostingOwner(Long jobPostingId, Long companyId);
@@ -4,29 +4,63 @@ import com.example.devjobs.application.dto.ApplicationForCompanyResponse;
 import com.example.devjobs.application.dto.ApplicationForIndividualResponse;
 import com.example.devjobs.application.dto.ApplicationRequestDTO;
 import com.example.devjobs.application.dto.ApplicationResponseDTO;
+import com.example.devjobs.application.dto.ApplicationStatusChangedResponse;
+import com.example.devjobs.application.dto.ApplicationStatusTarget;
+import com.example.devjobs.application.dto.BulkUpdateStatusRequest;
+import com.example.devjobs.application.dto.BulkUpdateStatusResponse;
 import com.example.devjobs.application.dto.UpdateStatusRequestDTO;
 import com.example.devjobs.application.entity.Application;
 import com.example.devjobs.application.entity.ApplicationStatus;
+import com.example.devjobs.application.event.ApplicationStatusChangedEvent;
 import com.example.devjobs.application.repository.ApplicationRepository;
+import com.example.devjobs.common.RequestMemo;
 import com.example.devjobs.jobposting.entity.JobPosting;
 import com.example.devjobs.jobposting.repository.JobPostingRepository;
 import com.example.devjobs.user.entity.IndividualUser;
 import com.example.devjobs.user.repository.IndividualUserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service("applicationServiceImpl") // @PreAuthorize에서 사용할 Bean 이름 설정
 @RequiredArgsConstructor
 public class ApplicationServiceImpl implements ApplicationService {
 
+    // 지원자 목록에서 허용하는 정렬 필드 (요청 필드명 -> 쿼리 식)
+    private static final Map<String, String> APPLICANT_SORT_EXPRESSIONS = Map.of(
+            "appliedAt", "a.createDate",
+            "status", "a.status",
+            "applicantName", "u.name"
+    );
+
+    private static final String CONFLICT_MESSAGE = "지원 상태가 변경되었습니다. 다시 시도해주세요.";
+
     private final ApplicationRepository applicationRepository;
     private final JobPostingRepository jobPostingRepository;
     private final IndividualUserRepository individualUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationCounter applicationCounter;
 
     @Override
     @Transactional
@@ -37,27 +71,38 @@ public class ApplicationServiceImpl implements ApplicationService {
         JobPosting jobPosting = jobPostingRepository.findById(requestDTO.jobPostingId())
                 .orElseThrow(() -> new EntityNotFoundException("채용 공고를 찾을 수 없습니다."));
 
-        if (applicationRepository.findByJobPostingAndIndividualUser(jobPosting, individualUser).isPresent()) {
-            throw new IllegalArgumentException("이미 지원한 공고입니다.");
-        }
-
         Application application = Application.builder()
                 .jobPosting(jobPosting)
                 .individualUser(individualUser)
                 .status(ApplicationStatus.APPLIED)
                 .build();
 
-        Application savedApplication = applicationRepository.save(application);
+        // 공고 행 잠금을 먼저 잡도록 지원서 수를 먼저 증가 (중복 지원이면 아래에서 함께 롤백)
+        applicationCounter.added(jobPosting.getId(), ApplicationStatus.APPLIED);
+        // 먼저 조회하지 않고 바로 INSERT하여, 동시 요청의 중복 지원도 유니크 제약(uk_applications_job_posting_user)으로 막음
+        Application savedApplication;
+        try {
+            savedApplication = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateApplication(e)) {
+                throw new IllegalArgumentException("이미 지원한 공고입니다.");
+            }
+            throw e;
+        }
         return ApplicationResponseDTO.fromEntity(savedApplication);
     }
 
     @Override
     @Transactional
     public void deleteApplication(Long applicationId, Long userId) {
-        Application application = applicationRepository.findById(applicationId)
+        Application application = findApplication(applicationId)
                 .orElseThrow(() -> new EntityNotFoundException("지원 내역을 찾을 수 없습니다."));
         // 인가 확인은 이제 컨트롤러의 @PreAuthorize에서 처리됩니다.
-        applicationRepository.delete(application);
+        applicationCounter.removed(application.getJobPosting().getId(), application.getStatus());
+        // 조회한 상태 그대로일 때만 삭제 (동시에 삭제/상태 변경되었다면 지원서 수 변경까지 롤백)
+        if (applicationRepository.deleteByIdAndStatus(applicationId, application.getStatus()) == 0) {
+            throw new IllegalArgumentException(CONFLICT_MESSAGE);
+        }
     }
 
     @Override
@@ -72,29 +117,116 @@ public class ApplicationServiceImpl implements ApplicationService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ApplicationForCompanyResponse> getJobApplicants(Long jobPostingId, Long companyId) {
-        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
-                .orElseThrow(() -> new EntityNotFoundException("채용 공고를 찾을 수 없습니다."));
+    public Page<ApplicationForCompanyResponse> getJobApplicants(Long jobPostingId, Long companyId,
+                                                                ApplicationStatus status, Pageable pageable) {
+        // 같은 요청의 @PreAuthorize에서 소유권을 확인했다면 공고가 존재하므로 다시 조회하지 않음
+        if (!RequestMemo.contains(jobPostingOwnerKey(jobPostingId, companyId), true)
+                && !jobPostingRepository.existsById(jobPostingId)) {
+            throw new EntityNotFoundException("채용 공고를 찾을 수 없습니다.");
+        }
         // 인가 확인은 이제 컨트롤러의 @PreAuthorize에서 처리됩니다.
-        return applicationRepository.findByJobPosting(jobPosting).stream()
-                .map(ApplicationForCompanyResponse::fromEntity)
-                .collect(Collectors.toList());
+        Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), applicantSort(pageable.getSort()));
+        return applicationRepository.findApplicants(jobPostingId, status, sorted);
+    }
+
+    // 무결성 위반 중 중복 지원 유니크 키(uk_applications_job_posting_user) 위반만 골라냄 (NOT NULL, FK 등은 그대로 던짐)
+    private static boolean isDuplicateApplication(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Application.UK_JOB_POSTING_USER);
+            }
+        }
+        return false;
+    }
+
+    // 허용된 정렬 필드만 쿼리 별칭으로 변환하고, 같은 값끼리는 지원서 ID로 순서를 고정
+    private Sort applicantSort(Sort requested) {
+        Sort sort = Sort.unsorted();
+        for (Sort.Order order : requested) {
+            String expression = APPLICANT_SORT_EXPRESSIONS.get(order.getProperty());
+            if (expression != null) {
+                sort = sort.and(JpaSort.unsafe(order.getDirection(), expression));
+            }
+        }
+        if (sort.isEmpty()) {
+            // 기본 정렬: 최근 지원순
+            sort = JpaSort.unsafe(Sort.Direction.DESC, "a.createDate");
+        }
+        return sort.and(JpaSort.unsafe(Sort.Direction.DESC, "a.id"));
     }
 
     @Override
     @Transactional
     public void updateApplicationStatus(Long applicationId, UpdateStatusRequestDTO requestDTO, Long companyId) {
-        Application application = applicationRepository.findById(applicationId)
+        Application application = findApplication(applicationId)
                 .orElseThrow(() -> new EntityNotFoundException("지원 내역을 찾을 수 없습니다."));
         // 인가 확인은 이제 컨트롤러의 @PreAuthorize에서 처리됩니다.
-        application.setStatus(requestDTO.status());
-        applicationRepository.save(application);
+        ApplicationStatus from = application.getStatus();
+        ApplicationStatus to = requestDTO.status();
+        if (from == to) {
+            return;
+        }
+
+        JobPosting jobPosting = application.getJobPosting();
+        applicationCounter.moved(jobPosting.getId(), from, to, 1);
+        if (applicationRepository.updateStatus(List.of(applicationId), from, to, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException(CONFLICT_MESSAGE);
+        }
+        // 지원자 알림 등은 커밋 후 ApplicationStatusEventDispatcher가 비동기로 처리
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(application.getIndividualUser().getId(),
+                new ApplicationStatusChangedResponse(applicationId, jobPosting.getId(), jobPosting.getTitle(), to)));
+    }
+
+    @Override
+    @Transactional
+    public BulkUpdateStatusResponse updateApplicationStatuses(BulkUpdateStatusRequest requestDTO, Long companyId) {
+        Set<Long> ids = new LinkedHashSet<>(requestDTO.applicationIds());
+        // 소유권 확인과 알림에 필요한 정보를 한 번에 조회
+        List<ApplicationStatusTarget> targets = applicationRepository.findStatusTargets(ids, companyId);
+        if (targets.size() != ids.size()) {
+            throw new AccessDeniedException("본인 공고의 지원서만 상태를 변경할 수 있습니다.");
+        }
+
+        ApplicationStatus status = requestDTO.status();
+        List<ApplicationStatusTarget> changed = targets.stream()
+                .filter(target -> target.status() != status)
+                .toList();
+        if (changed.isEmpty()) {
+            return new BulkUpdateStatusResponse(ids.size(), 0);
+        }
+
+        // 지원서 수를 공고 ID 순서로 먼저 옮겨 공고 행 잠금 순서를 고정
+        changed.stream()
+                .collect(Collectors.groupingBy(ApplicationStatusTarget::jobPostingId, TreeMap::new,
+                        Collectors.groupingBy(ApplicationStatusTarget::status, () -> new EnumMap<>(ApplicationStatus.class),
+                                Collectors.counting())))
+                .forEach((jobPostingId, counts) -> counts.forEach((from, count) ->
+                        applicationCounter.moved(jobPostingId, from, status, count.intValue())));
+
+        // 이전 상태별로 한 번씩 UPDATE (조회 후 다른 요청이 상태를 바꿨다면 전체 롤백)
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (Map.Entry<ApplicationStatus, List<Long>> entry : changed.stream()
+                .collect(Collectors.groupingBy(ApplicationStatusTarget::status,
+                        Collectors.mapping(ApplicationStatusTarget::applicationId, Collectors.toList())))
+                .entrySet()) {
+            updated += applicationRepository.updateStatus(entry.getValue(), entry.getKey(), status, now);
+        }
+        if (updated != changed.size()) {
+            throw new IllegalArgumentException(CONFLICT_MESSAGE);
+        }
+        for (ApplicationStatusTarget target : changed) {
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(target.applicantId(),
+                    new ApplicationStatusChangedResponse(target.applicationId(), target.jobPostingId(),
+                            target.jobPostingTitle(), status)));
+        }
+        return new BulkUpdateStatusResponse(ids.size(), updated);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean isApplicationOwner(Long applicationId, Long userId) {
-        return applicationRepository.findById(applicationId)
+        return findApplication(applicationId)
                 .map(application -> application.getIndividualUser().getId().equals(userId))
                 .orElse(false);
     }
@@ -102,16 +234,29 @@ public class ApplicationServiceImpl implements ApplicationService {
     @Override
     @Transactional(readOnly = true)
     public boolean isJobPostingOwner(Long jobPostingId, Long companyId) {
-        return jobPostingRepository.findById(jobPostingId)
-                .map(jobPosting -> jobPosting.getCompanyUser().getId().equals(companyId))
-                .orElse(false);
+        return RequestMemo.computeIfAbsent(jobPostingOwnerKey(jobPostingId, companyId),
+                () -> jobPostingRepository.existsByIdAndCompanyUserId(jobPostingId, companyId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean isJobPostingOwnerByApplication(Long applicationId, Long companyId) {
-        return applicationRepository.findById(applicationId)
+        return findApplication(applicationId)
                 .map(application -> application.getJobPosting().getCompanyUser().getId().equals(companyId))
                 .orElse(false);
     }
+
+    /**
+     * 지원서를 채용공고와 함께 조회합니다. 같은 요청에서는 @PreAuthorize의 소유권 확인이 조회한 엔티티를
+     * 서비스 로직(삭제, 상태 변경)이 그대로 사용하므로 지원서를 다시 조회하지 않습니다.
+     * 확인 이후 다른 요청이 상태를 바꿨다면 상태 조건부 UPDATE/DELETE가 0건이 되어 충돌로 처리됩니다.
+     */
+    private Optional<Application> findApplication(Long applicationId) {
+        return RequestMemo.computeIfAbsent("application:" + applicationId,
+                () -> applicationRepository.findWithJobPostingById(applicationId));
+    }
+
+    private String jobPostingOwnerKey(Long jobPostingId, Long companyId) {
+        return "jobPostingOwner:" + jobPostingId + ":" + companyId;
+    }
 }
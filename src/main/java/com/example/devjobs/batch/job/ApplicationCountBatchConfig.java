@@ -0,0 +1,52 @@
+package com.example.devjobs.batch.job;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 채용공고의 지원서 수 컬럼을 실제 지원서와 맞추는 보정 배치입니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ApplicationCountBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 한 트랜잭션에서 비교할 공고 ID 구간 크기
+    @Value("${app.batch.reconcile-application-counts.range-size:1000}")
+    private int rangeSize;
+
+    @Bean
+    public Job reconcileApplicationCountsJob() {
+        return new JobBuilder("reconcileApplicationCountsJob", jobRepository)
+                .start(reconcileApplicationCountsStep())
+                .build();
+    }
+
+    @Bean
+    public Step reconcileApplicationCountsStep() {
+        return new StepBuilder("reconcileApplicationCountsStep", jobRepository)
+                .tasklet(reconcileApplicationCountsTasklet(), transactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ReconcileApplicationCountsTasklet reconcileApplicationCountsTasklet() {
+        return new ReconcileApplicationCountsTasklet(jdbcTemplate, namedParameterJdbcTemplate, rangeSize);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.devjobs.batch.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마감일이 지난 활성 공고를 리더/라이터 없이 batchSize개씩 UPDATE 문으로 마감하는 태스크릿입니다.
+ * execute() 한 번이 한 트랜잭션이며, 더 이상 마감된 행이 없을 때까지 반복합니다.
+ * 마감한 건수는 StepExecution의 writeCount와 실행 컨텍스트(closedCount)에 기록하고,
+ * 마감한 ID는 {@link JobPostingsClosedEvent}로 발행하여 캐시를 무효화합니다.
+ */
+@Slf4j
+public class BulkCloseExpiredJobPostingsTasklet implements Tasklet {
+
+    static final String CLOSED_COUNT = "closedCount";
+
+    // MariaDB에는 UPDATE ... RETURNING이 없으므로 마감할 ID를 잠금과 함께 먼저 조회
+    private static final String SELECT_SQL =
+            "SELECT job_posting_id FROM job_postings WHERE deadline < ? AND status = 'ACTIVE' " +
+            "ORDER BY job_posting_id LIMIT ? FOR UPDATE";
+
+    private static final String CLOSE_SQL =
+            "UPDATE job_postings SET status = 'CLOSED', update_date = :now " +
+            "WHERE job_posting_id IN (:ids) AND deadline < :today AND status = 'ACTIVE'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LocalDate today;
+    private final int batchSize;
+
+    public BulkCloseExpiredJobPostingsTasklet(JdbcTemplate jdbcTemplate,
+                                              NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                              ApplicationEventPublisher eventPublisher,
+                                              LocalDate today, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.today = today;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_SQL, Long.class, today, batchSize);
+        int closed = ids.isEmpty() ? 0 : namedParameterJdbcTemplate.update(CLOSE_SQL, new MapSqlParameterSource()
+                .addValue("now", LocalDateTime.now())
+                .addValue("today", today)
+                .addValue("ids", ids));
+        if (closed == 0) {
+            return RepeatStatus.FINISHED;
+        }
+
+        contribution.incrementWriteCount(closed);
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        context.putLong(CLOSED_COUNT, context.getLong(CLOSED_COUNT, 0L) + closed);
+        eventPublisher.publishEvent(new JobPostingsClosedEvent(ids));
+        log.info("총 {}개의 채용공고를 마감 처리했습니다.", closed);
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.devjobs.batch.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 청크 단위로 한 번의 UPDATE ... IN (...)으로 마감 처리하는 라이터입니다 (엔티티 로딩, 변경 감지 없음).
+ * 리더가 읽은 뒤 다른 요청이 먼저 상태를 바꾼 공고는 UPDATE 조건(status = 'ACTIVE')에서 빠지므로,
+ * 아직 활성인 ID를 잠금과 함께 다시 조회해 그 공고만 마감하고 {@link JobPostingsClosedEvent}로 발행합니다.
+ */
+@Slf4j
+public class CloseJobPostingsWriter implements ItemWriter<Long> {
+
+    // MariaDB에는 UPDATE ... RETURNING이 없으므로 실제로 마감할 ID를 잠금과 함께 먼저 조회
+    private static final String SELECT_SQL =
+            "SELECT job_posting_id FROM job_postings WHERE job_posting_id IN (:ids) AND status = 'ACTIVE' FOR UPDATE";
+
+    private static final String CLOSE_SQL =
+            "UPDATE job_postings SET status = 'CLOSED', update_date = :now " +
+            "WHERE job_posting_id IN (:ids) AND status = 'ACTIVE'";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CloseJobPostingsWriter(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void write(Chunk<? extends Long> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Long> ids = namedParameterJdbcTemplate.queryForList(SELECT_SQL,
+                new MapSqlParameterSource("ids", chunk.getItems()), Long.class);
+        if (ids.isEmpty()) {
+            return;
+        }
+        int closed = namedParameterJdbcTemplate.update(CLOSE_SQL, new MapSqlParameterSource()
+                .addValue("now", LocalDateTime.now())
+                .addValue("ids", ids));
+        eventPublisher.publishEvent(new JobPostingsClosedEvent(ids));
+        log.info("총 {}개의 채용공고를 마감 처리했습니다.", closed);
+    }
+}
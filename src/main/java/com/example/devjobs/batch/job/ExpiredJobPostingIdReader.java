@@ -0,0 +1,70 @@
+package com.example.devjobs.batch.job;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 마감일이 지난 활성 공고의 ID를 ID 순서대로 읽는 키셋(keyset) 리더입니다.
+ * 페이지 번호(OFFSET) 대신 마지막으로 읽은 ID 이후를 조회하므로, 앞서 읽은 공고가 마감되어
+ * 조회 결과에서 빠져도 다음 페이지가 밀리지 않습니다. 파티션마다 [minId, maxId] 범위만 읽습니다.
+ */
+public class ExpiredJobPostingIdReader implements ItemStreamReader<Long> {
+
+    private static final String LAST_ID_KEY = "expiredJobPostingIdReader.lastId";
+
+    private static final String PAGE_SQL =
+            "SELECT job_posting_id FROM job_postings " +
+            "WHERE job_posting_id > ? AND job_posting_id <= ? AND deadline < ? AND status = 'ACTIVE' " +
+            "ORDER BY job_posting_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDate today;
+    private final long minId;
+    private final long maxId;
+    private final int pageSize;
+    private final Deque<Long> page = new ArrayDeque<>();
+    private long lastFetchedId;
+    private long lastReadId;
+
+    public ExpiredJobPostingIdReader(JdbcTemplate jdbcTemplate, LocalDate today, long minId, long maxId, int pageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.today = today;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        // 재시작 시 마지막으로 커밋된 위치부터 이어서 읽음
+        lastReadId = executionContext.containsKey(LAST_ID_KEY) ? executionContext.getLong(LAST_ID_KEY) : minId - 1;
+        lastFetchedId = lastReadId;
+        page.clear();
+    }
+
+    @Override
+    public Long read() {
+        if (page.isEmpty()) {
+            List<Long> ids = jdbcTemplate.queryForList(PAGE_SQL, Long.class, lastFetchedId, maxId, today, pageSize);
+            if (ids.isEmpty()) {
+                return null;
+            }
+            page.addAll(ids);
+            lastFetchedId = ids.get(ids.size() - 1);
+        }
+        lastReadId = page.poll();
+        return lastReadId;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(LAST_ID_KEY, lastReadId);
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.devjobs.batch.job;
 
-import com.example.devjobs.jobposting.entity.JobPosting;
-import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -11,29 +9,37 @@ import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import jakarta.persistence.EntityManagerFactory;
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class JobPostingBatchConfig {
     
-    private final EntityManagerFactory entityManagerFactory;
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
     
-    private static final int CHUNK_SIZE = 100;
+    private static final int CHUNK_SIZE = 500;
+
+    // 마감 대상 ID 범위를 나눠 동시에 처리할 스레드(파티션) 수
+    @Value("${app.batch.close-expired.threads:4}")
+    private int threads;
+
+    // 일괄 마감 모드에서 UPDATE 한 번에 마감할 최대 건수
+    @Value("${app.batch.close-expired.bulk-size:1000}")
+    private int bulkSize;
     
     @Bean
     public Job closeExpiredJobPostingsJob() {
@@ -42,50 +48,65 @@ public class JobPostingBatchConfig {
                 .build();
     }
     
+    /**
+     * 파티션/청크 없이 UPDATE 반복만으로 마감하는 일괄 마감 잡입니다. 스케줄러에서 모드로 선택합니다.
+     */
+    @Bean
+    public Job bulkCloseExpiredJobPostingsJob() {
+        return new JobBuilder("bulkCloseExpiredJobPostingsJob", jobRepository)
+                .start(bulkCloseExpiredJobPostingsStep())
+                .build();
+    }
+
+    @Bean
+    public Step bulkCloseExpiredJobPostingsStep() {
+        return new StepBuilder("bulkCloseExpiredJobPostingsStep", jobRepository)
+                .tasklet(bulkCloseExpiredJobPostingsTasklet(), transactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public BulkCloseExpiredJobPostingsTasklet bulkCloseExpiredJobPostingsTasklet() {
+        return new BulkCloseExpiredJobPostingsTasklet(
+                jdbcTemplate, namedParameterJdbcTemplate, eventPublisher, LocalDate.now(), bulkSize);
+    }
+
     @Bean
     @JobScope
     public Step closeExpiredJobPostingsStep() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("close-expired-");
+        taskExecutor.setConcurrencyLimit(threads);
         return new StepBuilder("closeExpiredJobPostingsStep", jobRepository)
-                .<JobPosting, JobPosting>chunk(CHUNK_SIZE, transactionManager)
-                .reader(expiredJobPostingReader())
-                .processor(jobPostingStatusProcessor())
-                .writer(jobPostingWriter())
+                .partitioner("closeExpiredJobPostingsWorkerStep",
+                        new JobPostingIdRangePartitioner(jdbcTemplate, LocalDate.now()))
+                .step(closeExpiredJobPostingsWorkerStep())
+                .gridSize(threads)
+                .taskExecutor(taskExecutor)
                 .build();
     }
-    
+
     @Bean
-    @StepScope
-    public JpaPagingItemReader<JobPosting> expiredJobPostingReader() {
-        Map<String, Object> parameters = new HashMap<>();
-        parameters.put("today", LocalDate.now());
-        parameters.put("activeStatus", JobPostingStatus.ACTIVE);
-        
-        return new JpaPagingItemReaderBuilder<JobPosting>()
-                .name("expiredJobPostingReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT j FROM JobPosting j " +
-                           "WHERE j.deadline < :today " +
-                           "AND j.status = :activeStatus")
-                .parameterValues(parameters)
-                .pageSize(CHUNK_SIZE)
+    public Step closeExpiredJobPostingsWorkerStep() {
+        return new StepBuilder("closeExpiredJobPostingsWorkerStep", jobRepository)
+                .<Long, Long>chunk(CHUNK_SIZE, transactionManager)
+                .reader(expiredJobPostingReader(null, null, null))
+                .writer(jobPostingWriter())
                 .build();
     }
     
     @Bean
     @StepScope
-    public ItemProcessor<JobPosting, JobPosting> jobPostingStatusProcessor() {
-        return jobPosting -> {
-            log.info("마감 처리 중: {} (ID: {})", jobPosting.getTitle(), jobPosting.getId());
-            jobPosting.close();
-            return jobPosting;
-        };
+    public ExpiredJobPostingIdReader expiredJobPostingReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId,
+            @Value("#{stepExecutionContext['today']}") String today) {
+        return new ExpiredJobPostingIdReader(jdbcTemplate, LocalDate.parse(today), minId, maxId, CHUNK_SIZE);
     }
     
     @Bean
     @StepScope
-    public ItemWriter<JobPosting> jobPostingWriter() {
-        return items -> {
-            log.info("총 {}개의 채용공고를 마감 처리했습니다.", items.size());
-        };
+    public CloseJobPostingsWriter jobPostingWriter() {
+        return new CloseJobPostingsWriter(namedParameterJdbcTemplate, eventPublisher);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.example.devjobs.batch.job;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 마감 대상 공고의 ID 범위(최소~최대)를 gridSize개의 구간으로 나눕니다.
+ * 모든 파티션이 같은 기준일(today)을 사용하도록 실행 컨텍스트에 함께 담습니다.
+ */
+@RequiredArgsConstructor
+public class JobPostingIdRangePartitioner implements Partitioner {
+
+    static final String MIN_ID = "minId";
+    static final String MAX_ID = "maxId";
+    static final String TODAY = "today";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDate today;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(
+                "SELECT MIN(job_posting_id) AS min_id, MAX(job_posting_id) AS max_id FROM job_postings " +
+                "WHERE deadline < ? AND status = 'ACTIVE'", today);
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (range.get("min_id") == null) {
+            return partitions;
+        }
+
+        long min = ((Number) range.get("min_id")).longValue();
+        long max = ((Number) range.get("max_id")).longValue();
+        long size = (max - min) / gridSize + 1;
+        int number = 0;
+        for (long start = min; start <= max; start += size) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, start);
+            context.putLong(MAX_ID, Math.min(start + size - 1, max));
+            context.putString(TODAY, today.toString());
+            partitions.put("partition" + number++, context);
+        }
+        return partitions;
+    }
+}
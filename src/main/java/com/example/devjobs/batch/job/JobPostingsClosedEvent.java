@@ -0,0 +1,9 @@
+package com.example.devjobs.batch.job;
+
+import java.util.List;
+
+/**
+ * 배치가 채용공고를 마감 처리했을 때 발행되는 이벤트입니다. 마감된 공고 ID 목록을 담습니다.
+ */
+public record JobPostingsClosedEvent(List<Long> jobPostingIds) {
+}
@@ -0,0 +1,28 @@
+package com.example.devjobs.batch.job;
+
+import com.example.devjobs.jobposting.search.JobPostingSearchEngine;
+import com.example.devjobs.jobposting.service.JobPostingDetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 마감된 채용공고를 검색 색인과 상세 캐시에서 제거합니다.
+ * 마감 처리가 커밋된 뒤에 제거하므로, 롤백되거나 커밋 전에 다시 읽힌 공고가 색인에서 빠지지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobPostingsClosedListener {
+
+    private final JobPostingSearchEngine jobPostingSearchEngine;
+    private final JobPostingDetailCache jobPostingDetailCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClosed(JobPostingsClosedEvent event) {
+        event.jobPostingIds().forEach(id -> {
+            jobPostingSearchEngine.remove(id);
+            jobPostingDetailCache.evict(id);
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.devjobs.batch.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 채용공고의 지원서 수 컬럼(application_count, 상태별 *_count)을 실제 지원서 집계와 비교하여 어긋난 공고만 다시 계산합니다.
+ * execute() 한 번이 공고 ID rangeSize개 구간 하나를 처리하는 한 트랜잭션이며, 마지막 구간까지 반복합니다.
+ * 보정한 공고 수는 StepExecution의 writeCount와 실행 컨텍스트(repairedCount)에 기록합니다.
+ */
+@Slf4j
+public class ReconcileApplicationCountsTasklet implements Tasklet {
+
+    static final String REPAIRED_COUNT = "repairedCount";
+    private static final String LAST_ID = "lastId";
+
+    // 구간 안에서 저장된 값과 집계 값이 다른 공고만 조회
+    private static final String DRIFTED_SQL =
+            "SELECT jp.job_posting_id FROM job_postings jp LEFT JOIN (" +
+            "  SELECT job_posting_id, COUNT(*) AS total," +
+            "    SUM(CASE WHEN status = 'APPLIED' THEN 1 ELSE 0 END) AS applied," +
+            "    SUM(CASE WHEN status = 'PASSED' THEN 1 ELSE 0 END) AS passed," +
+            "    SUM(CASE WHEN status = 'INTERVIEW' THEN 1 ELSE 0 END) AS interview," +
+            "    SUM(CASE WHEN status = 'ACCEPTED' THEN 1 ELSE 0 END) AS accepted," +
+            "    SUM(CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END) AS rejected" +
+            "  FROM applications WHERE job_posting_id > ? AND job_posting_id <= ? GROUP BY job_posting_id" +
+            ") c ON c.job_posting_id = jp.job_posting_id " +
+            "WHERE jp.job_posting_id > ? AND jp.job_posting_id <= ? AND (" +
+            "  jp.application_count <> COALESCE(c.total, 0) OR jp.applied_count <> COALESCE(c.applied, 0)" +
+            "  OR jp.passed_count <> COALESCE(c.passed, 0) OR jp.interview_count <> COALESCE(c.interview, 0)" +
+            "  OR jp.accepted_count <> COALESCE(c.accepted, 0) OR jp.rejected_count <> COALESCE(c.rejected, 0))";
+
+    // 어긋난 공고만 UPDATE 시점의 지원서로 다시 계산 (조회 후 바뀐 값도 반영)
+    private static final String REPAIR_SQL =
+            "UPDATE job_postings SET " +
+            "application_count = (SELECT COUNT(*) FROM applications a WHERE a.job_posting_id = job_postings.job_posting_id), " +
+            statusCount("applied_count", "APPLIED") + ", " +
+            statusCount("passed_count", "PASSED") + ", " +
+            statusCount("interview_count", "INTERVIEW") + ", " +
+            statusCount("accepted_count", "ACCEPTED") + ", " +
+            statusCount("rejected_count", "REJECTED") + " " +
+            "WHERE job_posting_id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final int rangeSize;
+
+    public ReconcileApplicationCountsTasklet(JdbcTemplate jdbcTemplate,
+                                             NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                             int rangeSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.rangeSize = rangeSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        long from = context.getLong(LAST_ID, 0L);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(job_posting_id) FROM job_postings", Long.class);
+        if (maxId == null || from >= maxId) {
+            return RepeatStatus.FINISHED;
+        }
+
+        long to = from + rangeSize;
+        List<Long> drifted = jdbcTemplate.queryForList(DRIFTED_SQL, Long.class, from, to, from, to);
+        if (!drifted.isEmpty()) {
+            namedParameterJdbcTemplate.update(REPAIR_SQL, new MapSqlParameterSource("ids", drifted));
+            contribution.incrementWriteCount(drifted.size());
+            context.putLong(REPAIRED_COUNT, context.getLong(REPAIRED_COUNT, 0L) + drifted.size());
+            log.warn("지원서 수가 어긋난 채용공고 {}개를 보정했습니다. {}", drifted.size(), drifted);
+        }
+        context.putLong(LAST_ID, to);
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    private static String statusCount(String column, String status) {
+        return column + " = (SELECT COUNT(*) FROM applications a WHERE a.job_posting_id = job_postings.job_posting_id " +
+                "AND a.status = '" + status + "')";
+    }
+}
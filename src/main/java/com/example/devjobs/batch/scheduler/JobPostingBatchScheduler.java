@@ -3,13 +3,19 @@ package com.example.devjobs.batch.scheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Slf4j
@@ -20,25 +26,65 @@ public class JobPostingBatchScheduler {
     
     private final JobLauncher jobLauncher;
     private final Job closeExpiredJobPostingsJob;
+    private final Job bulkCloseExpiredJobPostingsJob;
+    private final Job reconcileApplicationCountsJob;
+    private final JdbcTemplate jdbcTemplate;
+
+    // partitioned: ID 범위 파티션 + 청크 처리, bulk: UPDATE 반복(태스크릿)
+    @Value("${app.batch.close-expired.mode:partitioned}")
+    private String mode;
     
     // 매일 자정에 실행
     @Scheduled(cron = "0 0 0 * * *")
     public void runCloseExpiredJobPostings() {
         try {
-            log.info("마감된 채용공고 처리 배치 시작: {}", LocalDateTime.now());
+            Job job = "bulk".equalsIgnoreCase(mode) ? bulkCloseExpiredJobPostingsJob : closeExpiredJobPostingsJob;
+            log.info("마감된 채용공고 처리 배치 시작: {} ({})", LocalDateTime.now(), job.getName());
             
             JobParameters jobParameters = new JobParametersBuilder()
                     .addLocalDateTime("runTime", LocalDateTime.now())
                     .toJobParameters();
             
-            jobLauncher.run(closeExpiredJobPostingsJob, jobParameters);
+            JobExecution execution = jobLauncher.run(job, jobParameters);
             
-            log.info("마감된 채용공고 처리 배치 완료");
+            log.info("마감된 채용공고 처리 배치 완료: {} ({}ms)", job.getName(), Duration.between(
+                    execution.getStartTime(), execution.getEndTime()).toMillis());
         } catch (Exception e) {
             log.error("배치 실행 중 오류 발생", e);
         }
     }
     
+    // 지원서 수 컬럼 보정 (기본: 매일 새벽 3시 30분)
+    @Scheduled(cron = "${app.batch.reconcile-application-counts.cron:0 30 3 * * *}")
+    public void runReconcileApplicationCounts() {
+        try {
+            JobExecution execution = jobLauncher.run(reconcileApplicationCountsJob, new JobParametersBuilder()
+                    .addLocalDateTime("runTime", LocalDateTime.now())
+                    .toJobParameters());
+            log.info("지원서 수 보정 배치 완료: {} ({}ms)", execution.getStatus(), Duration.between(
+                    execution.getStartTime(), execution.getEndTime()).toMillis());
+        } catch (Exception e) {
+            log.error("배치 실행 중 오류 발생", e);
+        }
+    }
+    
+    // 지원서가 있는데 지원서 수가 0인 공고(지원서 수 컬럼 추가 전 데이터 등)가 있으면 시작 시 바로 보정
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileApplicationCountsOnStartup() {
+        try {
+            boolean unreconciled = !jdbcTemplate.queryForList(
+                    "SELECT jp.job_posting_id FROM job_postings jp WHERE jp.application_count = 0 " +
+                    "AND EXISTS (SELECT 1 FROM applications a WHERE a.job_posting_id = jp.job_posting_id) LIMIT 1",
+                    Long.class).isEmpty();
+            if (unreconciled) {
+                log.info("보정되지 않은 지원서 수가 있어 보정 배치를 실행합니다.");
+                runReconcileApplicationCounts();
+            }
+        } catch (Exception e) {
+            log.error("지원서 수 보정 필요 여부 확인 중 오류 발생", e);
+        }
+    }
+    
     // 테스트용: 5분마다 실행 (개발 환경에서만)
     // @Scheduled(fixedDelay = 300000) // 5분
     // public void runTestBatch() {
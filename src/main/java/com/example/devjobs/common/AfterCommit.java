@@ -0,0 +1,41 @@
+package com.example.devjobs.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 작업을 실행합니다.
+ * 트랜잭션 밖에서 호출되면 바로 실행합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 실행하고 (롤백되면 실행하지 않음), 밖이면 바로 실행합니다.
+     */
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 바로 실행하고, 트랜잭션 안이면 커밋된 뒤에 한 번 더 실행합니다.
+     * 캐시 무효화에 사용하여 커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우를 막습니다.
+     */
+    public static void runNowAndAgain(Runnable task) {
+        task.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(task);
+        }
+    }
+}
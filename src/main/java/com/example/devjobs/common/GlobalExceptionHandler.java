@@ -1,7 +1,9 @@
 package com.example.devjobs.common;
 
 import com.example.devjobs.common.exception.DuplicateResourceException;
+import com.example.devjobs.common.exception.ServiceBusyException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -63,6 +65,17 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."));
     }
 
+    /**
+     * 요청이 몰려 처리할 수 없을 때 발생하는 예외를 처리합니다. Retry-After 헤더로 재시도 시점을 알려줍니다.
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiResponse<String>> handleServiceBusyException(ServiceBusyException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
     /**
      * 위에서 처리되지 않은 모든 예외를 처리합니다.
      */
@@ -0,0 +1,19 @@
+package com.example.devjobs.common;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ID별 건수 집계(GROUP BY) 결과를 받는 프로젝션입니다.
+ */
+public interface IdCount {
+
+    Long getId();
+
+    Long getCount();
+
+    static Map<Long, Long> toMap(List<IdCount> counts) {
+        return counts.stream().collect(Collectors.toMap(IdCount::getId, IdCount::getCount));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.devjobs.common;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 현재 HTTP 요청 범위에서 조회 결과를 기억합니다.
+ * 예를 들어 @PreAuthorize의 소유권 확인 결과를 같은 요청의 서비스 로직에서 다시 조회하지 않고 재사용합니다.
+ * 요청 밖(배치, 스케줄러, 단위 테스트)에서는 기억하지 않고 매번 조회합니다.
+ */
+public final class RequestMemo {
+
+    private static final String ATTRIBUTE = RequestMemo.class.getName();
+
+    private RequestMemo() {
+    }
+
+    public static <T> T computeIfAbsent(String key, Supplier<T> loader) {
+        Map<String, Object> memo = memo(true);
+        if (memo == null) {
+            return loader.get();
+        }
+        if (memo.containsKey(key)) {
+            @SuppressWarnings("unchecked")
+            T value = (T) memo.get(key);
+            return value;
+        }
+        T value = loader.get();
+        memo.put(key, value);
+        return value;
+    }
+
+    /**
+     * 같은 요청에서 이미 기억한 값이 있으면 true입니다.
+     */
+    public static boolean contains(String key, Object value) {
+        Map<String, Object> memo = memo(false);
+        return memo != null && memo.containsKey(key) && Objects.equals(memo.get(key), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> memo(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Object> memo = (Map<String, Object>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null && create) {
+            memo = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.devjobs.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시, 대기열, SSE 연결 수 등의 미터를 기록할 레지스트리입니다.
+ * Actuator가 없으면 전역 레지스트리(Metrics.globalRegistry)에는 기록할 대상이 없어 값이 남지 않으므로
+ * 메모리 레지스트리를 등록하고, 관리자 API(GET /api/admin/metrics)로 조회합니다.
+ * 미터를 기록하는 컴포넌트는 모두 이 MeterRegistry 빈을 주입받습니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(MeterRegistry.class)
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.devjobs.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량을 넘어 요청을 받을 수 없을 때 사용되는 예외입니다. (503 Service Unavailable)
+ * (예: 비밀번호 해시를 기다리는 요청이 한도에 이른 경우)
+ */
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.devjobs.home.dto;
+
+import java.time.LocalDateTime;
+
+public record HomeSnapshotStatusDto(
+    LocalDateTime builtAt,
+    long ageMillis,
+    long buildDurationMillis,
+    long refreshIntervalMillis,
+    long consecutiveFailures
+) {}
@@ -1,7 +1,15 @@
 package com.example.devjobs.home.service;
 
 import com.example.devjobs.home.dto.HomeResponse;
+import com.example.devjobs.home.dto.HomeSnapshotStatusDto;
 
 public interface HomeService {
     HomeResponse getHomeData();
+
+    /**
+     * 홈 화면 스냅샷을 다시 만들어 교체합니다.
+     */
+    void refreshSnapshot();
+
+    HomeSnapshotStatusDto getSnapshotStatus();
 }
\ No newline at end of file
@@ -3,24 +3,36 @@ package com.example.devjobs.home.service;
 import com.example.devjobs.application.repository.ApplicationRepository;
 import com.example.devjobs.home.dto.CategoryWithCountDto;
 import com.example.devjobs.home.dto.HomeResponse;
+import com.example.devjobs.home.dto.HomeSnapshotStatusDto;
 import com.example.devjobs.home.dto.HomeStatisticsDto;
 import com.example.devjobs.home.dto.SimpleJobPostingDto;
-import com.example.devjobs.jobcategory.entity.JobCategory;
 import com.example.devjobs.jobcategory.repository.JobCategoryRepository;
-import com.example.devjobs.jobposting.entity.JobPosting;
 import com.example.devjobs.jobposting.repository.JobPostingRepository;
 import com.example.devjobs.user.repository.CompanyUserRepository;
 import com.example.devjobs.user.repository.IndividualUserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 홈 화면 데이터는 백그라운드에서 주기적으로 만든 스냅샷을 그대로 반환합니다.
+ * 요청 처리 중에는 DB를 조회하지 않으며, 스냅샷은 통째로 교체됩니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -31,19 +43,69 @@ public class HomeServiceImpl implements HomeService {
     private final CompanyUserRepository companyUserRepository;
     private final IndividualUserRepository individualUserRepository;
     private final ApplicationRepository applicationRepository;
+
+    private static final int RECENT_JOB_LIMIT = 6;
+    private static final int POPULAR_CATEGORY_LIMIT = 8;
+    private static final HomeResponse EMPTY =
+            new HomeResponse(new HomeStatisticsDto(0, 0, 0, 0), List.of(), List.of());
+
+    private final AtomicReference<HomeSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong consecutiveFailures = new AtomicLong();
+
+    @Value("${app.home.snapshot-refresh-ms:60000}")
+    private long refreshIntervalMillis;
+
+    @Value("${app.home.recent-job-excerpt-length:200}")
+    private int recentJobExcerptLength;
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public HomeResponse getHomeData() {
-        // 통계 데이터 조회
-        HomeStatisticsDto statistics = getStatistics();
-        
-        // 최신 채용공고 6개 조회
-        List<SimpleJobPostingDto> recentJobs = getRecentJobs();
-        
-        // 인기 카테고리 조회 (채용공고가 많은 순서대로)
-        List<CategoryWithCountDto> popularCategories = getPopularCategories();
-        
-        return new HomeResponse(statistics, recentJobs, popularCategories);
+        HomeSnapshot current = snapshot.get();
+        // 첫 스냅샷이 만들어지기 전에는 빈 데이터를 반환
+        return current != null ? current.data() : EMPTY;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.home.snapshot-refresh-ms:60000}",
+               initialDelayString = "${app.home.snapshot-refresh-ms:60000}")
+    public void refreshSnapshot() {
+        long startedAt = System.nanoTime();
+        try {
+            // 통계 데이터 조회
+            HomeStatisticsDto statistics = getStatistics();
+            
+            // 최신 채용공고 6개 조회
+            List<SimpleJobPostingDto> recentJobs = getRecentJobs();
+            
+            // 인기 카테고리 조회 (채용공고가 많은 순서대로)
+            List<CategoryWithCountDto> popularCategories = getPopularCategories();
+            
+            HomeResponse data = new HomeResponse(statistics, List.copyOf(recentJobs), List.copyOf(popularCategories));
+            snapshot.set(new HomeSnapshot(data, LocalDateTime.now(), System.currentTimeMillis(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)));
+            consecutiveFailures.set(0);
+        } catch (RuntimeException e) {
+            // 실패하면 이전 스냅샷을 계속 사용
+            consecutiveFailures.incrementAndGet();
+            log.error("홈 화면 스냅샷 생성 실패", e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public HomeSnapshotStatusDto getSnapshotStatus() {
+        HomeSnapshot current = snapshot.get();
+        if (current == null) {
+            return new HomeSnapshotStatusDto(null, -1, -1, refreshIntervalMillis, consecutiveFailures.get());
+        }
+        return new HomeSnapshotStatusDto(
+                current.builtAt(),
+                System.currentTimeMillis() - current.builtAtMillis(),
+                current.buildDurationMillis(),
+                refreshIntervalMillis,
+                consecutiveFailures.get());
     }
     
     private HomeStatisticsDto getStatistics() {
@@ -56,38 +118,15 @@ public class HomeServiceImpl implements HomeService {
     }
     
     private List<SimpleJobPostingDto> getRecentJobs() {
-        PageRequest pageRequest = PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "createDate"));
-        List<JobPosting> recentPostings = jobPostingRepository.findAll(pageRequest).getContent();
-        
-        return recentPostings.stream()
-                .map(posting -> SimpleJobPostingDto.builder()
-                        .id(posting.getId())
-                        .title(posting.getTitle())
-                        .content(posting.getContent())
-                        .salary(posting.getSalary())
-                        .deadline(posting.getDeadline())
-                        .workLocation(posting.getWorkLocation())
-                        .requiredExperienceYears(posting.getRequiredExperienceYears())
-                        .jobCategoryId(posting.getJobCategory().getId())
-                        .jobCategoryName(posting.getJobCategory().getCategoryName())
-                        .companyName(posting.getCompanyUser().getCompanyName())
-                        .companyCode(posting.getCompanyUser().getCompanyCode())
-                        .createdAt(posting.getCreateDate())
-                        .build())
-                .collect(Collectors.toList());
+        // 0 이하이면 본문 전체를 가져옵니다.
+        int excerptLength = recentJobExcerptLength > 0 ? recentJobExcerptLength : Integer.MAX_VALUE;
+        return jobPostingRepository.findRecentJobSummaries(excerptLength, PageRequest.of(0, RECENT_JOB_LIMIT));
     }
     
     private List<CategoryWithCountDto> getPopularCategories() {
-        List<JobCategory> allCategories = jobCategoryRepository.findAll();
-        
-        return allCategories.stream()
-                .map(category -> {
-                    long jobCount = jobPostingRepository.countByJobCategoryAndDeadlineAfter(
-                            category, LocalDate.now());
-                    return new CategoryWithCountDto(category.getId(), category.getCategoryName(), jobCount);
-                })
-                .sorted((a, b) -> Long.compare(b.jobCount(), a.jobCount()))
-                .limit(8)
-                .collect(Collectors.toList());
+        return jobCategoryRepository.findPopularCategories(LocalDate.now(), PageRequest.of(0, POPULAR_CATEGORY_LIMIT));
+    }
+
+    private record HomeSnapshot(HomeResponse data, LocalDateTime builtAt, long builtAtMillis, long buildDurationMillis) {
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,27 @@
 package com.example.devjobs.jobcategory.repository;
 
+import com.example.devjobs.home.dto.CategoryWithCountDto;
 import com.example.devjobs.jobcategory.entity.JobCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Repository
 public interface JobCategoryRepository extends JpaRepository<JobCategory, Long> {
+
+    /**
+     * 카테고리별 진행 중인(마감일이 지나지 않은) 채용공고 수를 한 번의 GROUP BY 쿼리로 조회합니다.
+     * 공고가 없는 카테고리도 0건으로 포함되며, 공고 수가 많은 순(같으면 ID 순)으로 정렬됩니다.
+     * 조회 개수는 pageable로 제한합니다.
+     */
+    @Query("SELECT new com.example.devjobs.home.dto.CategoryWithCountDto(c.id, c.categoryName, COUNT(jp.id)) " +
+           "FROM JobCategory c LEFT JOIN JobPosting jp ON jp.jobCategory = c AND jp.deadline > :date " +
+           "GROUP BY c.id, c.categoryName " +
+           "ORDER BY COUNT(jp.id) DESC, c.id ASC")
+    List<CategoryWithCountDto> findPopularCategories(@Param("date") LocalDate date, Pageable pageable);
 }
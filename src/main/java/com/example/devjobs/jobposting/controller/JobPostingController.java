@@ -3,6 +3,7 @@ package com.example.devjobs.jobposting.controller;
 import com.example.devjobs.common.ApiResponse;
 import com.example.devjobs.jobposting.dto.JobPostingRequest;
 import com.example.devjobs.jobposting.dto.JobPostingResponse;
+import com.example.devjobs.jobposting.repository.SearchCountMode;
 import com.example.devjobs.jobposting.service.JobPostingService;
 import com.example.devjobs.user.service.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +17,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -87,9 +89,33 @@ public class JobPostingController {
             @Parameter(description = "최소경력 (년)") @RequestParam(required = false) Integer minExperience,
             @Parameter(description = "최대경력 (년)") @RequestParam(required = false) Integer maxExperience,
             @Parameter(description = "직무 카테고리 ID") @RequestParam(required = false) Long jobCategoryId,
+            @Parameter(description = "전체 건수 계산 방식 (EXACT, APPROXIMATE: 상한 초과 시 totalApproximate=true)")
+            @RequestParam(defaultValue = "EXACT") SearchCountMode countMode,
             @Parameter(description = "페이지 정보") Pageable pageable) {
         Page<JobPostingResponse.Simple> response = jobPostingService.searchJobPostings(
-                keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId, pageable);
+                keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId, pageable, countMode);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "채용공고 커서 검색", description = "무한 스크롤용 커서 기반 검색입니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. 전체 건수는 제공하지 않습니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "검색 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<JobPostingResponse.CursorSlice>> scrollJobPostings(
+            @Parameter(description = "검색어 (제목, 내용, 회사명)") @RequestParam(required = false) String keyword,
+            @Parameter(description = "근무지역") @RequestParam(required = false) String location,
+            @Parameter(description = "최소급여 (만원)") @RequestParam(required = false) Integer minSalary,
+            @Parameter(description = "최대급여 (만원)") @RequestParam(required = false) Integer maxSalary,
+            @Parameter(description = "최소경력 (년)") @RequestParam(required = false) Integer minExperience,
+            @Parameter(description = "최대경력 (년)") @RequestParam(required = false) Integer maxExperience,
+            @Parameter(description = "직무 카테고리 ID") @RequestParam(required = false) Long jobCategoryId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 요청 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "정렬 (예: salary,desc)") Sort sort) {
+        JobPostingResponse.CursorSlice response = jobPostingService.scrollJobPostings(
+                keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId, cursor, size, sort);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -8,11 +8,12 @@ import lombok.Getter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class JobPostingResponse {
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     public static class Detail {
         private Long id;
         private String title;
@@ -27,6 +28,13 @@ public class JobPostingResponse {
         private Long viewCount;
 
         public static Detail from(JobPosting jobPosting) {
+            return from(jobPosting, jobPosting.getViewCount());
+        }
+
+        /**
+         * 아직 DB에 반영되지 않은 조회수를 포함한 조회수로 응답을 만듭니다.
+         */
+        public static Detail from(JobPosting jobPosting, Long viewCount) {
             return Detail.builder()
                     .id(jobPosting.getId())
                     .title(jobPosting.getTitle())
@@ -38,7 +46,7 @@ public class JobPostingResponse {
                     .companyInfo(CompanyInfo.from(jobPosting.getCompanyUser()))
                     .createDate(jobPosting.getCreateDate())
                     .updateDate(jobPosting.getUpdateDate())
-                    .viewCount(jobPosting.getViewCount())
+                    .viewCount(viewCount)
                     .build();
         }
     }
@@ -54,6 +62,7 @@ public class JobPostingResponse {
         private Long salary;
         private String workLocation;
         private Long viewCount;
+        private Integer applicationCount;
 
         public static Simple from(JobPosting jobPosting) {
             return Simple.builder()
@@ -65,10 +74,23 @@ public class JobPostingResponse {
                     .salary(jobPosting.getSalary())
                     .workLocation(jobPosting.getWorkLocation())
                     .viewCount(jobPosting.getViewCount())
+                    .applicationCount(jobPosting.getApplicationCount())
                     .build();
         }
     }
 
+    /**
+     * 커서 기반(무한 스크롤) 검색 결과입니다. 전체 건수는 계산하지 않습니다.
+     */
+    @Getter
+    @Builder
+    public static class CursorSlice {
+        private List<Simple> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+    }
+
     @Getter
     @AllArgsConstructor
     public static class CompanyInfo {
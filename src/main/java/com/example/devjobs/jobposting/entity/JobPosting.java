@@ -8,6 +8,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
@@ -16,7 +17,10 @@ import java.time.LocalDate;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "job_postings")
+@Table(name = "job_postings", indexes = {
+        // 카테고리별 진행 중인 공고 수 집계 (JobCategoryRepository.findPopularCategories)
+        @Index(name = "idx_job_postings_category_deadline", columnList = "job_category_id, deadline")
+})
 public class JobPosting extends BaseEntity {
 
     @Id
@@ -59,6 +63,37 @@ public class JobPosting extends BaseEntity {
     @Builder.Default
     private JobPostingStatus status = JobPostingStatus.ACTIVE;
 
+    // 지원서 수 (ApplicationCounter가 상대 UPDATE로 유지하고, 어긋나면 배치가 보정)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer applicationCount = 0;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer appliedCount = 0;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer passedCount = 0;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer interviewCount = 0;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer acceptedCount = 0;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer rejectedCount = 0;
+
     public void update(String title, String content, Long salary, LocalDate deadline, String workLocation, Integer requiredExperienceYears, com.example.devjobs.jobcategory.entity.JobCategory jobCategory) {
         if (title != null) this.title = title;
         if (content != null) this.content = content;
@@ -0,0 +1,31 @@
+package com.example.devjobs.jobposting.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 전체 건수가 상한에서 잘린 검색 결과입니다.
+ * totalApproximate가 true이면 totalElements는 "그 이상"을 의미합니다.
+ */
+public class ApproximateCountPage<T> extends PageImpl<T> {
+
+    private final boolean totalApproximate;
+
+    public ApproximateCountPage(List<T> content, Pageable pageable, long total, boolean totalApproximate) {
+        super(content, pageable, total);
+        this.totalApproximate = totalApproximate;
+    }
+
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+
+    @Override
+    public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+        return new ApproximateCountPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), totalApproximate);
+    }
+}
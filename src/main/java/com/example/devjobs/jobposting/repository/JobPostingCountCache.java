@@ -0,0 +1,89 @@
+package com.example.devjobs.jobposting.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채용공고 검색 전체 건수 캐시입니다.
+ * 정규화한 검색 조건을 키로 TTL 동안 건수를 보관하며, 공고가 변경되면 전체 무효화됩니다.
+ */
+@Component
+public class JobPostingCountCache {
+
+    private final Map<Key, CachedCount> counts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public JobPostingCountCache(@Value("${app.search.count.cache-ttl-seconds:30}") long ttlSeconds,
+                                @Value("${app.search.count.cache-max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    public static Key key(String keyword, String location, Integer minSalary, Integer maxSalary,
+                          Integer minExperience, Integer maxExperience, Long jobCategoryId) {
+        return new Key(normalize(keyword), normalize(location), minSalary, maxSalary,
+                minExperience, maxExperience, jobCategoryId);
+    }
+
+    /**
+     * 현재 세대 번호입니다. 건수 계산 전에 읽어 두었다가 {@link #put}에 전달합니다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public OptionalLong get(Key key) {
+        CachedCount cached = counts.get(key);
+        if (cached == null) {
+            return OptionalLong.empty();
+        }
+        if (cached.expiresAt() < System.currentTimeMillis()) {
+            counts.remove(key, cached);
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(cached.count());
+    }
+
+    /**
+     * 계산 도중 공고가 변경되었다면(세대 번호가 바뀌었다면) 오래된 값이므로 저장하지 않습니다.
+     */
+    public void put(Key key, long count, long generationAtStart) {
+        if (generation.get() != generationAtStart) {
+            return;
+        }
+        if (counts.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            counts.values().removeIf(cached -> cached.expiresAt() < now);
+            if (counts.size() >= maxEntries) {
+                counts.clear();
+            }
+        }
+        counts.put(key, new CachedCount(count, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        counts.clear();
+    }
+
+    // 검색어는 대소문자 차이를 무시합니다 (containsIgnoreCase 검색과 동일한 결과).
+    private static String normalize(String value) {
+        return StringUtils.hasText(value) ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    public record Key(String keyword, String location, Integer minSalary, Integer maxSalary,
+                      Integer minExperience, Integer maxExperience, Long jobCategoryId) {
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
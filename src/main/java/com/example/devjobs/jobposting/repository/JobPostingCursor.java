@@ -0,0 +1,95 @@
+package com.example.devjobs.jobposting.repository;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션용 커서입니다.
+ * 마지막으로 조회한 공고의 (정렬 키, ID)를 담아 클라이언트에는 불투명한 Base64 문자열로 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JobPostingCursor {
+
+    private static final String DELIMITER = "|";
+    private static final Sort.Order DEFAULT_ORDER = Sort.Order.desc("createDate");
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final Object value; // null이면 정렬 키가 NULL인 공고
+    private final Long id;
+
+    /**
+     * 요청된 정렬 중 첫 번째 항목을 키셋 정렬 기준으로 사용합니다.
+     * 지원하지 않는 필드는 기존 검색과 동일하게 최신순으로 처리합니다.
+     */
+    public static Sort.Order resolveOrder(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(DEFAULT_ORDER);
+        return switch (order.getProperty()) {
+            case "createDate", "viewCount", "deadline", "salary", "requiredExperienceYears" -> order;
+            default -> DEFAULT_ORDER;
+        };
+    }
+
+    public static JobPostingCursor of(JobPosting jobPosting, Sort.Order order) {
+        Object value = switch (order.getProperty()) {
+            case "createDate" -> jobPosting.getCreateDate();
+            case "viewCount" -> jobPosting.getViewCount();
+            case "deadline" -> jobPosting.getDeadline();
+            case "salary" -> jobPosting.getSalary();
+            case "requiredExperienceYears" -> jobPosting.getRequiredExperienceYears();
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + order.getProperty());
+        };
+        return new JobPostingCursor(order.getProperty(), order.getDirection(), value, jobPosting.getId());
+    }
+
+    public static JobPostingCursor decode(String encoded) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER, -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            String property = parts[0];
+            Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+            Object value = parts[2].isEmpty() ? null : parseValue(property, parts[2]);
+            return new JobPostingCursor(property, direction, value, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, property, direction.name(), value != null ? value.toString() : "", id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isAscending() {
+        return direction.isAscending();
+    }
+
+    /**
+     * 커서가 현재 요청의 정렬 기준으로 만들어진 것인지 확인합니다.
+     */
+    public boolean matches(Sort.Order order) {
+        return property.equals(order.getProperty()) && direction == order.getDirection();
+    }
+
+    private static Object parseValue(String property, String value) {
+        return switch (property) {
+            case "createDate" -> LocalDateTime.parse(value);
+            case "viewCount", "salary" -> Long.parseLong(value);
+            case "deadline" -> LocalDate.parse(value);
+            case "requiredExperienceYears" -> Integer.parseInt(value);
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + property);
+        };
+    }
+}
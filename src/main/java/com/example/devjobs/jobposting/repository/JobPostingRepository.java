@@ -1,5 +1,7 @@
 package com.example.devjobs.jobposting.repository;
 
+import com.example.devjobs.common.IdCount;
+import com.example.devjobs.home.dto.SimpleJobPostingDto;
 import com.example.devjobs.jobposting.entity.JobPosting;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,7 +13,10 @@ import com.example.devjobs.user.entity.CompanyUser;
 import com.example.devjobs.jobcategory.entity.JobCategory;
 import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.time.LocalDate;
 
 @Repository
@@ -24,11 +29,43 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long>, J
      * @param pageable 페이징 정보
      * @return 페이징 처리된 채용 공고 목록 (회사 정보 포함)
      */
-    @Query(value = "SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser",
+    @Query(value = "SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser LEFT JOIN FETCH jp.jobCategory",
            countQuery = "SELECT COUNT(jp) FROM JobPosting jp")
     Page<JobPosting> findAllWithCompanyUser(Pageable pageable);
     
+    /**
+     * 검색 엔진이 찾은 ID 목록에 해당하는 채용 공고를 회사 정보와 함께 한 번에 조회합니다.
+     */
+    @Query("SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser WHERE jp.id IN :ids")
+    List<JobPosting> findAllWithCompanyUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 관리자 FULLTEXT 검색이 찾은 ID 목록에 해당하는 채용 공고를 회사, 카테고리 정보와 함께 조회합니다.
+     */
+    @Query("SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser LEFT JOIN FETCH jp.jobCategory WHERE jp.id IN :ids")
+    List<JobPosting> findAllWithCompanyUserAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 상세 조회용으로 채용 공고와 회사 정보를 함께 조회합니다.
+     */
+    @Query("SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser WHERE jp.id = :id")
+    Optional<JobPosting> findWithCompanyUserById(@Param("id") Long id);
+
     List<JobPosting> findByCompanyUser(CompanyUser companyUser);
+
+    // 소유권 확인 (company_user_id 외래키만 조회)
+    boolean existsByIdAndCompanyUserId(Long id, Long companyUserId);
+
+    /**
+     * 홈 화면 최신 채용공고 목록에 필요한 컬럼만 한 번에 조회합니다 (연관 엔티티 지연 로딩 없음).
+     * 본문은 DB에서 excerptLength 글자까지만 잘라서 가져옵니다.
+     */
+    @Query("SELECT new com.example.devjobs.home.dto.SimpleJobPostingDto(" +
+           "jp.id, jp.title, SUBSTRING(jp.content, 1, :excerptLength), jp.salary, jp.deadline, jp.workLocation, " +
+           "jp.requiredExperienceYears, c.id, c.categoryName, cu.companyName, cu.companyCode, jp.createDate) " +
+           "FROM JobPosting jp JOIN jp.companyUser cu LEFT JOIN jp.jobCategory c " +
+           "ORDER BY jp.createDate DESC, jp.id DESC")
+    List<SimpleJobPostingDto> findRecentJobSummaries(@Param("excerptLength") int excerptLength, Pageable pageable);
     
     // 홈화면용 추가 메서드
     long countByDeadlineAfter(LocalDate date);
@@ -36,9 +73,20 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long>, J
     
     // 관리자용 추가 메서드
     int countByCompanyUser(CompanyUser companyUser);
+
+    @Query("SELECT jp.companyUser.id AS id, COUNT(jp) AS count FROM JobPosting jp " +
+           "WHERE jp.companyUser.id IN :companyUserIds GROUP BY jp.companyUser.id")
+    List<IdCount> countGroupByCompanyUserIdIn(@Param("companyUserIds") Collection<Long> companyUserIds);
+
+    /**
+     * 기업 회원별 채용공고 수를 한 번의 쿼리로 조회합니다. 공고가 없는 회사는 결과에 포함되지 않습니다.
+     */
+    default Map<Long, Long> countByCompanyUserIds(Collection<Long> companyUserIds) {
+        return companyUserIds.isEmpty() ? Map.of() : IdCount.toMap(countGroupByCompanyUserIdIn(companyUserIds));
+    }
     
     // 관리자 검색 메서드
-    @Query(value = "SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser WHERE " +
+    @Query(value = "SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser LEFT JOIN FETCH jp.jobCategory WHERE " +
            "(LOWER(jp.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(jp.companyUser.companyName) LIKE LOWER(CONCAT('%', :search, '%')))",
            countQuery = "SELECT COUNT(jp) FROM JobPosting jp WHERE " +
@@ -46,11 +94,11 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long>, J
            "LOWER(jp.companyUser.companyName) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<JobPosting> findBySearch(@Param("search") String search, Pageable pageable);
     
-    @Query(value = "SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser WHERE jp.status = :status",
+    @Query(value = "SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser LEFT JOIN FETCH jp.jobCategory WHERE jp.status = :status",
            countQuery = "SELECT COUNT(jp) FROM JobPosting jp WHERE jp.status = :status")
     Page<JobPosting> findByStatus(@Param("status") JobPostingStatus status, Pageable pageable);
     
-    @Query(value = "SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser WHERE " +
+    @Query(value = "SELECT jp FROM JobPosting jp JOIN FETCH jp.companyUser LEFT JOIN FETCH jp.jobCategory WHERE " +
            "(LOWER(jp.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(jp.companyUser.companyName) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
            "jp.status = :status",
@@ -4,6 +4,8 @@ import com.example.devjobs.jobposting.dto.JobPostingResponse;
 import com.example.devjobs.jobposting.entity.JobPosting;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 public interface JobPostingRepositoryCustom {
     Page<JobPosting> search(
@@ -16,4 +18,38 @@ public interface JobPostingRepositoryCustom {
             Long jobCategoryId,
             Pageable pageable
     );
+
+    /**
+     * @param countMode 전체 건수 계산 방식 (EXACT: 캐시된 정확한 건수, APPROXIMATE: 상한까지만 계산)
+     */
+    Page<JobPosting> search(
+            String keyword,
+            String location,
+            Integer minSalary,
+            Integer maxSalary,
+            Integer minExperience,
+            Integer maxExperience,
+            Long jobCategoryId,
+            Pageable pageable,
+            SearchCountMode countMode
+    );
+
+    /**
+     * 키셋 방식으로 다음 구간을 조회합니다. OFFSET과 COUNT 쿼리를 사용하지 않습니다.
+     *
+     * @param cursor 이전 구간의 마지막 공고 위치 (첫 구간이면 null)
+     * @param order  정렬 기준 (동일 값은 같은 방향의 ID로 정렬)
+     */
+    Slice<JobPosting> searchByCursor(
+            String keyword,
+            String location,
+            Integer minSalary,
+            Integer maxSalary,
+            Integer minExperience,
+            Integer maxExperience,
+            Long jobCategoryId,
+            JobPostingCursor cursor,
+            Sort.Order order,
+            int size
+    );
 }
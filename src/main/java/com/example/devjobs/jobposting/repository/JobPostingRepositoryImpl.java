@@ -2,70 +2,194 @@ package com.example.devjobs.jobposting.repository;
 
 import com.example.devjobs.jobposting.entity.JobPosting;
 import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.HQLTemplates;
+import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUtil;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
 
 import static com.example.devjobs.jobposting.entity.QJobPosting.jobPosting;
 import static com.example.devjobs.user.entity.QCompanyUser.companyUser;
 
 public class JobPostingRepositoryImpl implements JobPostingRepositoryCustom {
 
+    private final EntityManager em;
     private final JPAQueryFactory queryFactory;
+    private final JobPostingCountCache countCache;
+    private final int approximateCountCap;
 
-    public JobPostingRepositoryImpl(EntityManager em) {
+    public JobPostingRepositoryImpl(EntityManager em, JobPostingCountCache countCache,
+                                    @Value("${app.search.count.approximate-cap:1000}") int approximateCountCap) {
+        this.em = em;
         this.queryFactory = new JPAQueryFactory(em);
+        this.countCache = countCache;
+        this.approximateCountCap = approximateCountCap;
     }
 
     @Override
     public Page<JobPosting> search(
             String keyword, String location, Integer minSalary, Integer maxSalary,
             Integer minExperience, Integer maxExperience, Long jobCategoryId, Pageable pageable) {
+        return search(keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId,
+                pageable, SearchCountMode.EXACT);
+    }
+
+    @Override
+    public Page<JobPosting> search(
+            String keyword, String location, Integer minSalary, Integer maxSalary,
+            Integer minExperience, Integer maxExperience, Long jobCategoryId, Pageable pageable,
+            SearchCountMode countMode) {
+
+        BooleanExpression[] conditions = searchConditions(
+                keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId);
 
         List<JobPosting> content = queryFactory
                 .selectFrom(jobPosting)
                 .leftJoin(jobPosting.companyUser, companyUser).fetchJoin()
-                .where(
-                        jobPosting.status.eq(JobPostingStatus.ACTIVE), // 활성 상태만 조회
-                        keywordContains(keyword),
-                        locationContains(location),
-                        salaryGoe(minSalary),
-                        salaryLoe(maxSalary),
-                        experienceGoe(minExperience),
-                        experienceLoe(maxExperience),
-                        jobCategoryIdEq(jobCategoryId)
-                )
+                .where(conditions)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(getOrderSpecifiers(pageable))
                 .fetch();
 
-        long total = queryFactory
+        if (countMode == SearchCountMode.APPROXIMATE) {
+            return approximatePage(content, pageable, conditions);
+        }
+
+        // 첫 페이지에서 결과가 페이지 크기보다 적으면 COUNT 쿼리 없이 전체 건수를 알 수 있습니다.
+        JobPostingCountCache.Key key = JobPostingCountCache.key(
+                keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId);
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            OptionalLong cached = countCache.get(key);
+            if (cached.isPresent()) {
+                return cached.getAsLong();
+            }
+            long generation = countCache.generation();
+            long total = queryFactory
+                    .select(jobPosting.count())
+                    .from(jobPosting)
+                    .where(conditions)
+                    .fetchOne();
+            countCache.put(key, total, generation);
+            return total;
+        });
+    }
+
+    /**
+     * 현재 페이지 이후 한 건 또는 설정된 상한 중 큰 값까지만 세어 전체 건수를 대신합니다.
+     * 상한에 도달하면 totalApproximate=true로 "N건 이상"임을 알립니다.
+     * ID를 애플리케이션으로 가져오지 않도록 SELECT COUNT(*) FROM (SELECT id ... LIMIT n)으로 DB에서 셉니다.
+     */
+    private Page<JobPosting> approximatePage(List<JobPosting> content, Pageable pageable, BooleanExpression[] conditions) {
+        long limit = Math.max(approximateCountCap, pageable.getOffset() + pageable.getPageSize()) + 1;
+        QueryMetadata ids = queryFactory
+                .select(jobPosting.id.as("id")) // FROM 절 서브쿼리의 선택 항목에는 별칭이 필요
+                .from(jobPosting)
+                .where(conditions)
+                .orderBy(jobPosting.id.asc()) // HQL은 ORDER BY 없이 LIMIT을 쓸 수 없음
+                .getMetadata();
+        // QueryDSL은 FROM 절 서브쿼리를 지원하지 않으므로 조건을 HQL로 직렬화해 파생 테이블로 감쌈
+        JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT, em);
+        serializer.serialize(ids, false, null);
+        TypedQuery<Long> countQuery = em.createQuery(
+                "select count(*) from (" + serializer + " limit " + limit + ") bounded", Long.class);
+        JPAUtil.setConstants(countQuery, serializer.getConstants(), ids.getParams());
+        long counted = countQuery.getSingleResult();
+        return new ApproximateCountPage<>(content, pageable, counted, counted >= limit);
+    }
+
+    private BooleanExpression[] searchConditions(
+            String keyword, String location, Integer minSalary, Integer maxSalary,
+            Integer minExperience, Integer maxExperience, Long jobCategoryId) {
+        return new BooleanExpression[]{
+                jobPosting.status.eq(JobPostingStatus.ACTIVE), // 활성 상태만 조회
+                keywordContains(keyword),
+                locationContains(location),
+                salaryGoe(minSalary),
+                salaryLoe(maxSalary),
+                experienceGoe(minExperience),
+                experienceLoe(maxExperience),
+                jobCategoryIdEq(jobCategoryId)
+        };
+    }
+
+    @Override
+    public Slice<JobPosting> searchByCursor(
+            String keyword, String location, Integer minSalary, Integer maxSalary,
+            Integer minExperience, Integer maxExperience, Long jobCategoryId,
+            JobPostingCursor cursor, Sort.Order order, int size) {
+
+        ComparableExpressionBase<?> sortPath = sortPath(order.getProperty());
+        Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+
+        // 다음 구간 존재 여부를 COUNT 대신 size + 1건 조회로 판단합니다.
+        List<JobPosting> content = queryFactory
                 .selectFrom(jobPosting)
-                .where(
-                        jobPosting.status.eq(JobPostingStatus.ACTIVE), // 활성 상태만 카운트
-                        keywordContains(keyword),
-                        locationContains(location),
-                        salaryGoe(minSalary),
-                        salaryLoe(maxSalary),
-                        experienceGoe(minExperience),
-                        experienceLoe(maxExperience),
-                        jobCategoryIdEq(jobCategoryId)
-                )
-                .fetchCount();
-
-        return new PageImpl<>(content, pageable, total);
+                .leftJoin(jobPosting.companyUser, companyUser).fetchJoin()
+                .where(searchConditions(
+                        keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId))
+                .where(cursor != null ? after(sortPath, cursor) : null)
+                .orderBy(new OrderSpecifier<>(direction, sortPath), new OrderSpecifier<>(direction, jobPosting.id))
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size, Sort.by(order)), hasNext);
+    }
+
+    /**
+     * 커서 위치 이후의 행을 찾는 조건입니다. (정렬 키, ID) 순으로 비교하며,
+     * MariaDB 기본 규칙대로 NULL은 오름차순에서 맨 앞, 내림차순에서 맨 뒤에 위치합니다.
+     */
+    private BooleanExpression after(ComparableExpressionBase<?> path, JobPostingCursor cursor) {
+        boolean asc = cursor.isAscending();
+        BooleanExpression idAfter = asc ? jobPosting.id.gt(cursor.getId()) : jobPosting.id.lt(cursor.getId());
+
+        if (cursor.getValue() == null) {
+            return asc ? path.isNotNull().or(path.isNull().and(idAfter)) : path.isNull().and(idAfter);
+        }
+
+        Expression<Object> value = Expressions.constant(cursor.getValue());
+        BooleanExpression afterValue = Expressions.booleanOperation(asc ? Ops.GT : Ops.LT, path, value);
+        BooleanExpression sameValue = Expressions.booleanOperation(Ops.EQ, path, value).and(idAfter);
+        BooleanExpression condition = afterValue.or(sameValue);
+        return asc ? condition : condition.or(path.isNull());
+    }
+
+    private ComparableExpressionBase<?> sortPath(String property) {
+        return switch (property) {
+            case "viewCount" -> jobPosting.viewCount;
+            case "deadline" -> jobPosting.deadline;
+            case "salary" -> jobPosting.salary;
+            case "requiredExperienceYears" -> jobPosting.requiredExperienceYears;
+            default -> jobPosting.createDate;
+        };
     }
 
     private BooleanExpression keywordContains(String keyword) {
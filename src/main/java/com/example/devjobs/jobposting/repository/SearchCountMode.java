@@ -0,0 +1,9 @@
+package com.example.devjobs.jobposting.repository;
+
+/**
+ * 검색 결과 전체 건수 계산 방식입니다.
+ */
+public enum SearchCountMode {
+    EXACT,       // 정확한 건수 (캐시 사용)
+    APPROXIMATE  // 상한(app.search.count.approximate-cap)까지만 계산, 초과 시 "N+" 표시용
+}
@@ -0,0 +1,76 @@
+package com.example.devjobs.jobposting.search;
+
+import java.util.Arrays;
+
+/**
+ * 문서 번호(docId)를 오름차순 int 배열로 보관하는 posting list입니다.
+ * 문서 번호는 색인 순서대로 증가하므로 append만으로 정렬 상태가 유지됩니다.
+ */
+final class IntPostingList {
+
+    private int[] docIds = new int[4];
+    private int size;
+
+    void add(int docId) {
+        if (size > 0 && docIds[size - 1] == docId) {
+            return;
+        }
+        if (size == docIds.length) {
+            docIds = Arrays.copyOf(docIds, size << 1);
+        }
+        docIds[size++] = docId;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return docIds[index];
+    }
+
+    /**
+     * 문서 번호 재배치(compaction) 후 새로운 번호로 목록을 다시 씁니다. 삭제된 문서(-1)는 제외됩니다.
+     */
+    void remap(int[] newDocIds) {
+        int written = 0;
+        for (int i = 0; i < size; i++) {
+            int mapped = newDocIds[docIds[i]];
+            if (mapped >= 0) {
+                docIds[written++] = mapped;
+            }
+        }
+        size = written;
+        if (docIds.length > 16 && size < docIds.length / 4) {
+            docIds = Arrays.copyOf(docIds, Math.max(4, size));
+        }
+    }
+
+    /**
+     * 두 정렬된 목록의 교집합을 구합니다. 결과 배열의 길이는 교집합 크기와 같습니다.
+     */
+    static int[] intersect(int[] sorted, IntPostingList other) {
+        int[] result = new int[Math.min(sorted.length, other.size)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < sorted.length && j < other.size) {
+            int a = sorted[i];
+            int b = other.docIds[j];
+            if (a == b) {
+                result[count++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(docIds, size);
+    }
+}
@@ -0,0 +1,433 @@
+package com.example.devjobs.jobposting.search;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 역색인(inverted index) 기반 채용공고 검색 엔진입니다.
+ * 제목, 내용, 회사명을 {@link KoreanNgramTokenizer}로 분해하여 색인하고,
+ * 필터/정렬에 필요한 값은 문서 번호(docId)를 인덱스로 하는 원시 타입 배열에 보관합니다.
+ * 용어 교집합으로 후보를 좁힌 뒤 소문자 원문의 부분 문자열 일치로 다시 확인하므로,
+ * 결과는 querydsl 모드의 containsIgnoreCase(LIKE) 검색과 같습니다.
+ * 검색 시 DB는 결과 페이지의 ID 목록을 조회할 때 한 번만 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "index", matchIfMissing = true)
+public class InvertedIndexJobPostingSearchEngine implements JobPostingSearchEngine {
+
+    private static final long NO_VALUE = Long.MIN_VALUE; // DB의 NULL 대응 (정렬 시 가장 작은 값)
+    private static final int LOAD_PAGE_SIZE = 500;
+    private static final int COMPACTION_THRESHOLD = 1024;
+
+    private final JobPostingRepository jobPostingRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntPostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docIdByPostingId = new HashMap<>();
+    private final BitSet liveDocs = new BitSet();
+
+    private long[] postingIds = new long[64];
+    private long[] salaries = new long[64];
+    private long[] experiences = new long[64];
+    private long[] categoryIds = new long[64];
+    private long[] createDates = new long[64];
+    private long[] viewCounts = new long[64];
+    private long[] deadlines = new long[64];
+    private String[] locations = new String[64];
+    private String[] titles = new String[64];
+    private String[] contents = new String[64];
+    private String[] companyNames = new String[64];
+    private int docCount;
+    private int deletedCount;
+
+    /**
+     * 애플리케이션 시작 시 활성 채용공고 전체를 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        clear();
+
+        int page = 0;
+        Page<JobPosting> result;
+        do {
+            result = jobPostingRepository.findByStatus(JobPostingStatus.ACTIVE,
+                    PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+            result.getContent().forEach(this::index);
+        } while (result.hasNext());
+
+        log.info("채용공고 검색 색인 완료: {}건, 용어 {}개 ({}ms)",
+                docIdByPostingId.size(), postings.size(), System.currentTimeMillis() - startTime);
+    }
+
+    @Override
+    public Page<JobPosting> search(
+            String keyword, String location, Integer minSalary, Integer maxSalary,
+            Integer minExperience, Integer maxExperience, Long jobCategoryId, Pageable pageable) {
+
+        String keywordLower = StringUtils.hasText(keyword) ? keyword.toLowerCase(Locale.ROOT) : null;
+        Set<String> terms = keywordLower != null ? KoreanNgramTokenizer.tokenizeQuery(keyword) : Set.of();
+        String locationLower = StringUtils.hasText(location) ? location.toLowerCase(Locale.ROOT) : null;
+
+        long[] pageIds;
+        int total;
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = matchTerms(terms);
+            List<Integer> matched = new ArrayList<>(candidates != null ? candidates.length : docIdByPostingId.size());
+
+            if (candidates != null) {
+                for (int docId : candidates) {
+                    if (liveDocs.get(docId) && matchesFilters(docId, keywordLower, locationLower, minSalary, maxSalary,
+                            minExperience, maxExperience, jobCategoryId)) {
+                        matched.add(docId);
+                    }
+                }
+            } else {
+                for (int docId = liveDocs.nextSetBit(0); docId >= 0; docId = liveDocs.nextSetBit(docId + 1)) {
+                    if (matchesFilters(docId, keywordLower, locationLower, minSalary, maxSalary,
+                            minExperience, maxExperience, jobCategoryId)) {
+                        matched.add(docId);
+                    }
+                }
+            }
+
+            matched.sort(comparator(pageable.getSort()));
+            total = matched.size();
+
+            int from = (int) Math.min(pageable.getOffset(), total);
+            int to = Math.min(from + pageable.getPageSize(), total);
+            pageIds = new long[to - from];
+            for (int i = from; i < to; i++) {
+                pageIds[i - from] = postingIds[matched.get(i)];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new PageImpl<>(hydrate(pageIds), pageable, total);
+    }
+
+    @Override
+    public void index(JobPosting jobPosting) {
+        if (jobPosting.getId() == null) {
+            return;
+        }
+        if (!jobPosting.isActive()) {
+            remove(jobPosting.getId());
+            return;
+        }
+
+        String title = nullToEmpty(jobPosting.getTitle());
+        String content = nullToEmpty(jobPosting.getContent());
+        String companyName = nullToEmpty(jobPosting.getCompanyUser() != null ? jobPosting.getCompanyUser().getCompanyName() : null);
+        Set<String> terms = KoreanNgramTokenizer.tokenize(String.join("\n", title, content, companyName));
+
+        lock.writeLock().lock();
+        try {
+            deleteDoc(jobPosting.getId());
+
+            int docId = docCount++;
+            ensureCapacity(docCount);
+            postingIds[docId] = jobPosting.getId();
+            salaries[docId] = jobPosting.getSalary() != null ? jobPosting.getSalary() : NO_VALUE;
+            experiences[docId] = jobPosting.getRequiredExperienceYears() != null ? jobPosting.getRequiredExperienceYears() : NO_VALUE;
+            categoryIds[docId] = jobPosting.getJobCategory() != null ? jobPosting.getJobCategory().getId() : NO_VALUE;
+            createDates[docId] = jobPosting.getCreateDate() != null
+                    ? jobPosting.getCreateDate().toInstant(ZoneOffset.UTC).toEpochMilli() : NO_VALUE;
+            viewCounts[docId] = jobPosting.getViewCount() != null ? jobPosting.getViewCount() : NO_VALUE;
+            deadlines[docId] = jobPosting.getDeadline() != null ? jobPosting.getDeadline().toEpochDay() : NO_VALUE;
+            locations[docId] = jobPosting.getWorkLocation() != null ? jobPosting.getWorkLocation().toLowerCase(Locale.ROOT) : null;
+            titles[docId] = title.toLowerCase(Locale.ROOT);
+            contents[docId] = content.toLowerCase(Locale.ROOT);
+            companyNames[docId] = companyName.toLowerCase(Locale.ROOT);
+
+            for (String term : terms) {
+                postings.computeIfAbsent(term, t -> new IntPostingList()).add(docId);
+            }
+            liveDocs.set(docId);
+            docIdByPostingId.put(jobPosting.getId(), docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void refresh(Collection<Long> jobPostingIds) {
+        if (jobPostingIds.isEmpty()) {
+            return;
+        }
+        Map<Long, JobPosting> current = jobPostingRepository.findAllWithCompanyUserByIdIn(jobPostingIds).stream()
+                .collect(Collectors.toMap(JobPosting::getId, Function.identity()));
+        for (Long id : jobPostingIds) {
+            JobPosting jobPosting = current.get(id);
+            if (jobPosting != null) {
+                index(jobPosting);
+            } else {
+                remove(id);
+            }
+        }
+    }
+
+    @Override
+    public void addViews(Map<Long, Long> views) {
+        lock.writeLock().lock();
+        try {
+            views.forEach((id, delta) -> {
+                Integer docId = docIdByPostingId.get(id);
+                if (docId != null && viewCounts[docId] != NO_VALUE) {
+                    viewCounts[docId] += delta;
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long jobPostingId) {
+        lock.writeLock().lock();
+        try {
+            deleteDoc(jobPostingId);
+            if (deletedCount > COMPACTION_THRESHOLD && deletedCount > docCount / 2) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 용어별 posting list의 교집합을 구합니다. 검색어가 없으면 null을 반환합니다.
+     */
+    private int[] matchTerms(Set<String> terms) {
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        List<IntPostingList> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            IntPostingList list = postings.get(term);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        // 가장 짧은 목록부터 교집합을 구해 비교 횟수를 줄입니다.
+        lists.sort(Comparator.comparingInt(IntPostingList::size));
+
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = IntPostingList.intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private boolean matchesFilters(int docId, String keywordLower, String locationLower, Integer minSalary, Integer maxSalary,
+                                   Integer minExperience, Integer maxExperience, Long jobCategoryId) {
+        // 용어 교집합은 후보일 뿐이므로 제목, 내용, 회사명 중 하나에 검색어가 그대로 포함되는지 확인
+        if (keywordLower != null && !titles[docId].contains(keywordLower)
+                && !contents[docId].contains(keywordLower) && !companyNames[docId].contains(keywordLower)) {
+            return false;
+        }
+        if (locationLower != null && (locations[docId] == null || !locations[docId].contains(locationLower))) {
+            return false;
+        }
+        if (!inRange(salaries[docId], minSalary, maxSalary)) {
+            return false;
+        }
+        if (!inRange(experiences[docId], minExperience, maxExperience)) {
+            return false;
+        }
+        return jobCategoryId == null || categoryIds[docId] == jobCategoryId;
+    }
+
+    // SQL과 동일하게 값이 NULL이면 범위 조건을 만족하지 않습니다.
+    private static boolean inRange(long value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        if (value == NO_VALUE) {
+            return false;
+        }
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    /**
+     * JobPostingRepositoryImpl.getOrderSpecifiers와 동일한 정렬 규칙을 적용합니다.
+     * 동일한 값은 ID 역순으로 정렬하여 페이지 간 순서를 고정합니다.
+     */
+    private Comparator<Integer> comparator(Sort sort) {
+        Comparator<Integer> comparator = null;
+        if (sort.isEmpty()) {
+            comparator = Comparator.comparingLong((Integer docId) -> createDates[docId]).reversed();
+        } else {
+            for (Sort.Order order : sort) {
+                long[] keys = sortKeys(order.getProperty());
+                Comparator<Integer> next = keys != null
+                        ? Comparator.comparingLong((Integer docId) -> keys[docId])
+                        : Comparator.comparingLong((Integer docId) -> createDates[docId]).reversed();
+                if (keys != null && order.isDescending()) {
+                    next = next.reversed();
+                }
+                comparator = comparator == null ? next : comparator.thenComparing(next);
+            }
+        }
+        return comparator.thenComparing(Comparator.comparingLong((Integer docId) -> postingIds[docId]).reversed());
+    }
+
+    private long[] sortKeys(String property) {
+        return switch (property) {
+            case "createDate" -> createDates;
+            case "viewCount" -> viewCounts;
+            case "deadline" -> deadlines;
+            case "salary" -> salaries;
+            case "requiredExperienceYears" -> experiences;
+            default -> null; // 알 수 없는 정렬 필드는 기본 정렬(최신순) 사용
+        };
+    }
+
+    private List<JobPosting> hydrate(long[] ids) {
+        if (ids.length == 0) {
+            return List.of();
+        }
+        List<Long> idList = Arrays.stream(ids).boxed().collect(Collectors.toList());
+        Map<Long, JobPosting> byId = jobPostingRepository.findAllWithCompanyUserByIdIn(idList).stream()
+                .collect(Collectors.toMap(JobPosting::getId, Function.identity()));
+
+        List<JobPosting> content = new ArrayList<>(ids.length);
+        for (Long id : idList) {
+            JobPosting jobPosting = byId.get(id);
+            if (jobPosting != null) { // 검색 직후 삭제된 공고는 제외
+                content.add(jobPosting);
+            }
+        }
+        return content;
+    }
+
+    private void deleteDoc(Long jobPostingId) {
+        Integer docId = docIdByPostingId.remove(jobPostingId);
+        if (docId != null) {
+            liveDocs.clear(docId);
+            deletedCount++;
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서를 제거하고 문서 번호를 다시 부여합니다.
+     */
+    private void compact() {
+        int[] newDocIds = new int[docCount];
+        int next = 0;
+        for (int docId = 0; docId < docCount; docId++) {
+            if (liveDocs.get(docId)) {
+                postingIds[next] = postingIds[docId];
+                salaries[next] = salaries[docId];
+                experiences[next] = experiences[docId];
+                categoryIds[next] = categoryIds[docId];
+                createDates[next] = createDates[docId];
+                viewCounts[next] = viewCounts[docId];
+                deadlines[next] = deadlines[docId];
+                locations[next] = locations[docId];
+                titles[next] = titles[docId];
+                contents[next] = contents[docId];
+                companyNames[next] = companyNames[docId];
+                newDocIds[docId] = next++;
+            } else {
+                newDocIds[docId] = -1;
+            }
+        }
+        Arrays.fill(locations, next, docCount, null);
+        Arrays.fill(titles, next, docCount, null);
+        Arrays.fill(contents, next, docCount, null);
+        Arrays.fill(companyNames, next, docCount, null);
+
+        Iterator<IntPostingList> iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            IntPostingList list = iterator.next();
+            list.remap(newDocIds);
+            if (list.size() == 0) {
+                iterator.remove();
+            }
+        }
+
+        docIdByPostingId.replaceAll((postingId, docId) -> newDocIds[docId]);
+        liveDocs.clear();
+        liveDocs.set(0, next);
+        log.debug("검색 색인 압축: {} → {} 문서", docCount, next);
+        docCount = next;
+        deletedCount = 0;
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docIdByPostingId.clear();
+            liveDocs.clear();
+            Arrays.fill(locations, null);
+            Arrays.fill(titles, null);
+            Arrays.fill(contents, null);
+            Arrays.fill(companyNames, null);
+            docCount = 0;
+            deletedCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= postingIds.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, postingIds.length << 1);
+        postingIds = Arrays.copyOf(postingIds, newLength);
+        salaries = Arrays.copyOf(salaries, newLength);
+        experiences = Arrays.copyOf(experiences, newLength);
+        categoryIds = Arrays.copyOf(categoryIds, newLength);
+        createDates = Arrays.copyOf(createDates, newLength);
+        viewCounts = Arrays.copyOf(viewCounts, newLength);
+        deadlines = Arrays.copyOf(deadlines, newLength);
+        locations = Arrays.copyOf(locations, newLength);
+        titles = Arrays.copyOf(titles, newLength);
+        contents = Arrays.copyOf(contents, newLength);
+        companyNames = Arrays.copyOf(companyNames, newLength);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
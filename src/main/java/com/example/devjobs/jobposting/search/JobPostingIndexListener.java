@@ -0,0 +1,22 @@
+package com.example.devjobs.jobposting.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 채용공고 변경을 커밋 후에 검색 색인에 반영합니다.
+ * 롤백된 변경이 색인에 남거나(유령 문서), 커밋 전 값이 색인되지 않도록 트랜잭션 안에서는 색인하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobPostingIndexListener {
+
+    private final JobPostingSearchEngine jobPostingSearchEngine;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChanged(JobPostingsChangedEvent event) {
+        jobPostingSearchEngine.refresh(event.jobPostingIds());
+    }
+}
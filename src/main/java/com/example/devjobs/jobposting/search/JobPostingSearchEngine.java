@@ -0,0 +1,59 @@
+package com.example.devjobs.jobposting.search;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.SearchCountMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 채용공고 검색 엔진.
+ * app.search.engine 설정값(index, querydsl)에 따라 구현체가 선택됩니다.
+ */
+public interface JobPostingSearchEngine {
+
+    Page<JobPosting> search(
+            String keyword,
+            String location,
+            Integer minSalary,
+            Integer maxSalary,
+            Integer minExperience,
+            Integer maxExperience,
+            Long jobCategoryId,
+            Pageable pageable
+    );
+
+    /**
+     * 전체 건수 계산 방식을 지정하여 검색합니다. 건수 계산 비용이 없는 구현체는 방식을 무시합니다.
+     */
+    default Page<JobPosting> search(
+            String keyword, String location, Integer minSalary, Integer maxSalary,
+            Integer minExperience, Integer maxExperience, Long jobCategoryId, Pageable pageable,
+            SearchCountMode countMode) {
+        return search(keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId, pageable);
+    }
+
+    /**
+     * 채용공고를 색인에 추가하거나 갱신합니다. 활성 상태가 아닌 공고는 색인에서 제거됩니다.
+     */
+    void index(JobPosting jobPosting);
+
+    /**
+     * 채용공고를 색인에서 제거합니다.
+     */
+    void remove(Long jobPostingId);
+
+    /**
+     * 커밋된 채용공고를 DB에서 다시 읽어 색인에 반영합니다. 없어졌거나 활성 상태가 아닌 공고는 제거됩니다.
+     * 트랜잭션 안의 변경은 {@link JobPostingsChangedEvent}로 발행하여 커밋 후 이 메서드로 반영합니다.
+     */
+    void refresh(Collection<Long> jobPostingIds);
+
+    /**
+     * DB에 반영된 조회수 증가분(공고 ID → 증가량)을 조회수 정렬 값에 더합니다.
+     */
+    default void addViews(Map<Long, Long> views) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.devjobs.jobposting.search;
+
+import java.util.List;
+
+/**
+ * 채용공고가 생성, 수정, 삭제되었을 때 발행되는 이벤트입니다. 색인에 반영할 공고 ID 목록을 담습니다.
+ */
+public record JobPostingsChangedEvent(List<Long> jobPostingIds) {
+
+    public static JobPostingsChangedEvent of(Long jobPostingId) {
+        return new JobPostingsChangedEvent(List.of(jobPostingId));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.devjobs.jobposting.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글을 고려한 검색어 분해기입니다.
+ * - 한글 구간: 음절 단위 unigram + bigram ("백엔드" → 백, 엔, 드, 백엔, 엔드)
+ * - 영문/숫자 구간: 소문자로 변환한 뒤 같은 방식으로 unigram + bigram ("Java" → j, a, v, ja, av, va)
+ * - 그 외 문자(공백, 기호)는 구분자로 취급합니다.
+ * 검색어는 구간이 두 글자 이상이면 bigram만 사용하여 교집합 대상 목록 수를 줄입니다.
+ * 부분 문자열 검색어의 용어는 항상 문서 용어에 포함되므로 교집합은 LIKE 결과의 상위 집합이며,
+ * 정확한 일치 여부는 검색 엔진이 원문으로 다시 확인합니다.
+ */
+public final class KoreanNgramTokenizer {
+
+    private KoreanNgramTokenizer() {
+    }
+
+    public static Set<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    public static Set<String> tokenizeQuery(String text) {
+        return tokenize(text, true);
+    }
+
+    private static Set<String> tokenize(String text, boolean query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        int length = text.length();
+        int start = 0;
+        while (start < length) {
+            char c = text.charAt(start);
+            if (isHangul(c)) {
+                int end = start;
+                while (end < length && isHangul(text.charAt(end))) {
+                    end++;
+                }
+                addGrams(text.substring(start, end), query, terms);
+                start = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = start;
+                while (end < length && !isHangul(text.charAt(end)) && Character.isLetterOrDigit(text.charAt(end))) {
+                    end++;
+                }
+                addGrams(text.substring(start, end).toLowerCase(Locale.ROOT), query, terms);
+                start = end;
+            } else {
+                start++;
+            }
+        }
+        return terms;
+    }
+
+    private static void addGrams(String run, boolean query, Set<String> terms) {
+        int length = run.length();
+        boolean bigramOnly = query && length > 1;
+        for (int i = 0; i < length; i++) {
+            if (!bigramOnly) {
+                terms.add(String.valueOf(run.charAt(i)));
+            }
+            if (i + 1 < length) {
+                terms.add(run.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣')   // 완성형 음절
+                || (c >= 'ᄀ' && c <= 'ᇿ') // 자모
+                || (c >= '㄰' && c <= '㆏'); // 호환 자모
+    }
+}
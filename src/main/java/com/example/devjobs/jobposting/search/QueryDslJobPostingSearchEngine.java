@@ -0,0 +1,59 @@
+package com.example.devjobs.jobposting.search;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.jobposting.repository.SearchCountMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 기존 QueryDSL(LIKE) 검색을 그대로 사용하는 대체 모드입니다 (app.search.engine=querydsl).
+ * 별도의 색인을 유지하지 않으며, index/remove 시점에는 검색 건수 캐시만 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "querydsl")
+public class QueryDslJobPostingSearchEngine implements JobPostingSearchEngine {
+
+    private final JobPostingRepository jobPostingRepository;
+    private final JobPostingCountCache countCache;
+
+    @Override
+    public Page<JobPosting> search(
+            String keyword, String location, Integer minSalary, Integer maxSalary,
+            Integer minExperience, Integer maxExperience, Long jobCategoryId, Pageable pageable) {
+        return search(keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId,
+                pageable, SearchCountMode.EXACT);
+    }
+
+    @Override
+    public Page<JobPosting> search(
+            String keyword, String location, Integer minSalary, Integer maxSalary,
+            Integer minExperience, Integer maxExperience, Long jobCategoryId, Pageable pageable,
+            SearchCountMode countMode) {
+        return jobPostingRepository.search(
+                keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId,
+                pageable, countMode);
+    }
+
+    @Override
+    public void index(JobPosting jobPosting) {
+        countCache.invalidateAll();
+    }
+
+    @Override
+    public void remove(Long jobPostingId) {
+        countCache.invalidateAll();
+    }
+
+    @Override
+    public void refresh(Collection<Long> jobPostingIds) {
+        countCache.invalidateAll();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.devjobs.jobposting.service;
+
+import com.example.devjobs.jobposting.dto.JobPostingResponse;
+import com.example.devjobs.common.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 채용공고 상세 응답 캐시입니다 (Caffeine, W-TinyLFU).
+ * 공고 수정/삭제/마감, 회사 정보 변경 시 무효화되며, 조회수는 캐시 시점의 값이므로
+ * 미반영 조회수는 호출하는 쪽에서 더해야 합니다.
+ */
+@Component
+public class JobPostingDetailCache {
+
+    private final Cache<Long, JobPostingResponse.Detail> cache;
+
+    public JobPostingDetailCache(@Value("${app.jobposting.detail-cache.max-size:10000}") long maxSize,
+                                 @Value("${app.jobposting.detail-cache.ttl-seconds:600}") long ttlSeconds,
+                                 MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry,
+                cache, "jobPostingDetail");
+    }
+
+    public JobPostingResponse.Detail get(Long jobPostingId, Function<Long, JobPostingResponse.Detail> loader) {
+        return cache.get(jobPostingId, loader);
+    }
+
+    /**
+     * 공고를 캐시에서 제거합니다. 트랜잭션 안에서 호출되면 커밋 직후에 한 번 더 제거하여,
+     * 커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우를 막습니다.
+     */
+    public void evict(Long jobPostingId) {
+        AfterCommit.runNowAndAgain(() -> cache.invalidate(jobPostingId));
+    }
+
+    /**
+     * 회사 정보가 바뀌면 해당 회사의 공고 상세를 모두 제거합니다.
+     */
+    public void evictByCompany(Long companyUserId) {
+        AfterCommit.runNowAndAgain(() -> cache.asMap().values()
+                .removeIf(detail -> companyUserId.equals(detail.getCompanyInfo().getCompanyId())));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -2,8 +2,10 @@ package com.example.devjobs.jobposting.service;
 
 import com.example.devjobs.jobposting.dto.JobPostingRequest;
 import com.example.devjobs.jobposting.dto.JobPostingResponse;
+import com.example.devjobs.jobposting.repository.SearchCountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import java.util.List;
 
 public interface JobPostingService {
@@ -24,7 +26,21 @@ public interface JobPostingService {
             Integer minExperience,
             Integer maxExperience,
             Long jobCategoryId,
-            Pageable pageable
+            Pageable pageable,
+            SearchCountMode countMode
+    );
+    
+    JobPostingResponse.CursorSlice scrollJobPostings(
+            String keyword,
+            String location,
+            Integer minSalary,
+            Integer maxSalary,
+            Integer minExperience,
+            Integer maxExperience,
+            Long jobCategoryId,
+            String cursor,
+            int size,
+            Sort sort
     );
     
     List<JobPostingResponse.Simple> getCompanyJobPostings(Long companyUserId);
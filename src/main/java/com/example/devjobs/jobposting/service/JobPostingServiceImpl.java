@@ -5,16 +5,24 @@ import com.example.devjobs.jobcategory.repository.JobCategoryRepository;
 import com.example.devjobs.jobposting.dto.JobPostingRequest;
 import com.example.devjobs.jobposting.dto.JobPostingResponse;
 import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCursor;
 import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.jobposting.repository.SearchCountMode;
+import com.example.devjobs.jobposting.search.JobPostingSearchEngine;
+import com.example.devjobs.jobposting.search.JobPostingsChangedEvent;
 import com.example.devjobs.user.entity.CompanyUser;
 import com.example.devjobs.user.repository.UserRepository;
 import com.example.devjobs.user.repository.CompanyUserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -30,6 +38,12 @@ public class JobPostingServiceImpl implements JobPostingService {
     private final UserRepository userRepository;
     private final CompanyUserRepository companyUserRepository;
     private final JobCategoryRepository jobCategoryRepository; // 의존성 추가
+    private final JobPostingSearchEngine jobPostingSearchEngine;
+    private final JobPostingViewCounter jobPostingViewCounter;
+    private final JobPostingDetailCache jobPostingDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_SCROLL_SIZE = 100;
 
     @Override
     public JobPostingResponse.Detail createJobPosting(JobPostingRequest.Create request, Long companyUserId) {
@@ -51,31 +65,71 @@ public class JobPostingServiceImpl implements JobPostingService {
                 .build();
 
         JobPosting savedJobPosting = jobPostingRepository.save(jobPosting);
+        // 검색 색인은 커밋 후 JobPostingIndexListener가 반영
+        eventPublisher.publishEvent(JobPostingsChangedEvent.of(savedJobPosting.getId()));
         return JobPostingResponse.Detail.from(savedJobPosting);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 캐시 적중 시 커넥션을 잡지 않도록
     public JobPostingResponse.Detail getJobPosting(Long postId) {
-        JobPosting jobPosting = findJobPostingById(postId);
-        // 조회수 증가
-        jobPosting.increaseViewCount();
-        jobPostingRepository.save(jobPosting);
-        return JobPostingResponse.Detail.from(jobPosting);
+        JobPostingResponse.Detail detail = jobPostingDetailCache.get(postId, id -> JobPostingResponse.Detail.from(
+                jobPostingRepository.findWithCompanyUserById(id)
+                        .orElseThrow(() -> new EntityNotFoundException("Job posting not found with id: " + id))));
+        // 조회수 증가 (메모리에 누적 후 JobPostingViewCounter가 주기적으로 반영)
+        jobPostingViewCounter.increment(postId);
+        return detail.toBuilder()
+                .viewCount(detail.getViewCount() + jobPostingViewCounter.pendingCount(postId))
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<JobPostingResponse.Simple> searchJobPostings(
             String keyword, String location, Integer minSalary, Integer maxSalary,
-            Integer minExperience, Integer maxExperience, Long jobCategoryId, Pageable pageable) {
+            Integer minExperience, Integer maxExperience, Long jobCategoryId, Pageable pageable,
+            SearchCountMode countMode) {
 
-        return jobPostingRepository.search(
+        return jobPostingSearchEngine.search(
                         keyword, location, minSalary, maxSalary,
-                        minExperience, maxExperience, jobCategoryId, pageable)
+                        minExperience, maxExperience, jobCategoryId, pageable, countMode)
                 .map(JobPostingResponse.Simple::from);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public JobPostingResponse.CursorSlice scrollJobPostings(
+            String keyword, String location, Integer minSalary, Integer maxSalary,
+            Integer minExperience, Integer maxExperience, Long jobCategoryId,
+            String cursor, int size, Sort sort) {
+
+        Sort.Order order = JobPostingCursor.resolveOrder(sort);
+        JobPostingCursor decodedCursor = null;
+        if (cursor != null && !cursor.isBlank()) {
+            decodedCursor = JobPostingCursor.decode(cursor);
+            if (!decodedCursor.matches(order)) {
+                throw new IllegalArgumentException("커서와 정렬 조건이 일치하지 않습니다.");
+            }
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+
+        Slice<JobPosting> slice = jobPostingRepository.searchByCursor(
+                keyword, location, minSalary, maxSalary, minExperience, maxExperience, jobCategoryId,
+                decodedCursor, order, pageSize);
+
+        List<JobPosting> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? JobPostingCursor.of(content.get(content.size() - 1), order).encode()
+                : null;
+
+        return JobPostingResponse.CursorSlice.builder()
+                .content(content.stream().map(JobPostingResponse.Simple::from).collect(Collectors.toList()))
+                .size(pageSize)
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Override
     public JobPostingResponse.Detail updateJobPosting(Long postId, JobPostingRequest.Update request, Long companyUserId) {
         JobPosting jobPosting = findJobPostingById(postId);
@@ -84,6 +138,8 @@ public class JobPostingServiceImpl implements JobPostingService {
         updateFields(jobPosting, request);
 
         JobPosting updatedJobPosting = jobPostingRepository.save(jobPosting);
+        eventPublisher.publishEvent(JobPostingsChangedEvent.of(postId));
+        jobPostingDetailCache.evict(postId);
         return JobPostingResponse.Detail.from(updatedJobPosting);
     }
 
@@ -92,6 +148,8 @@ public class JobPostingServiceImpl implements JobPostingService {
         JobPosting jobPosting = findJobPostingById(postId);
         validateOwner(jobPosting, companyUserId);
         jobPostingRepository.delete(jobPosting);
+        eventPublisher.publishEvent(JobPostingsChangedEvent.of(postId));
+        jobPostingDetailCache.evict(postId);
     }
 
     private JobPosting findJobPostingById(Long postId) {
@@ -0,0 +1,181 @@
+package com.example.devjobs.jobposting.service;
+
+import com.example.devjobs.jobposting.search.JobPostingSearchEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채용공고 조회수 쓰기 지연(write-behind) 카운터입니다.
+ * 상세 조회마다 행을 UPDATE하지 않고 메모리에 누적한 뒤, 주기적으로 묶어서 DB에 반영합니다.
+ */
+@Slf4j
+@Component
+public class JobPostingViewCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE job_postings SET view_count = view_count + ? WHERE job_posting_id = ?";
+
+    private final Map<Long, ViewCount> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobPostingDetailCache jobPostingDetailCache;
+    private final JobPostingSearchEngine jobPostingSearchEngine;
+    private final Timer flushTimer;
+    private final Counter flushedViews;
+    private final Counter failedFlushes;
+
+    public JobPostingViewCounter(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 JobPostingDetailCache jobPostingDetailCache,
+                                 JobPostingSearchEngine jobPostingSearchEngine,
+                                 MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.jobPostingDetailCache = jobPostingDetailCache;
+        this.jobPostingSearchEngine = jobPostingSearchEngine;
+        this.flushTimer = Timer.builder("jobposting.viewcount.flush")
+                .description("조회수 반영 소요 시간")
+                .register(registry);
+        this.flushedViews = Counter.builder("jobposting.viewcount.flushed")
+                .description("DB에 반영된 조회수")
+                .register(registry);
+        this.failedFlushes = Counter.builder("jobposting.viewcount.flush.failures")
+                .description("조회수 반영 실패 횟수")
+                .register(registry);
+        registry.gaugeMapSize("jobposting.viewcount.pending", List.of(), pending);
+    }
+
+    public void increment(Long jobPostingId) {
+        while (!pending.computeIfAbsent(jobPostingId, id -> new ViewCount()).tryIncrement()) {
+            Thread.onSpinWait(); // 제거 중인 카운터이므로 새 카운터로 다시 시도
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수입니다.
+     */
+    public long pendingCount(Long jobPostingId) {
+        ViewCount viewCount = pending.get(jobPostingId);
+        return viewCount != null ? viewCount.views.sum() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("조회수 반영 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 누적된 조회수를 한 번의 배치 UPDATE로 반영합니다.
+     * 반영 중 들어온 조회는 다음 주기에 반영되며, 실패하면 차감한 값을 되돌립니다.
+     */
+    public synchronized int flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, ViewCount> entry : pending.entrySet()) {
+            ViewCount viewCount = entry.getValue();
+            long delta = viewCount.drain();
+            if (delta == 0) {
+                // 조회가 없는 카운터는 제거하고, 제거 직전에 들어온 증가분을 마저 거둡니다.
+                pending.remove(entry.getKey(), viewCount);
+                delta = viewCount.retire();
+            }
+            if (delta != 0) {
+                deltas.merge(entry.getKey(), delta, Long::sum);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batch = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch)));
+        } catch (RuntimeException e) {
+            failedFlushes.increment();
+            deltas.forEach((id, delta) -> {
+                while (!pending.computeIfAbsent(id, key -> new ViewCount()).tryAdd(delta)) {
+                    Thread.onSpinWait();
+                }
+            });
+            throw e;
+        }
+
+        // 캐시된 상세 응답의 조회수는 반영 전 값이므로 제거하여 다시 적재되게 합니다.
+        deltas.keySet().forEach(jobPostingDetailCache::evict);
+        // 검색 색인의 조회수 정렬 값도 DB와 같게 맞춥니다.
+        jobPostingSearchEngine.addViews(deltas);
+        long views = deltas.values().stream().mapToLong(Long::longValue).sum();
+        flushedViews.increment(views);
+        log.debug("조회수 반영 완료: 공고 {}건, 조회수 {}", batch.size(), views);
+        return batch.size();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        int flushed = flush();
+        log.info("종료 전 미반영 조회수 반영: 공고 {}건", flushed);
+    }
+
+    /**
+     * 공고별 조회수 카운터입니다.
+     * 제거(retire)와 증가가 겹쳐도 증가분이 유실되거나 중복 반영되지 않도록,
+     * 증가 중인 요청 수(inFlight)와 제거 여부를 서로 교차 확인합니다.
+     */
+    private static final class ViewCount {
+
+        private final LongAdder views = new LongAdder();
+        private final LongAdder inFlight = new LongAdder();
+        private volatile boolean retired;
+
+        boolean tryIncrement() {
+            return tryAdd(1L);
+        }
+
+        boolean tryAdd(long delta) {
+            inFlight.increment();
+            try {
+                if (retired) {
+                    return false;
+                }
+                views.add(delta);
+                return true;
+            } finally {
+                inFlight.decrement();
+            }
+        }
+
+        // reset 대신 읽은 만큼만 차감하여 동시에 들어온 증가분을 잃지 않습니다.
+        long drain() {
+            long delta = views.sum();
+            views.add(-delta);
+            return delta;
+        }
+
+        long retire() {
+            retired = true;
+            while (inFlight.sum() != 0) {
+                Thread.onSpinWait();
+            }
+            return drain();
+        }
+    }
+}
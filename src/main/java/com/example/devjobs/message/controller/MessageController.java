@@ -1,10 +1,15 @@
 package com.example.devjobs.message.controller;
 
 import com.example.devjobs.common.ApiResponse;
+import com.example.devjobs.message.dto.ConversationResponse;
+import com.example.devjobs.message.dto.MarkAsReadResponse;
+import com.example.devjobs.message.dto.MarkMessagesReadRequest;
 import com.example.devjobs.message.dto.MessageResponse;
+import com.example.devjobs.message.dto.MessageSummaryResponse;
 import com.example.devjobs.message.dto.SendMessageRequest;
+import com.example.devjobs.message.service.ConversationService;
 import com.example.devjobs.message.service.MessageService;
-import com.example.devjobs.user.entity.User;
+import com.example.devjobs.message.service.UnreadMessageCountCache;
 import com.example.devjobs.user.service.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +24,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,6 +36,8 @@ import java.util.Map;
 public class MessageController {
     
     private final MessageService messageService;
+    private final ConversationService conversationService;
+    private final UnreadMessageCountCache unreadMessageCountCache;
     
     @Operation(summary = "쪽지 보내기", description = "다른 사용자에게 쪽지를 보냅니다.")
     @ApiResponses({
@@ -42,8 +50,7 @@ public class MessageController {
     public ApiResponse<MessageResponse> sendMessage(
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
             @Valid @RequestBody SendMessageRequest request) {
-        User user = userDetails.getUser();
-        MessageResponse response = messageService.sendMessage(user, request);
+        MessageResponse response = messageService.sendMessage(userDetails.getUserId(), request);
         return ApiResponse.success(response);
     }
     
@@ -53,11 +60,10 @@ public class MessageController {
     })
     @SecurityRequirement(name = "JWT")
     @GetMapping("/received")
-    public ApiResponse<Page<MessageResponse>> getReceivedMessages(
+    public ApiResponse<Page<MessageSummaryResponse>> getReceivedMessages(
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
             @Parameter(description = "페이지 정보") @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        User user = userDetails.getUser();
-        Page<MessageResponse> messages = messageService.getReceivedMessages(user, pageable);
+        Page<MessageSummaryResponse> messages = messageService.getReceivedMessages(userDetails.getUserId(), pageable);
         return ApiResponse.success(messages);
     }
     
@@ -67,24 +73,56 @@ public class MessageController {
     })
     @SecurityRequirement(name = "JWT")
     @GetMapping("/sent")
-    public ApiResponse<Page<MessageResponse>> getSentMessages(
+    public ApiResponse<Page<MessageSummaryResponse>> getSentMessages(
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
             @Parameter(description = "페이지 정보") @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        User user = userDetails.getUser();
-        Page<MessageResponse> messages = messageService.getSentMessages(user, pageable);
+        Page<MessageSummaryResponse> messages = messageService.getSentMessages(userDetails.getUserId(), pageable);
         return ApiResponse.success(messages);
     }
     
-    @Operation(summary = "읽지 않은 쪽지 개수 조회", description = "읽지 않은 쪽지의 개수를 조회합니다.")
+    @Operation(summary = "내 대화 목록 조회", description = "로그인한 사용자의 대화 목록을 최근 메시지 순으로 조회합니다.")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
     })
     @SecurityRequirement(name = "JWT")
+    @GetMapping("/conversations")
+    public ApiResponse<Page<ConversationResponse>> getMyConversations(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @Parameter(description = "페이지 정보") @PageableDefault(size = 20) Pageable pageable) {
+        Page<ConversationResponse> conversations = conversationService.getMyConversations(userDetails.getUserId(), pageable);
+        return ApiResponse.success(conversations);
+    }
+    
+    @Operation(summary = "대화 메시지 조회", description = "대화방의 메시지 목록을 최신순으로 조회합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "대화를 찾을 수 없음")
+    })
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/conversations/{conversationId}")
+    public ApiResponse<Page<MessageResponse>> getConversationMessages(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @Parameter(description = "대화 ID") @PathVariable Long conversationId,
+            @Parameter(description = "페이지 정보") @PageableDefault(size = 20) Pageable pageable) {
+        Page<MessageResponse> messages = conversationService.getMessages(userDetails.getUserId(), conversationId, pageable);
+        return ApiResponse.success(messages);
+    }
+    
+    @Operation(summary = "읽지 않은 쪽지 개수 조회", description = "읽지 않은 쪽지의 개수를 조회합니다. If-None-Match를 지원합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음")
+    })
+    @SecurityRequirement(name = "JWT")
     @GetMapping("/unread-count")
     public ApiResponse<Map<String, Long>> getUnreadCount(
-            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        User user = userDetails.getUser();
-        Long count = messageService.getUnreadCount(user);
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        Long count = unreadMessageCountCache.get(userDetails.getUserId());
+        // 개수가 그대로면 If-None-Match와 ETag가 같으므로 본문 없이 304 응답
+        if (webRequest.checkNotModified("\"unread-" + count + "\"")) {
+            return null;
+        }
         Map<String, Long> response = new HashMap<>();
         response.put("count", count);
         return ApiResponse.success(response);
@@ -101,8 +139,7 @@ public class MessageController {
     public ApiResponse<MessageResponse> getMessage(
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
             @Parameter(description = "쪽지 ID") @PathVariable Long messageId) {
-        User user = userDetails.getUser();
-        MessageResponse message = messageService.getMessage(user, messageId);
+        MessageResponse message = messageService.getMessage(userDetails.getUserId(), messageId);
         return ApiResponse.success(message);
     }
     
@@ -117,8 +154,43 @@ public class MessageController {
     public ApiResponse<Void> markAsRead(
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
             @Parameter(description = "쪽지 ID") @PathVariable Long messageId) {
-        User user = userDetails.getUser();
-        messageService.markAsRead(user, messageId);
+        messageService.markAsRead(userDetails.getUserId(), messageId);
         return ApiResponse.success();
     }
+    
+    @Operation(summary = "받은 쪽지 모두 읽음 처리", description = "받은 쪽지를 모두 읽음으로 처리하고 남은 읽지 않은 쪽지 수를 반환합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "읽음 처리 성공")
+    })
+    @SecurityRequirement(name = "JWT")
+    @PatchMapping("/read-all")
+    public ApiResponse<MarkAsReadResponse> markAllAsRead(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ApiResponse.success(messageService.markAllAsRead(userDetails.getUserId()));
+    }
+    
+    @Operation(summary = "대화 읽음 처리", description = "대화방에서 받은 쪽지를 모두 읽음으로 처리하고 남은 읽지 않은 쪽지 수를 반환합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "읽음 처리 성공")
+    })
+    @SecurityRequirement(name = "JWT")
+    @PatchMapping("/conversations/{conversationId}/read")
+    public ApiResponse<MarkAsReadResponse> markConversationAsRead(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @Parameter(description = "대화 ID") @PathVariable Long conversationId) {
+        return ApiResponse.success(messageService.markConversationAsRead(userDetails.getUserId(), conversationId));
+    }
+    
+    @Operation(summary = "쪽지 여러 개 읽음 처리", description = "지정한 쪽지 중 본인이 받은 쪽지를 읽음으로 처리하고 남은 읽지 않은 쪽지 수를 반환합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "읽음 처리 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @SecurityRequirement(name = "JWT")
+    @PatchMapping("/read")
+    public ApiResponse<MarkAsReadResponse> markAsRead(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @Valid @RequestBody MarkMessagesReadRequest request) {
+        return ApiResponse.success(messageService.markAsRead(userDetails.getUserId(), request.getMessageIds()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.devjobs.message.dto;
+
+import com.example.devjobs.message.entity.Conversation;
+import com.example.devjobs.message.entity.ConversationParticipant;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ConversationResponse {
+    private Long conversationId;
+    private Long counterpartId;
+    private String counterpartName;
+    private String counterpartLoginId;
+    private Long jobPostingId;
+    private String jobPostingTitle;
+    private Long lastMessageId;
+    private String lastMessagePreview;
+    private LocalDateTime lastMessageAt;
+    private Integer unreadCount;
+
+    public static ConversationResponse from(ConversationParticipant participant) {
+        Conversation conversation = participant.getConversation();
+        return ConversationResponse.builder()
+                .conversationId(conversation.getId())
+                .counterpartId(participant.getCounterpart().getId())
+                .counterpartName(participant.getCounterpart().getName())
+                .counterpartLoginId(participant.getCounterpart().getLoginId())
+                .jobPostingId(conversation.getJobPosting() != null ? conversation.getJobPosting().getId() : null)
+                .jobPostingTitle(conversation.getJobPosting() != null ? conversation.getJobPosting().getTitle() : null)
+                .lastMessageId(conversation.getLastMessageId())
+                .lastMessagePreview(conversation.getLastMessagePreview())
+                .lastMessageAt(conversation.getLastMessageAt())
+                .unreadCount(participant.getUnreadCount())
+                .build();
+    }
+}
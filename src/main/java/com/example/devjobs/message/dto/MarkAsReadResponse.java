@@ -0,0 +1,11 @@
+package com.example.devjobs.message.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MarkAsReadResponse {
+    private Integer updatedCount;  // 이번 요청으로 읽음 처리된 메시지 수
+    private Long unreadCount;      // 처리 후 남은 읽지 않은 메시지 수
+}
@@ -0,0 +1,15 @@
+package com.example.devjobs.message.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MarkMessagesReadRequest {
+    
+    @NotEmpty(message = "메시지 ID 목록은 필수입니다.")
+    @Size(max = 1000, message = "한 번에 1000개까지 읽음 처리할 수 있습니다.")
+    private List<Long> messageIds;
+}
@@ -0,0 +1,31 @@
+package com.example.devjobs.message.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 받은/보낸 쪽지함 목록의 한 행입니다. 목록에 필요한 필드만 한 번의 쿼리로 조회하며,
+ * 내용은 앞부분(preview)만 담습니다. 전체 내용은 쪽지 상세 조회로 확인합니다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class MessageSummaryResponse {
+    public static final int PREVIEW_LENGTH = 100;
+
+    private Long messageId;
+    private Long senderId;
+    private String senderName;
+    private String senderLoginId;
+    private Long receiverId;
+    private String receiverName;
+    private String receiverLoginId;
+    private String preview;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+    private Long jobPostingId;
+    private String jobPostingTitle;
+}
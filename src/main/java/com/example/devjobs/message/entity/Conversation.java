@@ -0,0 +1,61 @@
+package com.example.devjobs.message.entity;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 두 사용자 간(채용공고별)의 대화방입니다. 마지막 메시지 정보를 함께 저장하여
+ * 대화 목록을 메시지 전체를 훑지 않고 조회할 수 있게 합니다.
+ */
+@Entity
+@Table(name = "conversations",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_conversations_key", columnNames = {"conversation_key"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Conversation {
+
+    public static final int PREVIEW_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "conversation_id")
+    private Long id;
+
+    // 참여자 ID(작은 값, 큰 값)와 채용공고 ID로 만든 키. 같은 대화가 두 번 생성되지 않도록 유니크 제약을 둡니다.
+    @Column(name = "conversation_key", nullable = false, length = 64)
+    private String conversationKey;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_posting_id")
+    private JobPosting jobPosting;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_preview", length = PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static String keyOf(Long userId1, Long userId2, Long jobPostingId) {
+        return Math.min(userId1, userId2) + ":" + Math.max(userId1, userId2) + ":" + (jobPostingId != null ? jobPostingId : 0);
+    }
+
+    public static String previewOf(String content) {
+        return content.length() <= PREVIEW_LENGTH ? content : content.substring(0, PREVIEW_LENGTH);
+    }
+}
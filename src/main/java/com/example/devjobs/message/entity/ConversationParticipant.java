@@ -0,0 +1,53 @@
+package com.example.devjobs.message.entity;
+
+import com.example.devjobs.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화방의 참여자별 상태(읽지 않은 메시지 수, 마지막 메시지 시각)입니다.
+ * 사용자별 대화 목록은 (user_id, last_message_at) 인덱스 하나로 조회합니다.
+ */
+@Entity
+@Table(name = "conversation_participants",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_conversation_participants", columnNames = {"conversation_id", "user_id"})
+    },
+    indexes = {
+        // 내 대화 목록 (ConversationParticipantRepository.findMyConversations)
+        @Index(name = "idx_conversation_participants_user_last", columnList = "user_id, last_message_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ConversationParticipant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "conversation_participant_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "conversation_id", nullable = false)
+    private Conversation conversation;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 대화 상대 (목록에 상대 이름을 보여주기 위함)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "counterpart_id", nullable = false)
+    private User counterpart;
+
+    @Column(name = "unread_count", nullable = false)
+    @Builder.Default
+    private Integer unreadCount = 0;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+}
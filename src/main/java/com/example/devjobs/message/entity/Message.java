@@ -9,7 +9,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+        // 받은/보낸 쪽지함 (MessageRepository.findReceivedSummaries, findSentSummaries)
+        @Index(name = "idx_messages_receiver_created", columnList = "receiver_id, created_at"),
+        @Index(name = "idx_messages_sender_created", columnList = "sender_id, created_at"),
+        // 대화방의 메시지 목록 (MessageRepository.findByConversationId)
+        @Index(name = "idx_messages_conversation_created", columnList = "conversation_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,6 +46,10 @@ public class Message {
     @JoinColumn(name = "job_posting_id")
     private JobPosting jobPosting;
     
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "conversation_id")
+    private Conversation conversation;
+    
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
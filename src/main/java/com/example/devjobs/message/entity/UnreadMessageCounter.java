@@ -0,0 +1,24 @@
+package com.example.devjobs.message.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 읽지 않은 메시지 수입니다. 메시지 전송/읽음 처리 시 UPDATE 한 번으로 증감하여
+ * 읽지 않은 메시지 수를 매번 COUNT로 세지 않게 합니다.
+ */
+@Entity
+@Table(name = "unread_message_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UnreadMessageCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount;
+}
@@ -0,0 +1,69 @@
+package com.example.devjobs.message.repository;
+
+import com.example.devjobs.message.entity.ConversationParticipant;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface ConversationParticipantRepository extends JpaRepository<ConversationParticipant, Long> {
+
+    // 내 대화 목록 (최근 메시지 순)
+    @Query(value = "SELECT p FROM ConversationParticipant p " +
+                   "JOIN FETCH p.conversation c JOIN FETCH p.counterpart LEFT JOIN FETCH c.jobPosting " +
+                   "WHERE p.user.id = :userId ORDER BY p.lastMessageAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM ConversationParticipant p WHERE p.user.id = :userId")
+    Page<ConversationParticipant> findMyConversations(@Param("userId") Long userId, Pageable pageable);
+
+    boolean existsByConversationIdAndUserId(Long conversationId, Long userId);
+
+    // 새 메시지 반영: 두 참여자의 마지막 메시지 시각을 갱신하고 수신자의 읽지 않은 수를 1 증가
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ConversationParticipant p SET " +
+           "p.unreadCount = CASE WHEN p.user.id = :receiverId THEN p.unreadCount + 1 ELSE p.unreadCount END, " +
+           "p.lastMessageAt = CASE WHEN p.lastMessageAt IS NULL OR p.lastMessageAt < :sentAt " +
+           "THEN :sentAt ELSE p.lastMessageAt END " +
+           "WHERE p.conversation.id = :conversationId")
+    int recordMessage(@Param("conversationId") Long conversationId,
+                      @Param("receiverId") Long receiverId,
+                      @Param("sentAt") LocalDateTime sentAt);
+
+    // 기존 메시지를 대화방에 연결한 뒤 두 참여자의 마지막 메시지 시각을 갱신 (더 최근 시각으로만 갱신)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ConversationParticipant p SET p.lastMessageAt = :sentAt " +
+           "WHERE p.conversation.id = :conversationId AND (p.lastMessageAt IS NULL OR p.lastMessageAt < :sentAt)")
+    int updateLastMessageAt(@Param("conversationId") Long conversationId, @Param("sentAt") LocalDateTime sentAt);
+
+    // 일괄 읽음 반영: 읽지 않은 수를 메시지 기준으로 다시 계산 (동시에 바뀐 건수도 정확히 반영)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ConversationParticipant p SET p.unreadCount = " +
+           "(SELECT COUNT(m) FROM Message m WHERE m.conversation = p.conversation AND m.receiver = p.user AND m.isRead = false) " +
+           "WHERE p.user.id = :userId")
+    int recountAllUnread(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ConversationParticipant p SET p.unreadCount = " +
+           "(SELECT COUNT(m) FROM Message m WHERE m.conversation = p.conversation AND m.receiver = p.user AND m.isRead = false) " +
+           "WHERE p.user.id = :userId AND p.conversation.id = :conversationId")
+    int recountUnread(@Param("userId") Long userId, @Param("conversationId") Long conversationId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ConversationParticipant p SET p.unreadCount = " +
+           "(SELECT COUNT(m) FROM Message m WHERE m.conversation = p.conversation AND m.receiver = p.user AND m.isRead = false) " +
+           "WHERE p.user.id = :userId AND p.conversation.id IN " +
+           "(SELECT m.conversation.id FROM Message m WHERE m.id IN :messageIds)")
+    int recountUnreadForMessages(@Param("userId") Long userId, @Param("messageIds") Collection<Long> messageIds);
+
+    // 메시지 읽음 반영: 읽지 않은 수를 1 감소
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ConversationParticipant p SET p.unreadCount = p.unreadCount - 1 " +
+           "WHERE p.conversation.id = :conversationId AND p.user.id = :userId AND p.unreadCount > 0")
+    int decrementUnread(@Param("conversationId") Long conversationId, @Param("userId") Long userId);
+}
@@ -0,0 +1,34 @@
+package com.example.devjobs.message.repository;
+
+import com.example.devjobs.message.entity.Conversation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ConversationRepository extends JpaRepository<Conversation, Long> {
+
+    // 같은 대화방에 동시에 메시지를 보내는 경우 마지막 메시지 갱신 순서를 맞추기 위해 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Conversation> findByConversationKey(String conversationKey);
+
+    // 잠금 없이 존재 여부만 확인 (없는 키를 잠그면 갭 잠금이 걸려 동시 생성이 교착될 수 있음)
+    boolean existsByConversationKey(String conversationKey);
+
+    // 마지막 메시지 갱신 (더 최근 메시지로만 갱신)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Conversation c SET c.lastMessageId = :messageId, c.lastMessagePreview = :preview, " +
+           "c.lastMessageAt = :sentAt " +
+           "WHERE c.id = :conversationId AND (c.lastMessageId IS NULL OR c.lastMessageId < :messageId)")
+    int updateLastMessage(@Param("conversationId") Long conversationId,
+                          @Param("messageId") Long messageId,
+                          @Param("preview") String preview,
+                          @Param("sentAt") LocalDateTime sentAt);
+}
@@ -1,31 +1,73 @@
 package com.example.devjobs.message.repository;
 
+import com.example.devjobs.message.dto.MessageSummaryResponse;
 import com.example.devjobs.message.entity.Message;
 import com.example.devjobs.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
     
-    // 받은 쪽지함
-    Page<Message> findByReceiverOrderByCreatedAtDesc(User receiver, Pageable pageable);
+    String SUMMARY_FIELDS = "m.id, s.id, s.name, s.loginId, r.id, r.name, r.loginId, " +
+            "SUBSTRING(m.content, 1, " + MessageSummaryResponse.PREVIEW_LENGTH + "), m.isRead, m.createdAt, j.id, j.title";
     
-    // 보낸 쪽지함
-    Page<Message> findBySenderOrderByCreatedAtDesc(User sender, Pageable pageable);
+    // 받은 쪽지함 (목록 표시 필드만 한 번에 조회, (receiver_id, created_at) 인덱스 사용)
+    @Query(value = "SELECT new com.example.devjobs.message.dto.MessageSummaryResponse(" + SUMMARY_FIELDS + ") " +
+                   "FROM Message m JOIN m.sender s JOIN m.receiver r LEFT JOIN m.jobPosting j " +
+                   "WHERE m.receiver.id = :receiverId ORDER BY m.createdAt DESC, m.id DESC",
+           countQuery = "SELECT COUNT(m) FROM Message m WHERE m.receiver.id = :receiverId")
+    Page<MessageSummaryResponse> findReceivedSummaries(@Param("receiverId") Long receiverId, Pageable pageable);
+    
+    // 보낸 쪽지함 (목록 표시 필드만 한 번에 조회, (sender_id, created_at) 인덱스 사용)
+    @Query(value = "SELECT new com.example.devjobs.message.dto.MessageSummaryResponse(" + SUMMARY_FIELDS + ") " +
+                   "FROM Message m JOIN m.sender s JOIN m.receiver r LEFT JOIN m.jobPosting j " +
+                   "WHERE m.sender.id = :senderId ORDER BY m.createdAt DESC, m.id DESC",
+           countQuery = "SELECT COUNT(m) FROM Message m WHERE m.sender.id = :senderId")
+    Page<MessageSummaryResponse> findSentSummaries(@Param("senderId") Long senderId, Pageable pageable);
     
     // 읽지 않은 쪽지 개수
     Long countByReceiverAndIsReadFalse(User receiver);
     
+    long countByReceiverIdAndIsReadFalse(Long receiverId);
+    
     // 특정 쪽지 조회 (권한 확인용)
-    @Query("SELECT m FROM Message m WHERE m.id = :messageId AND (m.sender = :user OR m.receiver = :user)")
-    Optional<Message> findByIdAndUser(@Param("messageId") Long messageId, @Param("user") User user);
+    @Query("SELECT m FROM Message m WHERE m.id = :messageId AND (m.sender.id = :userId OR m.receiver.id = :userId)")
+    Optional<Message> findByIdAndUserId(@Param("messageId") Long messageId, @Param("userId") Long userId);
+    
+    // 일괄 읽음 처리 (수신자 본인의 읽지 않은 메시지만)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Message m SET m.isRead = true WHERE m.receiver.id = :receiverId AND m.isRead = false")
+    int markAllAsRead(@Param("receiverId") Long receiverId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Message m SET m.isRead = true " +
+           "WHERE m.receiver.id = :receiverId AND m.isRead = false AND m.conversation.id = :conversationId")
+    int markConversationAsRead(@Param("receiverId") Long receiverId, @Param("conversationId") Long conversationId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Message m SET m.isRead = true " +
+           "WHERE m.receiver.id = :receiverId AND m.isRead = false AND m.id IN :messageIds")
+    int markAsReadByIds(@Param("receiverId") Long receiverId, @Param("messageIds") Collection<Long> messageIds);
+    
+    // 대화방의 메시지 목록 (conversation_id 인덱스 사용)
+    @EntityGraph(attributePaths = {"sender", "receiver", "jobPosting"})
+    Page<Message> findByConversationIdOrderByCreatedAtDescIdDesc(Long conversationId, Pageable pageable);
+    
+    // 대화방 도입 이전에 보낸 메시지 (ConversationBackfill)
+    boolean existsByConversationIsNull();
+    
+    List<Message> findByConversationIsNullOrderByIdAsc(Pageable pageable);
     
     // 두 사용자 간의 대화 조회 (특정 채용공고 관련)
     @Query("SELECT m FROM Message m WHERE m.jobPosting.id = :jobPostingId " +
@@ -0,0 +1,25 @@
+package com.example.devjobs.message.repository;
+
+import com.example.devjobs.message.entity.UnreadMessageCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UnreadMessageCounterRepository extends JpaRepository<UnreadMessageCounter, Long> {
+
+    // 카운터 생성 (이미 있으면 키 중복 예외)
+    @Modifying
+    @Query(value = "INSERT INTO unread_message_counters (user_id, unread_count) VALUES (:userId, :unreadCount)",
+           nativeQuery = true)
+    void insert(@Param("userId") Long userId, @Param("unreadCount") long unreadCount);
+
+    // 읽지 않은 수 증감 (0 미만으로 내려가지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UnreadMessageCounter c SET c.unreadCount = " +
+           "CASE WHEN c.unreadCount + :delta < 0 THEN 0 ELSE c.unreadCount + :delta END " +
+           "WHERE c.userId = :userId")
+    int add(@Param("userId") Long userId, @Param("delta") long delta);
+}
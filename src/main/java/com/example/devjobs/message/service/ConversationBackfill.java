@@ -0,0 +1,94 @@
+package com.example.devjobs.message.service;
+
+import com.example.devjobs.message.entity.Conversation;
+import com.example.devjobs.message.entity.Message;
+import com.example.devjobs.message.repository.ConversationParticipantRepository;
+import com.example.devjobs.message.repository.ConversationRepository;
+import com.example.devjobs.message.repository.MessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대화방 도입 이전에 보낸 메시지(대화방 없음)를 대화방에 연결합니다.
+ * 시작 시 그런 메시지가 있으면 batch-size개씩 나눠 각각의 트랜잭션으로 연결하고,
+ * 연결한 대화방의 마지막 메시지와 참여자별 읽지 않은 수를 메시지 기준으로 다시 계산합니다.
+ */
+@Slf4j
+@Component
+public class ConversationBackfill {
+
+    private final MessageRepository messageRepository;
+    private final ConversationRepository conversationRepository;
+    private final ConversationParticipantRepository participantRepository;
+    private final ConversationService conversationService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ConversationBackfill(MessageRepository messageRepository,
+                                ConversationRepository conversationRepository,
+                                ConversationParticipantRepository participantRepository,
+                                ConversationService conversationService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.message.conversation-backfill.batch-size:500}") int batchSize) {
+        this.messageRepository = messageRepository;
+        this.conversationRepository = conversationRepository;
+        this.participantRepository = participantRepository;
+        this.conversationService = conversationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            if (messageRepository.existsByConversationIsNull()) {
+                log.info("대화방이 없는 메시지가 있어 대화방에 연결합니다.");
+                log.info("대화방 연결 완료: {}건", backfill());
+            }
+        } catch (Exception e) {
+            log.error("메시지 대화방 연결 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 대화방이 없는 메시지를 모두 연결하고 연결한 메시지 수를 반환합니다.
+     */
+    public int backfill() {
+        int total = 0;
+        int linked;
+        while ((linked = transactionTemplate.execute(status -> linkBatch())) > 0) {
+            total += linked;
+        }
+        return total;
+    }
+
+    private int linkBatch() {
+        List<Message> messages = messageRepository.findByConversationIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+        // ID 순으로 처리하므로 대화방별로 마지막에 남는 메시지가 그 배치의 가장 최근 메시지
+        Map<Long, Message> lastMessages = new LinkedHashMap<>();
+        for (Message message : messages) {
+            Conversation conversation = conversationService.getOrCreate(
+                    message.getSender(), message.getReceiver(), message.getJobPosting());
+            message.setConversation(conversation);
+            lastMessages.put(conversation.getId(), message);
+        }
+        lastMessages.forEach((conversationId, message) -> {
+            conversationRepository.updateLastMessage(conversationId, message.getId(),
+                    Conversation.previewOf(message.getContent()), message.getCreatedAt());
+            participantRepository.updateLastMessageAt(conversationId, message.getCreatedAt());
+            participantRepository.recountUnread(message.getSender().getId(), conversationId);
+            participantRepository.recountUnread(message.getReceiver().getId(), conversationId);
+        });
+        return messages.size();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.devjobs.message.service;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.message.dto.ConversationResponse;
+import com.example.devjobs.message.dto.MessageResponse;
+import com.example.devjobs.message.entity.Conversation;
+import com.example.devjobs.message.entity.ConversationParticipant;
+import com.example.devjobs.message.entity.Message;
+import com.example.devjobs.message.repository.ConversationParticipantRepository;
+import com.example.devjobs.message.repository.ConversationRepository;
+import com.example.devjobs.message.repository.MessageRepository;
+import com.example.devjobs.user.entity.User;
+import com.example.devjobs.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * 대화방(Conversation)과 참여자별 상태를 관리합니다.
+ * 메시지 전송/읽음 처리와 같은 트랜잭션 안에서 호출되어 대화 목록 데이터를 함께 갱신합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ConversationService {
+
+    private final ConversationRepository conversationRepository;
+    private final ConversationParticipantRepository participantRepository;
+    private final MessageRepository messageRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 두 사용자 간(채용공고별) 대화방을 조회하고, 없으면 참여자 두 명과 함께 생성합니다.
+     * 생성은 ID가 작은 사용자 행을 잠가 직렬화하므로, 첫 메시지가 동시에 전송되어도
+     * 유니크 키 위반 없이 나중 요청이 먼저 만들어진 대화방을 사용합니다.
+     */
+    @Transactional
+    public Conversation getOrCreate(User sender, User receiver, JobPosting jobPosting) {
+        String key = Conversation.keyOf(sender.getId(), receiver.getId(), jobPosting != null ? jobPosting.getId() : null);
+        if (!conversationRepository.existsByConversationKey(key)) {
+            userRepository.findByIdForUpdate(Math.min(sender.getId(), receiver.getId()));
+        }
+        return conversationRepository.findByConversationKey(key).orElseGet(() -> {
+            Conversation conversation = conversationRepository.save(Conversation.builder()
+                    .conversationKey(key)
+                    .jobPosting(jobPosting)
+                    .build());
+            participantRepository.save(ConversationParticipant.builder()
+                    .conversation(conversation).user(sender).counterpart(receiver).build());
+            participantRepository.save(ConversationParticipant.builder()
+                    .conversation(conversation).user(receiver).counterpart(sender).build());
+            return conversation;
+        });
+    }
+
+    /**
+     * 전송된 메시지를 대화방의 마지막 메시지로 반영하고 수신자의 읽지 않은 수를 증가시킵니다.
+     */
+    @Transactional
+    public void onMessageSent(Message message) {
+        Long conversationId = message.getConversation().getId();
+        conversationRepository.updateLastMessage(conversationId, message.getId(),
+                Conversation.previewOf(message.getContent()), message.getCreatedAt());
+        participantRepository.recordMessage(conversationId, message.getReceiver().getId(), message.getCreatedAt());
+    }
+
+    /**
+     * 읽지 않은 메시지를 읽었을 때 수신자의 읽지 않은 수를 감소시킵니다.
+     * 대화방 도입 이전에 보낸 메시지(대화방 없음)는 무시합니다.
+     */
+    @Transactional
+    public void onMessageRead(Message message) {
+        if (message.getConversation() == null) {
+            return;
+        }
+        participantRepository.decrementUnread(message.getConversation().getId(), message.getReceiver().getId());
+    }
+
+    /**
+     * 메시지를 일괄 읽음 처리한 뒤 사용자의 대화방별 읽지 않은 수를 메시지 기준으로 다시 계산합니다.
+     * conversationId와 messageIds가 모두 null이면 사용자의 모든 대화방을 다시 계산합니다.
+     */
+    @Transactional
+    public void onMessagesRead(Long userId, Long conversationId, Collection<Long> messageIds) {
+        if (conversationId != null) {
+            participantRepository.recountUnread(userId, conversationId);
+        } else if (messageIds != null) {
+            participantRepository.recountUnreadForMessages(userId, messageIds);
+        } else {
+            participantRepository.recountAllUnread(userId);
+        }
+    }
+
+    // 내 대화 목록 (최근 메시지 순)
+    public Page<ConversationResponse> getMyConversations(Long userId, Pageable pageable) {
+        return participantRepository.findMyConversations(userId, pageable)
+                .map(ConversationResponse::from);
+    }
+
+    // 대화방의 메시지 목록 (참여자만 조회 가능)
+    public Page<MessageResponse> getMessages(Long userId, Long conversationId, Pageable pageable) {
+        if (!participantRepository.existsByConversationIdAndUserId(conversationId, userId)) {
+            throw new IllegalArgumentException("대화를 찾을 수 없습니다.");
+        }
+        return messageRepository.findByConversationIdOrderByCreatedAtDescIdDesc(conversationId, pageable)
+                .map(MessageResponse::from);
+    }
+}
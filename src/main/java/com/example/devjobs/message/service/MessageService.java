@@ -2,29 +2,48 @@ package com.example.devjobs.message.service;
 
 import com.example.devjobs.jobposting.entity.JobPosting;
 import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.message.dto.MarkAsReadResponse;
 import com.example.devjobs.message.dto.MessageResponse;
+import com.example.devjobs.message.dto.MessageSummaryResponse;
 import com.example.devjobs.message.dto.SendMessageRequest;
+import com.example.devjobs.message.entity.Conversation;
 import com.example.devjobs.message.entity.Message;
 import com.example.devjobs.message.repository.MessageRepository;
+import com.example.devjobs.notification.service.NotificationPushService;
 import com.example.devjobs.user.entity.User;
 import com.example.devjobs.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MessageService {
     
+    public static final String MESSAGE_EVENT = "message";
+    
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
     private final JobPostingRepository jobPostingRepository;
+    private final ConversationService conversationService;
+    private final UnreadMessageCountCache unreadMessageCountCache;
+    private final NotificationPushService notificationPushService;
     
+    /**
+     * 보낸 사람은 인증 정보(Principal)의 엔티티를 쓰지 않고 이 트랜잭션에서 ID로 조회합니다.
+     */
     @Transactional
-    public MessageResponse sendMessage(User sender, SendMessageRequest request) {
+    public MessageResponse sendMessage(Long senderId, SendMessageRequest request) {
+        User sender = userRepository.findById(senderId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        
         // 수신자 확인
         User receiver = userRepository.findById(request.getReceiverId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
@@ -41,61 +60,117 @@ public class MessageService {
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다."));
         }
         
+        // 대화방 조회 또는 생성
+        Conversation conversation = conversationService.getOrCreate(sender, receiver, jobPosting);
+        
         // 메시지 생성
         Message message = Message.builder()
                 .sender(sender)
                 .receiver(receiver)
                 .content(request.getContent())
                 .jobPosting(jobPosting)
+                .conversation(conversation)
                 .isRead(false)
                 .build();
         
         Message savedMessage = messageRepository.save(message);
-        return MessageResponse.from(savedMessage);
+        conversationService.onMessageSent(savedMessage);
+        unreadMessageCountCache.add(receiver.getId(), 1);
+        
+        // 수신자에게 실시간 알림 (커밋 후 전송)
+        MessageResponse response = MessageResponse.from(savedMessage);
+        notificationPushService.push(receiver.getId(), MESSAGE_EVENT, response);
+        return response;
     }
     
-    // 받은 쪽지함
-    public Page<MessageResponse> getReceivedMessages(User user, Pageable pageable) {
-        Page<Message> messages = messageRepository.findByReceiverOrderByCreatedAtDesc(user, pageable);
-        return messages.map(MessageResponse::from);
+    // 받은 쪽지함 (최신순 고정, 인덱스 순서와 맞추기 위해 요청의 정렬은 사용하지 않음)
+    public Page<MessageSummaryResponse> getReceivedMessages(Long userId, Pageable pageable) {
+        return messageRepository.findReceivedSummaries(userId, unsorted(pageable));
     }
     
-    // 보낸 쪽지함
-    public Page<MessageResponse> getSentMessages(User user, Pageable pageable) {
-        Page<Message> messages = messageRepository.findBySenderOrderByCreatedAtDesc(user, pageable);
-        return messages.map(MessageResponse::from);
+    // 보낸 쪽지함 (최신순 고정)
+    public Page<MessageSummaryResponse> getSentMessages(Long userId, Pageable pageable) {
+        return messageRepository.findSentSummaries(userId, unsorted(pageable));
     }
     
-    // 읽지 않은 메시지 개수
-    public Long getUnreadCount(User user) {
-        return messageRepository.countByReceiverAndIsReadFalse(user);
+    // 읽지 않은 메시지 개수 (카운터 캐시)
+    public Long getUnreadCount(Long userId) {
+        return unreadMessageCountCache.get(userId);
     }
     
     // 메시지 읽음 처리
     @Transactional
-    public void markAsRead(User user, Long messageId) {
-        Message message = messageRepository.findByIdAndUser(messageId, user)
+    public void markAsRead(Long userId, Long messageId) {
+        Message message = messageRepository.findByIdAndUserId(messageId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("메시지를 찾을 수 없습니다."));
         
         // 수신자만 읽음 처리 가능
-        if (!message.getReceiver().getId().equals(user.getId())) {
+        if (!message.getReceiver().getId().equals(userId)) {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
         
-        message.markAsRead();
+        if (!message.getIsRead()) {
+            message.markAsRead();
+            onRead(message);
+        }
+    }
+    
+    // 받은 메시지 모두 읽음 처리
+    @Transactional
+    public MarkAsReadResponse markAllAsRead(Long userId) {
+        int updated = messageRepository.markAllAsRead(userId);
+        return afterBulkRead(userId, updated, null, null);
+    }
+    
+    // 대화방의 받은 메시지 모두 읽음 처리
+    @Transactional
+    public MarkAsReadResponse markConversationAsRead(Long userId, Long conversationId) {
+        int updated = messageRepository.markConversationAsRead(userId, conversationId);
+        return afterBulkRead(userId, updated, conversationId, null);
     }
     
-    // 메시지 상세 조회
-    public MessageResponse getMessage(User user, Long messageId) {
-        Message message = messageRepository.findByIdAndUser(messageId, user)
+    // 지정한 메시지들 읽음 처리 (본인이 받은 메시지만 반영)
+    @Transactional
+    public MarkAsReadResponse markAsRead(Long userId, List<Long> messageIds) {
+        int updated = messageRepository.markAsReadByIds(userId, messageIds);
+        return afterBulkRead(userId, updated, null, messageIds);
+    }
+    
+    // 메시지 상세 조회 (수신자가 조회하면 읽음 처리하므로 쓰기 트랜잭션 필요)
+    @Transactional
+    public MessageResponse getMessage(Long userId, Long messageId) {
+        Message message = messageRepository.findByIdAndUserId(messageId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("메시지를 찾을 수 없습니다."));
         
         // 수신자가 조회하는 경우 읽음 처리
-        if (message.getReceiver().getId().equals(user.getId()) && !message.getIsRead()) {
+        if (message.getReceiver().getId().equals(userId) && !message.getIsRead()) {
             message.markAsRead();
             messageRepository.save(message);
+            onRead(message);
         }
         
         return MessageResponse.from(message);
     }
+    
+    // 일괄 읽음 처리 후 대화방과 사용자의 읽지 않은 수를 갱신하고 갱신된 읽지 않은 수를 반환
+    private MarkAsReadResponse afterBulkRead(Long userId, int updated, Long conversationId, List<Long> messageIds) {
+        if (updated > 0) {
+            conversationService.onMessagesRead(userId, conversationId, messageIds);
+            unreadMessageCountCache.add(userId, -updated);
+        }
+        return MarkAsReadResponse.builder()
+                .updatedCount(updated)
+                .unreadCount(unreadMessageCountCache.getUncached(userId))
+                .build();
+    }
+    
+    private Pageable unsorted(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+    
+    // 읽지 않은 메시지를 읽었을 때 대화방과 사용자의 읽지 않은 수를 함께 감소
+    private void onRead(Message message) {
+        conversationService.onMessageRead(message);
+        unreadMessageCountCache.add(message.getReceiver().getId(), -1);
+    }
 }
\ No newline at end of file
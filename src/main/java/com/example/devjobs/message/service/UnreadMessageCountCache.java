@@ -0,0 +1,98 @@
+package com.example.devjobs.message.service;
+
+import com.example.devjobs.common.AfterCommit;
+import com.example.devjobs.message.entity.UnreadMessageCounter;
+import com.example.devjobs.message.repository.MessageRepository;
+import com.example.devjobs.message.repository.UnreadMessageCounterRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 읽지 않은 메시지 수입니다. 카운터 테이블(unread_message_counters)을 원본으로 하고
+ * 메모리 캐시(Caffeine)에 복제하여, 변경이 없는 동안의 조회는 DB에 접근하지 않습니다.
+ * 카운터가 바뀌면 캐시를 즉시, 그리고 커밋 직후에 한 번 더 제거합니다.
+ * 다른 인스턴스에서 바뀐 값은 ttl-seconds 안에 반영됩니다.
+ */
+@Component
+public class UnreadMessageCountCache {
+
+    private final UnreadMessageCounterRepository counterRepository;
+    private final MessageRepository messageRepository;
+    private final TransactionTemplate newTransaction;
+    private final Cache<Long, Long> cache;
+
+    public UnreadMessageCountCache(UnreadMessageCounterRepository counterRepository,
+                                   MessageRepository messageRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.message.unread-cache.max-size:10000}") long maxSize,
+                                   @Value("${app.message.unread-cache.ttl-seconds:30}") long ttlSeconds,
+                                   MeterRegistry meterRegistry) {
+        this.counterRepository = counterRepository;
+        this.messageRepository = messageRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry,
+                cache, "unreadMessageCount");
+    }
+
+    public long get(Long userId) {
+        return cache.get(userId, id -> counterRepository.findById(id)
+                .map(UnreadMessageCounter::getUnreadCount)
+                .orElseGet(() -> initialize(id)));
+    }
+
+    /**
+     * 캐시를 거치지 않고 현재 트랜잭션에서 카운터를 조회합니다 (커밋 전 값을 캐시에 넣지 않기 위함).
+     */
+    public long getUncached(Long userId) {
+        return counterRepository.findById(userId)
+                .map(UnreadMessageCounter::getUnreadCount)
+                .orElseGet(() -> initialize(userId));
+    }
+
+    /**
+     * 읽지 않은 수를 delta만큼 증감합니다. 메시지 전송/읽음 처리와 같은 트랜잭션에서 호출해야 합니다.
+     */
+    public void add(Long userId, long delta) {
+        // 카운터가 아직 없으면 커밋된 메시지 기준으로 먼저 생성
+        // (없는 행을 UPDATE하면 갭 잠금이 걸려 별도 트랜잭션의 INSERT가 대기하므로 UPDATE 전에 확인)
+        if (cache.getIfPresent(userId) == null && !counterRepository.existsById(userId)) {
+            initialize(userId);
+        }
+        counterRepository.add(userId, delta);
+        evict(userId);
+    }
+
+    // 별도 트랜잭션에서 COUNT로 카운터를 생성. 현재 트랜잭션의 변경은 포함하지 않으므로 호출한 쪽에서 반영해야 함
+    private long initialize(Long userId) {
+        try {
+            return newTransaction.execute(status -> {
+                long unreadCount = messageRepository.countByReceiverIdAndIsReadFalse(userId);
+                counterRepository.insert(userId, unreadCount);
+                return unreadCount;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 생성함
+            return newTransaction.execute(status -> counterRepository.findById(userId).orElseThrow().getUnreadCount());
+        }
+    }
+
+    private void evict(Long userId) {
+        AfterCommit.runNowAndAgain(() -> cache.invalidate(userId));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.devjobs.notification.controller;
+
+import com.example.devjobs.notification.service.NotificationPushService;
+import com.example.devjobs.user.service.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "알림", description = "실시간 알림(SSE) API")
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationPushService notificationPushService;
+
+    @Operation(summary = "알림 스트림 구독",
+            description = "새 쪽지(message), 지원 상태 변경(application-status) 알림을 SSE로 받습니다. " +
+                    "재연결 시 Last-Event-ID 이후의 알림을 다시 보내며, 보관 범위를 벗어났으면 resync 이벤트를 보냅니다.")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @Parameter(description = "마지막으로 받은 알림 ID") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return notificationPushService.subscribe(userDetails.getUserId(), parseEventId(lastEventId));
+    }
+
+    private Long parseEventId(String lastEventId) {
+        try {
+            return lastEventId != null ? Long.valueOf(lastEventId.trim()) : null;
+        } catch (NumberFormatException e) {
+            return 0L; // 알 수 없는 ID면 보관 범위 밖으로 보고 resync
+        }
+    }
+}
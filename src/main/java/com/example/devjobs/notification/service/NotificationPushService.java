@@ -0,0 +1,320 @@
+package com.example.devjobs.notification.service;
+
+import com.example.devjobs.common.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 실시간 알림(SSE) 채널입니다.
+ * 연결은 서블릿 비동기 처리(SseEmitter)로 유지되므로 대기 중인 연결이 요청 스레드를 점유하지 않습니다.
+ * 사용자마다 최근 알림을 buffer-size개까지 보관하여, 재연결 시 Last-Event-ID 이후의 알림을 다시 보냅니다.
+ * 보관 범위를 벗어났으면 {@value #RESYNC} 이벤트를 보내 클라이언트가 목록을 다시 조회하게 합니다.
+ * 전송은 채널 잠금 밖에서 전용 스레드 풀(send-threads)이 채널별 순서대로 처리하므로,
+ * 느린 연결이 알림을 보내는 요청 스레드나 heartbeat 스케줄러를 막지 않습니다.
+ * 한 채널에 밀린 전송이 (buffer-size + 2) × 연결 수를 넘으면 느린 연결로 보고 채널의 연결을 닫으며,
+ * 클라이언트는 Last-Event-ID로 재연결해 놓친 알림을 받습니다.
+ */
+@Slf4j
+@Component
+public class NotificationPushService {
+
+    public static final String RESYNC = "resync";
+    static final String CONNECTED = "connected";
+    private static final long RECONNECT_MILLIS = 3000;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    // 재시작 후에도 이전 ID보다 커지도록 시작 시각으로 초기화
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+    private final long timeoutMillis;
+    private final long retentionMillis;
+    private final int maxPendingSends;
+    private final ThreadPoolExecutor sender;
+
+    public NotificationPushService(@Value("${app.notification.buffer-size:100}") int bufferSize,
+                                   @Value("${app.notification.max-connections-per-user:5}") int maxConnectionsPerUser,
+                                   @Value("${app.notification.timeout-ms:1800000}") long timeoutMillis,
+                                   @Value("${app.notification.retention-seconds:300}") long retentionSeconds,
+                                   @Value("${app.notification.send-threads:4}") int sendThreads,
+                                   @Value("${app.notification.send-queue-capacity:10000}") int sendQueueCapacity,
+                                   MeterRegistry registry) {
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.timeoutMillis = timeoutMillis;
+        this.retentionMillis = retentionSeconds * 1000;
+        // 재연결한 연결마다 connected/resync와 보관한 알림 전부를 한 번에 쌓을 수 있는 크기
+        this.maxPendingSends = (bufferSize + 2) * maxConnectionsPerUser;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-send-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("notification.sse.connections", this, NotificationPushService::connectionCount)
+                .description("연결된 SSE 수")
+                .register(registry);
+        registry.gauge("notification.sse.send.queue.depth", sender, pool -> pool.getQueue().size());
+    }
+
+    /**
+     * 알림 스트림을 엽니다. lastEventId가 있으면 그 이후의 알림을 먼저 보냅니다.
+     * 사용자당 연결 수를 넘으면 가장 오래된 연결을 닫습니다.
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        emitter.onCompletion(() -> disconnect(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> disconnect(userId, emitter));
+
+        withChannel(userId, channel -> {
+            if (channel.emitters.size() >= maxConnectionsPerUser) {
+                close(channel, channel.emitters.remove(0));
+            }
+            channel.emitters.add(emitter);
+            send(channel, emitter, SseEmitter.event().name(CONNECTED).reconnectTime(RECONNECT_MILLIS).data(sequence.get()));
+            if (lastEventId == null) {
+                return;
+            }
+            if (lastEventId < channel.droppedUpTo || lastEventId > sequence.get()) {
+                send(channel, emitter, SseEmitter.event().name(RESYNC).data(sequence.get()));
+            } else {
+                channel.buffer.stream()
+                        .filter(event -> event.id() > lastEventId)
+                        .forEach(event -> send(channel, emitter, event.toSse()));
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * 사용자에게 알림을 보냅니다. 트랜잭션 안에서 호출되면 커밋된 뒤에 보냅니다 (롤백되면 보내지 않음).
+     */
+    public void push(Long userId, String type, Object data) {
+        AfterCommit.run(() -> publish(userId, type, data));
+    }
+
+    /**
+     * 사용자에게 보내지 못한 알림이 있음을 기록합니다. 지금 연결된 클라이언트에는 바로 {@value #RESYNC}를 보내고,
+     * 그 이전 ID로 재연결하는 클라이언트도 {@value #RESYNC}를 받아 목록을 다시 조회합니다.
+     */
+    public void resync(Long userId) {
+        withChannel(userId, channel -> {
+            channel.droppedUpTo = sequence.incrementAndGet();
+            channel.buffer.clear();
+            channel.lastActivityAt = System.currentTimeMillis();
+            for (SseEmitter emitter : channel.emitters) {
+                send(channel, emitter, SseEmitter.event().id(String.valueOf(channel.droppedUpTo)).name(RESYNC)
+                        .data(channel.droppedUpTo));
+            }
+        });
+    }
+
+    /**
+     * 연결 유지용 주석을 보내 끊긴 연결을 정리하고, 연결이 없고 오래된 채널을 제거합니다.
+     */
+    @Scheduled(fixedRateString = "${app.notification.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        channels.forEach((userId, channel) -> {
+            boolean startDrain;
+            synchronized (channel) {
+                for (SseEmitter emitter : channel.emitters) {
+                    send(channel, emitter, SseEmitter.event().comment("heartbeat"));
+                }
+                if (channel.emitters.isEmpty() && channel.outbox.isEmpty() && now - channel.lastActivityAt > retentionMillis) {
+                    channel.removed = true;
+                    channels.remove(userId, channel);
+                }
+                startDrain = channel.claimDrain();
+            }
+            if (startDrain) {
+                startDrain(channel);
+            }
+        });
+    }
+
+    public int connectionCount() {
+        return channels.values().stream().mapToInt(channel -> channel.emitters.size()).sum();
+    }
+
+    @PreDestroy
+    public void close() {
+        sender.shutdown();
+    }
+
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // 채널의 전송 대기열을 처리할 작업을 전송 스레드 풀에 넘김
+    protected void execute(Runnable task) {
+        sender.execute(task);
+    }
+
+    private void publish(Long userId, String type, Object data) {
+        withChannel(userId, channel -> {
+            Event event = new Event(sequence.incrementAndGet(), type, data);
+            channel.buffer.addLast(event);
+            if (channel.buffer.size() > bufferSize) {
+                channel.droppedUpTo = channel.buffer.removeFirst().id();
+            }
+            channel.lastActivityAt = System.currentTimeMillis();
+            for (SseEmitter emitter : channel.emitters) {
+                send(channel, emitter, event.toSse());
+            }
+        });
+    }
+
+    // 채널 잠금 안에서 실행하고, 쌓인 전송은 잠금을 푼 뒤 처리. 정리 작업이 방금 제거한 채널이면 새 채널로 다시 시도
+    private void withChannel(Long userId, Consumer<Channel> action) {
+        while (true) {
+            Channel channel = channels.computeIfAbsent(userId, id -> new Channel(sequence.get()));
+            boolean startDrain;
+            synchronized (channel) {
+                if (channel.removed) {
+                    continue;
+                }
+                action.accept(channel);
+                startDrain = channel.claimDrain();
+            }
+            if (startDrain) {
+                startDrain(channel);
+            }
+            return;
+        }
+    }
+
+    // 전송 대기열에 추가 (채널 잠금 안에서 호출). 쌓인 전송이 너무 많으면 느린 연결로 보고 채널의 연결을 모두 닫음
+    private void send(Channel channel, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        if (channel.outbox.size() >= maxPendingSends) {
+            log.debug("SSE 전송 대기열이 가득 차 연결을 닫습니다.");
+            channel.outbox.clear();
+            for (SseEmitter slow : channel.emitters) {
+                close(channel, slow);
+            }
+            channel.emitters.clear();
+            return;
+        }
+        channel.outbox.addLast(new Delivery(emitter, event));
+    }
+
+    // 연결 종료도 전송 순서대로 처리 (진행 중인 전송이 끝난 뒤 닫음, 채널 잠금 안에서 호출)
+    private void close(Channel channel, SseEmitter emitter) {
+        channel.outbox.addLast(new Delivery(emitter, null));
+    }
+
+    private void startDrain(Channel channel) {
+        try {
+            execute(() -> drain(channel));
+        } catch (RejectedExecutionException e) {
+            // 다음 알림이나 heartbeat에서 다시 시도
+            log.warn("SSE 전송 스레드 풀이 가득 차 전송을 미룹니다.");
+            synchronized (channel) {
+                channel.draining = false;
+            }
+        }
+    }
+
+    // 채널의 전송 대기열을 순서대로 처리. 전송은 잠금 밖에서 하고, 실패한 연결은 목록에서 제거
+    private void drain(Channel channel) {
+        while (true) {
+            Delivery delivery;
+            synchronized (channel) {
+                delivery = channel.outbox.pollFirst();
+                if (delivery == null) {
+                    channel.draining = false;
+                    return;
+                }
+            }
+            if (delivery.event() == null) {
+                delivery.emitter().complete();
+                continue;
+            }
+            if (!channel.emitters.contains(delivery.emitter())) {
+                continue;
+            }
+            try {
+                delivery.emitter().send(delivery.event());
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패, 연결을 닫습니다: {}", e.getMessage());
+                synchronized (channel) {
+                    channel.emitters.remove(delivery.emitter());
+                    channel.outbox.removeIf(pending -> pending.emitter() == delivery.emitter());
+                }
+                delivery.emitter().completeWithError(e);
+            }
+        }
+    }
+
+    private void disconnect(Long userId, SseEmitter emitter) {
+        Channel channel = channels.get(userId);
+        if (channel != null) {
+            synchronized (channel) {
+                channel.emitters.remove(emitter);
+                channel.lastActivityAt = System.currentTimeMillis();
+            }
+        }
+    }
+
+    private static class Channel {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final Deque<Event> buffer = new ArrayDeque<>();
+        // 아직 보내지 않은 전송 (한 번에 한 스레드만 처리하여 연결별 순서를 지킴)
+        private final Deque<Delivery> outbox = new ArrayDeque<>();
+        private boolean draining;
+        // 이 ID 이하의 알림은 보관하고 있지 않음 (버퍼에서 밀려났거나 채널 생성 이전)
+        private long droppedUpTo;
+        private long lastActivityAt = System.currentTimeMillis();
+        private boolean removed;
+
+        private Channel(long droppedUpTo) {
+            this.droppedUpTo = droppedUpTo;
+        }
+
+        // 보낼 것이 있고 처리 중인 스레드가 없으면 처리를 맡음 (채널 잠금 안에서 호출)
+        private boolean claimDrain() {
+            if (draining || outbox.isEmpty()) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+    }
+
+    // event가 null이면 연결 종료
+    private record Delivery(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+    }
+
+    private record Event(long id, String type, Object data) {
+
+        private SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().id(String.valueOf(id)).name(type).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.devjobs.user.config;
+
+import com.example.devjobs.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시/검증(BCrypt)을 전용 스레드 풀에서 실행하는 PasswordEncoder입니다.
+ * 동시에 실행되는 해시 작업 수와 해시를 기다리는 요청 스레드 수를 제한하여, 로그인이 몰려도 CPU와 요청 스레드를 모두 차지하지 않게 합니다.
+ * 기다리는 요청이 maxRequests개에 이르면 블로킹하지 않고 바로 {@link ServiceBusyException}(503, Retry-After)을 던지므로
+ * 나머지 요청 스레드는 다른 API를 계속 처리합니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore requests;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int maxRequests,
+                                  long timeoutMillis, long retryAfterSeconds, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.requests = new Semaphore(maxRequests);
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxRequests),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .description("비밀번호 해시/검증 소요 시간 (대기 시간 제외)")
+                .tag("operation", "encode")
+                .register(registry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .description("비밀번호 해시/검증 소요 시간 (대기 시간 제외)")
+                .tag("operation", "matches")
+                .register(registry);
+        registry.gauge("auth.password.queue.depth", executor, pool -> pool.getQueue().size());
+        registry.gauge("auth.password.active", executor, ThreadPoolExecutor::getActiveCount);
+        registry.gauge("auth.password.requests", requests, permits -> maxRequests - permits.availablePermits());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        if (!requests.tryAcquire()) {
+            throw busy();
+        }
+        try {
+            return await(task);
+        } finally {
+            requests.release();
+        }
+    }
+
+    private <T> T await(Callable<T> task) {
+        Future<T> future;
+        try {
+            // 시간 초과로 돌아간 요청의 작업이 아직 실행 중이면 대기열이 찰 수 있음
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private ServiceBusyException busy() {
+        return new ServiceBusyException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+}
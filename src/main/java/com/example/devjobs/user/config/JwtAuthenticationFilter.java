@@ -1,13 +1,16 @@
 package com.example.devjobs.user.config;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.devjobs.user.provider.JwtProvider;
 import com.example.devjobs.user.service.UserDetailsImpl;
 import com.example.devjobs.user.service.UserDetailsServiceImpl;
+import com.example.devjobs.user.service.UserPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +25,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+
+    // true면 토큰 클레임만으로 Principal을 만듦 (DB/캐시 조회 없음)
+    @Value("${app.security.principal.stateless:false}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -53,8 +61,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String role = decodedJWT.getClaim("role").asString();
             Long userId = decodedJWT.getClaim("userId").asLong();
 
-            // 실제 User 엔티티를 로드
-            UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(loginId);
+            UserDetailsImpl userDetails = loadPrincipal(decodedJWT, loginId, role, userId);
             
             // UserDetailsImpl을 Principal로 설정
             var authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -67,6 +74,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetailsImpl loadPrincipal(DecodedJWT decodedJWT, String loginId, String role, Long userId) {
+        if (userId == null) {
+            // userId 클레임이 없는 토큰은 캐시 키를 만들 수 없으므로 매번 조회
+            return (UserDetailsImpl) userDetailsService.loadUserByUsername(loginId);
+        }
+        if (stateless && role != null) {
+            return new UserDetailsImpl(userId, loginId, null, role);
+        }
+        // 토큰 발급 시각을 버전으로 사용하여, 재로그인으로 받은 토큰은 새로 조회
+        long tokenVersion = decodedJWT.getIssuedAt() != null ? decodedJWT.getIssuedAt().getTime() : 0L;
+        return userPrincipalCache.get(userId, tokenVersion,
+                () -> (UserDetailsImpl) userDetailsService.loadUserByUsername(loginId));
+    }
+
     private String parseBearerToken(HttpServletRequest request) {
         String authorization = request.getHeader("Authorization");
         if (authorization == null || !authorization.startsWith("Bearer ")) {
@@ -1,7 +1,10 @@
 package com.example.devjobs.user.config;
 
 import com.example.devjobs.user.service.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -30,6 +33,8 @@ public class WebSecurityConfig {
                 .httpBasic(httpBasic -> httpBasic.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 완료 디스패치 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/",
                                 "/api/auth/signin",
@@ -54,8 +59,22 @@ public class WebSecurityConfig {
         return http.build();
     }
 
+    /**
+     * BCrypt 해시/검증은 전용 스레드 풀에서 실행합니다.
+     * 해시를 기다리는 요청은 Tomcat 스레드 수보다 훨씬 적게(기본 1/4) 제한하고, 초과하면 기다리지 않고 503을 반환합니다.
+     * strength(work factor)를 1 올릴 때마다 해시 비용은 두 배가 되며, 기존 해시는 강도와 관계없이 검증됩니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.password.bcrypt-strength:10}") int strength,
+                                           @Value("${app.security.password.pool-size:0}") int poolSize,
+                                           @Value("${app.security.password.max-requests:0}") int maxRequests,
+                                           @Value("${server.tomcat.threads.max:200}") int requestThreads,
+                                           @Value("${app.security.password.timeout-ms:10000}") long timeoutMillis,
+                                           @Value("${app.security.password.retry-after-seconds:1}") long retryAfterSeconds,
+                                           MeterRegistry meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        int requestLimit = maxRequests > 0 ? maxRequests : Math.max(threads, requestThreads / 4);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, requestLimit,
+                timeoutMillis, retryAfterSeconds, meterRegistry);
     }
 }
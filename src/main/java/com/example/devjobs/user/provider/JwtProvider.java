@@ -5,23 +5,77 @@ import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+@Slf4j
 @Component
 public class JwtProvider {
 
+    // 검증 성공 결과를 캐시하는 최대 시간 (토큰 만료 시각이 더 이르면 만료 시각까지)
+    private static final Duration MAX_VERIFIED_TTL = Duration.ofMinutes(10);
+    // 이보다 긴 문자열은 캐시하지 않음 (비정상 요청으로 메모리를 채우는 것 방지)
+    private static final int MAX_CACHED_TOKEN_LENGTH = 4096;
+    private static final long FAILURE_LOG_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
     private final Algorithm algorithm;
     private final JWTVerifier verifier;
-    
-    public JwtProvider(@Value("${jwt.secret}") String secretKey) {
+    // 캐시 키는 토큰 원문 대신 SHA-256 다이제스트 (힙 덤프나 캐시 조회로 토큰이 노출되지 않도록)
+    private final Cache<String, DecodedJWT> verifiedTokens;
+    private final Cache<String, String> rejectedTokens; // 토큰 다이제스트 → 실패 사유
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
+    private final LongAdder unloggedFailures = new LongAdder();
+    private final AtomicLong lastFailureLogAt = new AtomicLong();
+
+    public JwtProvider(String secretKey) {
+        this(secretKey, 10_000, 60, new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public JwtProvider(@Value("${jwt.secret}") String secretKey,
+                       @Value("${app.security.token-cache.max-size:10000}") long cacheMaxSize,
+                       @Value("${app.security.token-cache.rejected-ttl-seconds:60}") long rejectedTtlSeconds,
+                       MeterRegistry meterRegistry) {
         // java-jwt는 키 길이 제한이 없음!
         this.algorithm = Algorithm.HMAC256(secretKey);
         this.verifier = JWT.require(algorithm).build();
+        this.meterRegistry = meterRegistry;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new UntilTokenExpires())
+                .recordStats()
+                .build();
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(rejectedTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerified");
+        CaffeineCacheMetrics.monitor(meterRegistry, rejectedTokens, "jwtRejected");
     }
 
     public String create(String loginId, String role, Long userId) {
@@ -36,22 +90,116 @@ public class JwtProvider {
                 .sign(algorithm);
     }
 
+    /**
+     * 토큰을 검증합니다. 최근에 검증한 토큰은 서명을 다시 계산하지 않고, 최근에 거부한 토큰은 바로 거부합니다.
+     *
+     * @return 검증에 실패하면 null
+     */
     public DecodedJWT validate(String jwt) {
-        try {
-            return verifier.verify(jwt);
-        } catch (JWTVerificationException exception) {
-            exception.printStackTrace();
+        if (jwt == null) {
             return null;
         }
+        if (jwt.length() > MAX_CACHED_TOKEN_LENGTH) {
+            return verify(jwt, null);
+        }
+        String key = digest(jwt);
+        DecodedJWT cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return cached;
+            }
+            verifiedTokens.invalidate(key);
+        }
+        String rejectedReason = rejectedTokens.getIfPresent(key);
+        if (rejectedReason != null) {
+            recordFailure(rejectedReason);
+            return null;
+        }
+        return verify(jwt, key);
     }
 
     public String getLoginIdFromToken(String jwt) {
         DecodedJWT decodedJWT = validate(jwt);
         return decodedJWT != null ? decodedJWT.getSubject() : null;
     }
-    
+
     public Long getUserIdFromToken(String jwt) {
         DecodedJWT decodedJWT = validate(jwt);
         return decodedJWT != null ? decodedJWT.getClaim("userId").asLong() : null;
     }
-}
\ No newline at end of file
+
+    // key가 null이면 결과를 캐시하지 않음
+    private DecodedJWT verify(String jwt, String key) {
+        try {
+            DecodedJWT decodedJWT = verifier.verify(jwt);
+            if (key != null) {
+                verifiedTokens.put(key, decodedJWT);
+            }
+            return decodedJWT;
+        } catch (JWTVerificationException exception) {
+            String reason = exception.getClass().getSimpleName();
+            if (key != null) {
+                rejectedTokens.put(key, reason);
+            }
+            recordFailure(reason);
+            return null;
+        }
+    }
+
+    // 실패마다 스택 트레이스를 남기지 않고, 사유별 카운터와 주기적인 요약 로그로 남깁니다.
+    private void recordFailure(String reason) {
+        failureCounters.computeIfAbsent(reason, key -> Counter.builder("jwt.validation.failures")
+                        .description("JWT 검증 실패 횟수")
+                        .tag("reason", key)
+                        .register(meterRegistry))
+                .increment();
+        unloggedFailures.increment();
+        long now = System.currentTimeMillis();
+        long last = lastFailureLogAt.get();
+        if (now - last >= FAILURE_LOG_INTERVAL_MILLIS && lastFailureLogAt.compareAndSet(last, now)) {
+            log.warn("JWT 검증 실패 {}건 (최근 사유: {})", unloggedFailures.sumThenReset(), reason);
+        }
+    }
+
+    static String digest(String jwt) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 제공해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isExpired(DecodedJWT decodedJWT) {
+        Date expiresAt = decodedJWT.getExpiresAt();
+        return expiresAt != null && !expiresAt.after(new Date());
+    }
+
+    /**
+     * 검증된 토큰은 만료 시각(최대 {@link #MAX_VERIFIED_TTL})까지만 캐시에 둡니다.
+     */
+    private static class UntilTokenExpires implements Expiry<String, DecodedJWT> {
+
+        @Override
+        public long expireAfterCreate(String key, DecodedJWT decodedJWT, long currentTime) {
+            long maxNanos = MAX_VERIFIED_TTL.toNanos();
+            Date expiresAt = decodedJWT.getExpiresAt();
+            if (expiresAt == null) {
+                return maxNanos;
+            }
+            long remainingMillis = expiresAt.getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(maxNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, DecodedJWT decodedJWT, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, decodedJWT, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, DecodedJWT decodedJWT, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
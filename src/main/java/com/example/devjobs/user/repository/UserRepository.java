@@ -3,9 +3,11 @@ package com.example.devjobs.user.repository;
 import com.example.devjobs.user.entity.User;
 import com.example.devjobs.user.entity.IndividualUser;
 import com.example.devjobs.user.entity.CompanyUser;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -47,4 +49,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT u FROM CompanyUser u WHERE u.id = :userId")
     Optional<CompanyUser> findCompanyUserById(@Param("userId") Long userId);
+    
+    // 같은 사용자에 대한 생성 작업을 직렬화하기 위한 행 잠금 (ConversationService.getOrCreate)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
 }
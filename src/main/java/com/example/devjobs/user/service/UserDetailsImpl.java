@@ -9,6 +9,10 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
+/**
+ * 인증된 사용자(Principal)입니다. 요청 사이에 캐시되어 공유되므로 User 엔티티를 담지 않고
+ * ID, 로그인 ID, 권한만 가집니다. 엔티티가 필요한 서비스는 자신의 트랜잭션에서 ID로 조회해야 합니다.
+ */
 @Getter
 public class UserDetailsImpl implements UserDetails {
 
@@ -16,26 +20,24 @@ public class UserDetailsImpl implements UserDetails {
     private final String username; // loginId
     private final String password;
     private final Collection<? extends GrantedAuthority> authorities;
-    private final User user; // User 엔티티 추가
 
     public UserDetailsImpl(Long userId, String username, String password, String role) {
         this.userId = userId;
         this.username = username;
         this.password = password;
         this.authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
-        this.user = null; // 이전 방식과의 호환성을 위해
-    }
-    
-    public UserDetailsImpl(User user) {
-        this.userId = user.getId();
-        this.username = user.getLoginId();
-        this.password = user.getPassword();
-        this.authorities = Collections.singletonList(new SimpleGrantedAuthority(user.getRole()));
-        this.user = user;
     }
 
+    // 로그인 시 비밀번호 확인에 사용 (엔티티의 값만 복사)
     public static UserDetailsImpl from(User user) {
-        return new UserDetailsImpl(user);
+        return new UserDetailsImpl(user.getId(), user.getLoginId(), user.getPassword(), user.getRole());
+    }
+
+    /**
+     * 비밀번호를 제외한 같은 사용자입니다. 요청 사이에 캐시할 때 사용합니다.
+     */
+    public UserDetailsImpl withoutPassword() {
+        return new UserDetailsImpl(userId, username, null, authorities.iterator().next().getAuthority());
     }
 
     @Override
@@ -0,0 +1,55 @@
+package com.example.devjobs.user.service;
+
+import com.example.devjobs.common.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * JWT 인증 시 로드한 사용자 정보(Principal) 캐시입니다.
+ * 여러 요청이 같은 항목을 공유하므로 User 엔티티나 비밀번호는 담지 않고 ID, 로그인 ID, 권한만 저장합니다.
+ * 사용자 ID와 토큰 버전(발급 시각)으로 구분하므로, 다시 로그인해 받은 토큰은 이전 캐시를 사용하지 않습니다.
+ * 프로필/권한이 바뀌면 {@link #evict(Long)}로 해당 사용자의 항목을 모두 제거해야 합니다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<PrincipalKey, UserDetailsImpl> cache;
+
+    public UserPrincipalCache(@Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${app.security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry,
+                cache, "userPrincipal");
+    }
+
+    public UserDetailsImpl get(Long userId, long tokenVersion, Supplier<UserDetailsImpl> loader) {
+        return cache.get(new PrincipalKey(userId, tokenVersion), key -> loader.get().withoutPassword());
+    }
+
+    /**
+     * 사용자의 캐시 항목을 모두 제거합니다. 트랜잭션 안에서 호출되면 커밋 직후에 한 번 더 제거하여,
+     * 커밋 전에 다른 요청이 변경 전 정보를 다시 적재하는 경우를 막습니다.
+     */
+    public void evict(Long userId) {
+        AfterCommit.runNowAndAgain(() -> cache.asMap().keySet().removeIf(key -> key.userId().equals(userId)));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private record PrincipalKey(Long userId, long tokenVersion) {
+    }
+}
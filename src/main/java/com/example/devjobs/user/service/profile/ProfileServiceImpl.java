@@ -1,11 +1,13 @@
 package com.example.devjobs.user.service.profile;
 
 import com.example.devjobs.common.file.FileService;
+import com.example.devjobs.jobposting.service.JobPostingDetailCache;
 import com.example.devjobs.user.entity.CompanyUser;
 import com.example.devjobs.user.repository.CompanyUserRepository;
 import com.example.devjobs.user.dto.profile.*;
 import com.example.devjobs.user.entity.*;
 import com.example.devjobs.user.repository.*;
+import com.example.devjobs.user.service.UserPrincipalCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
@@ -28,6 +30,8 @@ public class ProfileServiceImpl implements ProfileService {
     private final LanguageSkillRepository languageSkillRepository;
     private final CertificationRepository certificationRepository;
     private final FileService fileService;
+    private final JobPostingDetailCache jobPostingDetailCache;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -49,6 +53,7 @@ public class ProfileServiceImpl implements ProfileService {
         user.setPortfolioUrl(request.getPortfolioUrl());
         user.setHeadline(request.getHeadline());
         user.setWorkStatus(request.getWorkStatus());
+        userPrincipalCache.evict(userId); // 인증 정보에 담긴 사용자 엔티티 갱신
 
         return IndividualProfileResponse.fromEntity(user);
     }
@@ -64,6 +69,7 @@ public class ProfileServiceImpl implements ProfileService {
 
         user.setResumeUrl(fileUrl);
         individualUserRepository.save(user);
+        userPrincipalCache.evict(userId);
 
         return IndividualProfileResponse.fromEntity(user);
     }
@@ -314,6 +320,8 @@ public class ProfileServiceImpl implements ProfileService {
         user.setIndustry(request.getIndustry());
         user.setCompanyWebsite(request.getCompanyWebsite());
         user.setLogoUrl(request.getLogoUrl());
+        jobPostingDetailCache.evictByCompany(userId); // 공고 상세의 회사 정보 갱신
+        userPrincipalCache.evict(userId);
 
         return CompanyProfileResponse.fromEntity(user);
     }
@@ -329,6 +337,7 @@ public class ProfileServiceImpl implements ProfileService {
 
         user.setLogoUrl(fileUrl);
         companyUserRepository.save(user);
+        userPrincipalCache.evict(userId);
 
         return CompanyProfileResponse.fromEntity(user);
     }
@@ -0,0 +1,13 @@
+-- 관리자 채용공고 FULLTEXT 검색 인덱스 (app.admin.search.mode=fulltext, MariaDB 10.5 이상)
+-- app.admin.search.fulltext.apply-migration=true 이면 애플리케이션 시작 시 자동으로 실행됩니다.
+--
+-- MariaDB는 MySQL의 ngram 파서를 제공하지 않으므로 기본(공백 단위) 파서를 사용하며,
+-- 검색은 단어 앞부분 일치(검색어*)로 동작합니다.
+-- 한글 2글자 단어(예: 개발, 자바)도 색인되도록 서버 설정에서 최소 토큰 길이를 낮춘 뒤 인덱스를 생성해야 합니다.
+--   [mysqld]
+--   innodb_ft_min_token_size = 2
+-- 이미 인덱스가 있는 상태에서 설정을 바꿨다면 인덱스를 삭제 후 다시 생성하세요.
+
+CREATE FULLTEXT INDEX IF NOT EXISTS ft_job_postings_title ON job_postings (title);
+
+CREATE FULLTEXT INDEX IF NOT EXISTS ft_company_users_company_name ON company_users (company_name);
@@ -0,0 +1,26 @@
+-- 같은 공고에 같은 사용자의 지원서가 하나만 있도록 하는 유니크 키 (Application.UK_JOB_POSTING_USER)
+-- app.application.unique-key.apply-migration=true 이면 애플리케이션 시작 시 자동으로 실행됩니다.
+--
+-- 유니크 키 도입 이전에 중복 지원이 저장된 DB에서는 ddl-auto(update)가 키를 만들지 못하므로,
+-- 중복 지원 중 가장 먼저 저장된 지원서만 남기고 나머지를 삭제한 뒤 키를 추가합니다.
+-- 중복이 있던 공고는 지원서 수를 0으로 두어 시작 시 지원서 수 보정 배치가 다시 계산하게 합니다.
+-- 여러 번 실행해도 안전합니다 (중복이 없으면 아무것도 바꾸지 않고, 키는 IF NOT EXISTS).
+
+UPDATE job_postings SET application_count = 0
+WHERE job_posting_id IN (
+    SELECT job_posting_id FROM (
+        SELECT job_posting_id FROM applications GROUP BY job_posting_id, user_id HAVING COUNT(*) > 1
+    ) duplicated
+);
+
+-- MariaDB는 DELETE 대상 테이블을 서브쿼리에서 직접 읽을 수 없으므로 파생 테이블로 한 번 감쌈
+DELETE FROM applications
+WHERE application_id IN (
+    SELECT application_id FROM (
+        SELECT a.application_id FROM applications a
+        JOIN applications kept ON kept.job_posting_id = a.job_posting_id
+            AND kept.user_id = a.user_id AND kept.application_id < a.application_id
+    ) duplicated
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_applications_job_posting_user ON applications (job_posting_id, user_id);
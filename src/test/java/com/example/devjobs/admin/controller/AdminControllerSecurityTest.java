@@ -0,0 +1,56 @@
+package com.example.devjobs.admin.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 운영 상태 API(홈 스냅샷 상태, 지표)는 관리자만 조회할 수 있고, 공개된 홈 API 경로로는 조회되지 않는지 검증합니다.
+ */
+@SpringBootTest(properties = "app.file.upload-dir=${java.io.tmpdir}/devjobs-test")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class AdminControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("로그인하지 않으면 운영 상태 API를 조회할 수 없다")
+    void anonymousIsRejected() throws Exception {
+        assertThat(mockMvc.perform(get("/api/admin/home-snapshot")).andReturn().getResponse().getStatus())
+                .isIn(401, 403);
+        assertThat(mockMvc.perform(get("/api/admin/metrics")).andReturn().getResponse().getStatus())
+                .isIn(401, 403);
+        assertThat(mockMvc.perform(get("/api/home/snapshot")).andReturn().getResponse().getStatus())
+                .isNotEqualTo(200);
+    }
+
+    @Test
+    @WithMockUser(roles = "INDIVIDUAL")
+    @DisplayName("관리자가 아니면 운영 상태 API를 조회할 수 없다")
+    void nonAdminIsForbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/home-snapshot")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/metrics")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("관리자는 홈 스냅샷 상태와 지표를 조회할 수 있다")
+    void adminCanRead() throws Exception {
+        mockMvc.perform(get("/api/admin/home-snapshot")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/admin/metrics").param("prefix", "notification.sse"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("notification.sse.connections"));
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.devjobs.admin.search;
+
+import com.example.devjobs.jobcategory.entity.JobCategory;
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FULLTEXT 검색 모드를 H2에서 검증합니다.
+ * H2는 MATCH ... AGAINST를 지원하지 않으므로, 같은 의미(단어 앞부분 일치, 모든 단어 필수)의
+ * FT_MATCH 함수를 등록해 MariaDB 대신 사용합니다.
+ * 따라서 검색 결과, 정렬, 페이징만 검증하며, 실제 MATCH ... AGAINST 구문이나 MariaDB가 FULLTEXT 인덱스를
+ * 사용하는지(EXPLAIN)는 검증하지 않습니다. 이는 MariaDB에서 직접 확인해야 합니다.
+ */
+@DataJpaTest
+@Import(JobPostingCountCache.class)
+class FullTextAdminJobPostingSearchTest {
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    private JobPosting backendLead;
+    private JobPosting backendJunior;
+    private JobPosting backendIntern;
+    private JobPosting frontend;
+
+    @BeforeEach
+    void setUp() {
+        em.createNativeQuery("CREATE ALIAS IF NOT EXISTS FT_MATCH FOR '" +
+                FullTextStandIn.class.getName() + ".match'").executeUpdate();
+
+        CompanyUser tech = company("tech", "테크기업");
+        CompanyUser dev = company("dev", "데브컴퍼니");
+        JobCategory category = JobCategory.builder().categoryName("백엔드").build();
+        em.persist(category);
+        backendLead = jobPosting(tech, category, "테크 리드 백엔드 개발자", JobPostingStatus.ACTIVE);
+        backendJunior = jobPosting(tech, category, "주니어 백엔드 개발자", JobPostingStatus.ACTIVE);
+        backendIntern = jobPosting(dev, category, "백엔드 인턴", JobPostingStatus.CLOSED);
+        frontend = jobPosting(dev, category, "프론트엔드 개발자", JobPostingStatus.ACTIVE);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("제목 검색 - 상태 조건을 함께 적용한다")
+    void search_TitleWithStatus() {
+        AdminJobPostingSearch search = fullTextSearch(false);
+
+        assertThat(search.search("백엔드", null, PageRequest.of(0, 10)).getContent())
+                .extracting(JobPosting::getId)
+                .containsExactlyInAnyOrder(backendLead.getId(), backendJunior.getId(), backendIntern.getId());
+        assertThat(search.search("백엔드", JobPostingStatus.CLOSED, PageRequest.of(0, 10)).getContent())
+                .extracting(JobPosting::getId)
+                .containsExactly(backendIntern.getId());
+    }
+
+    @Test
+    @DisplayName("단어 앞부분만 일치하고, 여러 단어는 모두 포함해야 한다")
+    void search_PrefixAndAllTerms() {
+        AdminJobPostingSearch search = fullTextSearch(false);
+
+        assertThat(search.search("백엔", null, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(3);
+        // LIKE와 달리 단어 중간 문자열은 찾지 않음 ("프론트엔드"의 "엔드")
+        assertThat(search.search("엔드", null, PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(search.search("주니어 개발", null, PageRequest.of(0, 10)).getContent())
+                .extracting(JobPosting::getId)
+                .containsExactly(backendJunior.getId());
+    }
+
+    @Test
+    @DisplayName("회사명으로 검색하면 회사, 카테고리 정보가 함께 조회된다")
+    void search_CompanyName() {
+        Page<JobPosting> result = fullTextSearch(false).search("데브", null, PageRequest.of(0, 10));
+
+        assertThat(result.getContent())
+                .extracting(JobPosting::getId)
+                .containsExactly(frontend.getId(), backendIntern.getId());
+        assertThat(result.getContent().get(0).getCompanyUser().getCompanyName()).isEqualTo("데브컴퍼니");
+        assertThat(result.getContent().get(0).getJobCategory().getCategoryName()).isEqualTo("백엔드");
+    }
+
+    @Test
+    @DisplayName("관련도 정렬 - 제목과 회사명이 모두 일치하는 공고가 먼저 온다")
+    void search_RelevanceOrder() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+
+        // 요청한 정렬(id 내림차순)
+        assertThat(fullTextSearch(false).search("테크", null, pageable).getContent())
+                .extracting(JobPosting::getId)
+                .containsExactly(backendJunior.getId(), backendLead.getId());
+        // 관련도 정렬: 제목에도 "테크"가 있는 공고가 먼저
+        assertThat(fullTextSearch(true).search("테크", null, pageable).getContent())
+                .extracting(JobPosting::getId)
+                .containsExactly(backendLead.getId(), backendJunior.getId());
+        // 관련도가 같으면 최신순
+        assertThat(fullTextSearch(true).search("개발자", null, pageable).getContent())
+                .extracting(JobPosting::getId)
+                .containsExactly(frontend.getId(), backendJunior.getId(), backendLead.getId());
+    }
+
+    @Test
+    @DisplayName("페이지가 가득 차면 전체 건수를 따로 조회한다")
+    void search_Paging() {
+        Page<JobPosting> page = fullTextSearch(false).search("개발자", null,
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(JobPosting::getId).containsExactly(frontend.getId(), backendJunior.getId());
+    }
+
+    @Test
+    @DisplayName("BOOLEAN MODE 연산자는 제거하고 각 단어를 앞부분 일치 필수 조건으로 바꾼다")
+    void toBooleanQuery() {
+        assertThat(FullTextAdminJobPostingSearch.toBooleanQuery(" 백엔드  -(개발)* \"자바\" ")).isEqualTo("+백엔드* +개발* +자바*");
+        assertThat(FullTextAdminJobPostingSearch.toBooleanQuery("+-*")).isEmpty();
+        assertThat(fullTextSearch(false).search("~", null, PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    private AdminJobPostingSearch fullTextSearch(boolean relevanceOrder) {
+        return new FullTextAdminJobPostingSearch(em, jobPostingRepository, null, relevanceOrder, false) {
+            @Override
+            protected String matchExpression(String column) {
+                return "FT_MATCH(" + column + ", :query)";
+            }
+        };
+    }
+
+    // H2가 리플렉션으로 호출할 수 있도록 public 클래스로 둠
+    public static class FullTextStandIn {
+
+        /**
+         * MATCH(column) AGAINST(query IN BOOLEAN MODE)를 흉내 냅니다.
+         * "+단어*" 조건을 모두 만족하면 일치한 단어 수를, 하나라도 없으면 0을 반환합니다.
+         */
+        public static double match(String text, String query) {
+            String[] words = text.toLowerCase(Locale.ROOT).split("\\s+");
+            double score = 0;
+            for (String term : query.toLowerCase(Locale.ROOT).split("\\s+")) {
+                String prefix = term.replaceAll("^\\+|\\*$", "");
+                long matched = Arrays.stream(words).filter(word -> word.startsWith(prefix)).count();
+                if (matched == 0) {
+                    return 0;
+                }
+                score += matched;
+            }
+            return score;
+        }
+    }
+
+    private CompanyUser company(String loginId, String companyName) {
+        CompanyUser company = CompanyUser.builder()
+                .loginId(loginId).password("pw").name("담당자").email(loginId + "@devjobs.com").role("ROLE_COMPANY")
+                .companyName(companyName).companyCode(loginId + "-code").companyAddress("서울").ceoName("대표")
+                .build();
+        em.persist(company);
+        return company;
+    }
+
+    private JobPosting jobPosting(CompanyUser company, JobCategory category, String title, JobPostingStatus status) {
+        JobPosting jobPosting = JobPosting.builder()
+                .companyUser(company).jobCategory(category)
+                .title(title).content("내용").workLocation("서울")
+                .deadline(LocalDate.now().plusDays(7))
+                .status(status)
+                .build();
+        em.persist(jobPosting);
+        return jobPosting;
+    }
+}
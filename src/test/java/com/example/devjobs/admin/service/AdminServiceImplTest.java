@@ -3,20 +3,28 @@ package com.example.devjobs.admin.service;
 import com.example.devjobs.admin.dto.AdminJobPostingListResponse;
 import com.example.devjobs.admin.dto.CompanyUserListResponse;
 import com.example.devjobs.admin.dto.IndividualUserListResponse;
+import com.example.devjobs.admin.dto.MetricResponse;
+import com.example.devjobs.admin.search.AdminJobPostingSearch;
 import com.example.devjobs.application.repository.ApplicationRepository;
 import com.example.devjobs.jobposting.entity.JobPosting;
 import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
 import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.jobposting.search.JobPostingsChangedEvent;
+import com.example.devjobs.jobposting.service.JobPostingDetailCache;
 import com.example.devjobs.user.entity.CompanyUser;
 import com.example.devjobs.user.entity.IndividualUser;
 import com.example.devjobs.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -26,6 +34,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,6 +55,18 @@ class AdminServiceImplTest {
     @Mock
     private JobPostingRepository jobPostingRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JobPostingDetailCache jobPostingDetailCache;
+
+    @Mock
+    private AdminJobPostingSearch adminJobPostingSearch;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AdminServiceImpl adminService;
 
@@ -91,6 +112,7 @@ class AdminServiceImplTest {
                 .salary(5000L)
                 .deadline(LocalDate.now().plusDays(30))
                 .status(JobPostingStatus.ACTIVE)
+                .applicationCount(10)
                 .build();
         jobPosting.setCreateDate(LocalDateTime.now());
     }
@@ -101,7 +123,7 @@ class AdminServiceImplTest {
         // Given
         Page<IndividualUser> userPage = new PageImpl<>(Arrays.asList(individualUser));
         when(userRepository.findAllIndividualUsers(pageable)).thenReturn(userPage);
-        when(applicationRepository.countByIndividualUser(individualUser)).thenReturn(3);
+        when(applicationRepository.countByIndividualUserIds(List.of(1L))).thenReturn(Map.of(1L, 3L));
         
         // When
         Page<IndividualUserListResponse> result = adminService.getIndividualUsers(null, pageable);
@@ -121,7 +143,7 @@ class AdminServiceImplTest {
         String search = "김개발";
         Page<IndividualUser> userPage = new PageImpl<>(Arrays.asList(individualUser));
         when(userRepository.findIndividualUsersBySearch(search, pageable)).thenReturn(userPage);
-        when(applicationRepository.countByIndividualUser(individualUser)).thenReturn(3);
+        when(applicationRepository.countByIndividualUserIds(List.of(1L))).thenReturn(Map.of(1L, 3L));
         
         // When
         Page<IndividualUserListResponse> result = adminService.getIndividualUsers(search, pageable);
@@ -138,7 +160,7 @@ class AdminServiceImplTest {
         // Given
         Page<CompanyUser> userPage = new PageImpl<>(Arrays.asList(companyUser));
         when(userRepository.findAllCompanyUsers(pageable)).thenReturn(userPage);
-        when(jobPostingRepository.countByCompanyUser(companyUser)).thenReturn(5);
+        when(jobPostingRepository.countByCompanyUserIds(List.of(2L))).thenReturn(Map.of(2L, 5L));
         
         // When
         Page<CompanyUserListResponse> result = adminService.getCompanyUsers(null, pageable);
@@ -155,7 +177,7 @@ class AdminServiceImplTest {
     void getIndividualUser_Success() {
         // Given
         when(userRepository.findIndividualUserById(1L)).thenReturn(Optional.of(individualUser));
-        when(applicationRepository.countByIndividualUser(individualUser)).thenReturn(3);
+        when(applicationRepository.countByIndividualUserIds(List.of(1L))).thenReturn(Map.of(1L, 3L));
         
         // When
         IndividualUserListResponse result = adminService.getIndividualUser(1L);
@@ -184,7 +206,6 @@ class AdminServiceImplTest {
         // Given
         Page<JobPosting> jobPage = new PageImpl<>(Arrays.asList(jobPosting));
         when(jobPostingRepository.findAllWithCompanyUser(pageable)).thenReturn(jobPage);
-        when(applicationRepository.countByJobPosting(jobPosting)).thenReturn(10);
         
         // When
         Page<AdminJobPostingListResponse> result = adminService.getJobPostings(null, null, pageable);
@@ -204,9 +225,7 @@ class AdminServiceImplTest {
         String search = "백엔드";
         String status = "ACTIVE";
         Page<JobPosting> jobPage = new PageImpl<>(Arrays.asList(jobPosting));
-        when(jobPostingRepository.findBySearchAndStatus(search, JobPostingStatus.ACTIVE, pageable))
-                .thenReturn(jobPage);
-        when(applicationRepository.countByJobPosting(jobPosting)).thenReturn(10);
+        when(adminJobPostingSearch.search(search, JobPostingStatus.ACTIVE, pageable)).thenReturn(jobPage);
         
         // When
         Page<AdminJobPostingListResponse> result = adminService.getJobPostings(search, status, pageable);
@@ -214,7 +233,22 @@ class AdminServiceImplTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        verify(jobPostingRepository).findBySearchAndStatus(search, JobPostingStatus.ACTIVE, pageable);
+        verify(adminJobPostingSearch).search(search, JobPostingStatus.ACTIVE, pageable);
+    }
+
+    @Test
+    @DisplayName("채용공고 목록 조회 - 검색어만 있으면 상태 없이 검색")
+    void getJobPostings_WithSearchOnly() {
+        // Given
+        Page<JobPosting> jobPage = new PageImpl<>(Arrays.asList(jobPosting));
+        when(adminJobPostingSearch.search("테크", null, pageable)).thenReturn(jobPage);
+
+        // When
+        Page<AdminJobPostingListResponse> result = adminService.getJobPostings("테크", "", pageable);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verify(jobPostingRepository, never()).findByStatus(any(), any());
     }
 
     @Test
@@ -228,6 +262,8 @@ class AdminServiceImplTest {
         
         // Then
         verify(jobPostingRepository).delete(jobPosting);
+        verify(eventPublisher).publishEvent(JobPostingsChangedEvent.of(1L));
+        verify(jobPostingDetailCache).evict(1L);
     }
 
     @Test
@@ -241,4 +277,20 @@ class AdminServiceImplTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Job posting not found");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("운영 지표 조회 - 접두사가 맞는 지표만 이름순으로 태그와 값을 담아 반환")
+    void getMetrics_FiltersByPrefix() {
+        meterRegistry.counter("cache.gets", "cache", "jobPostingDetail", "result", "miss").increment(2);
+        meterRegistry.counter("cache.gets", "cache", "jobPostingDetail", "result", "hit").increment(5);
+        meterRegistry.gauge("notification.sse.connections", 3);
+
+        List<MetricResponse> metrics = adminService.getMetrics("cache");
+
+        assertThat(metrics).hasSize(2);
+        assertThat(metrics).extracting(MetricResponse::getName).containsOnly("cache.gets");
+        assertThat(metrics.get(0).getTags()).containsEntry("result", "hit");
+        assertThat(metrics.get(0).getMeasurements()).containsEntry("COUNT", 5.0);
+        assertThat(adminService.getMetrics(null)).hasSize(3);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.devjobs.admin.service;
+
+import com.example.devjobs.admin.dto.AdminJobPostingListResponse;
+import com.example.devjobs.admin.dto.CompanyUserListResponse;
+import com.example.devjobs.admin.dto.IndividualUserListResponse;
+import com.example.devjobs.admin.search.LikeAdminJobPostingSearch;
+import com.example.devjobs.application.entity.Application;
+import com.example.devjobs.application.entity.ApplicationStatus;
+import com.example.devjobs.application.repository.ApplicationRepository;
+import com.example.devjobs.jobcategory.entity.JobCategory;
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리자 목록 조회의 SQL 실행 횟수가 페이지에 담긴 행 수와 무관하게 일정한지 검증합니다.
+ * (회원 목록은 목록 조회 + 건수 일괄 집계 = 2회, 채용공고 목록은 지원서 수 컬럼을 사용하므로 1회.
+ * 한 페이지에 모두 담기므로 전체 건수 조회는 생략됨)
+ */
+@DataJpaTest
+@Import(JobPostingCountCache.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AdminServiceQueryCountTest {
+
+    private static final long STATEMENTS_PER_PAGE = 2;
+    private static final long JOB_POSTING_STATEMENTS_PER_PAGE = 1;
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    private AdminServiceImpl adminService;
+    private Statistics statistics;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        // 목록 조회만 검증하므로 검색 색인, 상세 캐시, 지표는 사용하지 않음
+        adminService = new AdminServiceImpl(userRepository, applicationRepository, jobPostingRepository, null, null,
+                new LikeAdminJobPostingSearch(jobPostingRepository), null);
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("개인회원 목록 - 회원 수와 무관하게 SQL 2회")
+    void getIndividualUsers_ConstantStatements() {
+        insertData(3);
+        Page<IndividualUserListResponse> small = countStatements(() -> adminService.getIndividualUsers(null, page()));
+        insertData(20);
+        Page<IndividualUserListResponse> large = countStatements(() -> adminService.getIndividualUsers(null, page()));
+
+        assertThat(small.getNumberOfElements()).isLessThan(large.getNumberOfElements());
+        assertThat(large.getContent()).allSatisfy(user -> assertThat(user.getApplicationCount()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("기업회원 목록 - 회사 수와 무관하게 SQL 2회")
+    void getCompanyUsers_ConstantStatements() {
+        insertData(3);
+        countStatements(() -> adminService.getCompanyUsers(null, page()));
+        insertData(20);
+        Page<CompanyUserListResponse> large = countStatements(() -> adminService.getCompanyUsers("회사", page()));
+
+        assertThat(large.getContent()).allSatisfy(company -> assertThat(company.getJobPostingCount()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("채용공고 목록 - 공고 수와 무관하게 SQL 1회 (회사, 카테고리 함께 조회, 지원서 수는 컬럼 사용)")
+    void getJobPostings_ConstantStatements() {
+        insertData(3);
+        countStatements(JOB_POSTING_STATEMENTS_PER_PAGE, () -> adminService.getJobPostings(null, null, page()));
+        insertData(20);
+        Page<AdminJobPostingListResponse> large = countStatements(JOB_POSTING_STATEMENTS_PER_PAGE,
+                () -> adminService.getJobPostings(null, "ACTIVE", page()));
+        countStatements(JOB_POSTING_STATEMENTS_PER_PAGE, () -> adminService.getJobPostings("공고", null, page()));
+        countStatements(JOB_POSTING_STATEMENTS_PER_PAGE, () -> adminService.getJobPostings("공고", "ACTIVE", page()));
+
+        assertThat(large.getContent()).allSatisfy(jobPosting -> {
+            assertThat(jobPosting.getApplicationCount()).isEqualTo(1);
+            assertThat(jobPosting.getCategoryName()).isNotNull();
+        });
+    }
+
+    private <T> Page<T> countStatements(Supplier<Page<T>> query) {
+        return countStatements(STATEMENTS_PER_PAGE, query);
+    }
+
+    private <T> Page<T> countStatements(long expected, Supplier<Page<T>> query) {
+        em.clear();
+        statistics.clear();
+        Page<T> result = query.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+
+    private Pageable page() {
+        return PageRequest.of(0, 50);
+    }
+
+    // 회사 1곳, 공고 1건, 개인회원 1명, 지원서 1건을 한 묶음으로 count개 생성
+    private void insertData(int count) {
+        for (int i = 0; i < count; i++) {
+            int n = sequence++;
+            CompanyUser company = CompanyUser.builder()
+                    .loginId("company" + n).password("pw").name("담당자" + n).email("company" + n + "@devjobs.com")
+                    .role("ROLE_COMPANY").companyName("회사" + n).companyCode("code" + n)
+                    .companyAddress("서울").ceoName("대표" + n)
+                    .build();
+            em.persist(company);
+            JobCategory category = JobCategory.builder().categoryName("카테고리" + n).build();
+            em.persist(category);
+            JobPosting jobPosting = JobPosting.builder()
+                    .companyUser(company).jobCategory(category)
+                    .title("공고" + n).content("내용").workLocation("서울")
+                    .deadline(LocalDate.now().plusDays(7))
+                    .applicationCount(1).appliedCount(1) // 아래 지원서 1건 (ApplicationCounter가 유지하는 값)
+                    .build();
+            em.persist(jobPosting);
+            IndividualUser user = IndividualUser.builder()
+                    .loginId("user" + n).password("pw").name("회원" + n).email("user" + n + "@devjobs.com")
+                    .role("ROLE_INDIVIDUAL")
+                    .build();
+            em.persist(user);
+            em.persist(Application.builder()
+                    .jobPosting(jobPosting).individualUser(user).status(ApplicationStatus.APPLIED)
+                    .build());
+        }
+        em.flush();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.devjobs.application.event;
+
+import com.example.devjobs.application.dto.ApplicationStatusChangedResponse;
+import com.example.devjobs.application.entity.ApplicationStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationStatusEventDispatcherTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private ApplicationStatusEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("이벤트를 batch-size 이하의 묶음으로 모아 모든 핸들러에 순서대로 전달한다")
+    void dispatchesInBatches() throws InterruptedException {
+        int total = 250;
+        CountDownLatch latch = new CountDownLatch(total);
+        List<List<ApplicationStatusChangedEvent>> batches = new CopyOnWriteArrayList<>();
+        List<Long> notified = new CopyOnWriteArrayList<>();
+        ApplicationStatusChangeHandler recorder = events -> {
+            batches.add(events);
+            events.forEach(event -> latch.countDown());
+        };
+        ApplicationStatusChangeHandler notifier = events -> events.forEach(event -> notified.add(event.applicantId()));
+        dispatcher = new ApplicationStatusEventDispatcher(List.of(recorder, notifier), 1000, 100, registry);
+        dispatcher.start();
+
+        for (long i = 0; i < total; i++) {
+            dispatcher.onStatusChanged(event(i));
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(100));
+        assertThat(batches.stream().flatMap(List::stream).map(ApplicationStatusChangedEvent::applicantId).toList())
+                .containsExactlyElementsOf(LongStream.range(0, total).boxed().toList());
+        dispatcher.stop();
+        assertThat(notified).hasSize(total);
+        assertThat(registry.counter("application.status.events", "result", "dispatched").count()).isEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("한 핸들러가 실패해도 다른 핸들러와 다음 묶음은 계속 처리한다")
+    void handlerFailureIsIsolated() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        ApplicationStatusChangeHandler failing = events -> {
+            throw new IllegalStateException("전송 실패");
+        };
+        ApplicationStatusChangeHandler counting = events -> events.forEach(event -> latch.countDown());
+        dispatcher = new ApplicationStatusEventDispatcher(List.of(failing, counting), 10, 10, registry);
+        dispatcher.start();
+
+        dispatcher.onStatusChanged(event(1L));
+        Thread.sleep(50);
+        dispatcher.onStatusChanged(event(2L));
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 요청 스레드를 막지 않고 이벤트를 버리며, 버린 이벤트를 핸들러에 알린다")
+    void dropsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> droppedApplicants = new CopyOnWriteArrayList<>();
+        ApplicationStatusChangeHandler slow = new ApplicationStatusChangeHandler() {
+            @Override
+            public void handle(List<ApplicationStatusChangedEvent> events) {
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void dropped(ApplicationStatusChangedEvent event) {
+                droppedApplicants.add(event.applicantId());
+            }
+        };
+        dispatcher = new ApplicationStatusEventDispatcher(List.of(slow), 2, 1, registry);
+        dispatcher.start();
+
+        dispatcher.onStatusChanged(event(0L));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long i = 1; i <= 5; i++) {
+            dispatcher.onStatusChanged(event(i));
+        }
+        release.countDown();
+
+        assertThat(registry.counter("application.status.events", "result", "dropped").count()).isEqualTo(3);
+        assertThat(droppedApplicants).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("시작 전에 들어온 이벤트는 대기열에 두었다가 시작하면 처리하고, 멈추면 남은 이벤트까지 처리한다")
+    void startsAndDrainsWithLifecycle() {
+        List<Long> handled = new CopyOnWriteArrayList<>();
+        dispatcher = new ApplicationStatusEventDispatcher(
+                List.of(events -> events.forEach(event -> handled.add(event.applicantId()))), 10, 10, registry);
+
+        dispatcher.onStatusChanged(event(1L));
+        assertThat(dispatcher.isRunning()).isFalse();
+        assertThat(dispatcher.queueDepth()).isEqualTo(1);
+
+        dispatcher.start();
+        dispatcher.onStatusChanged(event(2L));
+        dispatcher.stop();
+
+        assertThat(dispatcher.isRunning()).isFalse();
+        assertThat(handled).containsExactly(1L, 2L);
+    }
+
+    private ApplicationStatusChangedEvent event(long applicantId) {
+        return new ApplicationStatusChangedEvent(applicantId,
+                new ApplicationStatusChangedResponse(applicantId, 1L, "백엔드 개발자", ApplicationStatus.PASSED));
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.devjobs.application.repository;
+
+import com.example.devjobs.application.entity.Application;
+import com.example.devjobs.application.entity.ApplicationStatus;
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 유니크 키 없이 중복 지원이 쌓인 DB에서 마이그레이션이 중복을 정리하고 키를 추가하는지,
+ * 키가 없는데 마이그레이션을 끄면 시작을 중단하는지 검증합니다.
+ * 스키마를 바꾸고 커밋된 데이터를 확인해야 하므로 테스트 트랜잭션 없이 실행하고, 끝나면 원래 제약을 되돌립니다.
+ */
+@DataJpaTest
+@Import(JobPostingCountCache.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationUniqueKeyMigrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // 유니크 키 도입 이전의 스키마
+        jdbcTemplate.execute("ALTER TABLE applications DROP CONSTRAINT IF EXISTS " + Application.UK_JOB_POSTING_USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationRepository.deleteAll();
+        jobPostingRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.execute("DROP INDEX IF EXISTS " + Application.UK_JOB_POSTING_USER);
+        jdbcTemplate.execute("ALTER TABLE applications ADD CONSTRAINT IF NOT EXISTS " + Application.UK_JOB_POSTING_USER
+                + " UNIQUE (job_posting_id, user_id)");
+    }
+
+    @Test
+    @DisplayName("중복 지원 중 가장 먼저 저장된 지원서만 남기고, 해당 공고의 지원서 수를 보정 대상으로 돌린 뒤 키를 추가한다")
+    void migration_RemovesDuplicatesAndAddsKey() {
+        IndividualUser applicant = userRepository.save(IndividualUser.builder()
+                .loginId("applicant").password("pw").name("지원자").email("applicant@devjobs.com")
+                .role("ROLE_INDIVIDUAL")
+                .build());
+        CompanyUser company = userRepository.save(CompanyUser.builder()
+                .loginId("company").password("pw").name("담당자").email("company@devjobs.com")
+                .role("ROLE_COMPANY").companyName("회사").companyCode("code")
+                .companyAddress("서울").ceoName("대표")
+                .build());
+        JobPosting duplicated = jobPosting(company, "중복 지원 공고", 3);
+        JobPosting single = jobPosting(company, "단일 지원 공고", 1);
+        Long kept = apply(duplicated, applicant).getId();
+        apply(duplicated, applicant);
+        apply(duplicated, applicant);
+        Long other = apply(single, applicant).getId();
+
+        new ApplicationUniqueKeyMigration(dataSource, true).applyMigration();
+
+        assertThat(applicationRepository.findAll()).extracting(Application::getId).containsExactlyInAnyOrder(kept, other);
+        assertThat(applicationCount(duplicated)).isZero();
+        assertThat(applicationCount(single)).isEqualTo(1);
+        assertThatThrownBy(() -> apply(duplicated, applicant)).isInstanceOf(DataIntegrityViolationException.class);
+
+        // 다시 실행해도 바뀌는 것이 없음
+        new ApplicationUniqueKeyMigration(dataSource, true).applyMigration();
+        assertThat(applicationRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유니크 키가 없는데 마이그레이션을 끄면 시작을 중단한다")
+    void missingKeyWithoutMigration_FailsFast() {
+        assertThatThrownBy(() -> new ApplicationUniqueKeyMigration(dataSource, false).applyMigration())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("ddl-auto가 만든 유니크 제약도 키로 인정한다")
+    void existingConstraint_Passes() {
+        jdbcTemplate.execute("ALTER TABLE applications ADD CONSTRAINT " + Application.UK_JOB_POSTING_USER
+                + " UNIQUE (job_posting_id, user_id)");
+
+        assertThat(new ApplicationUniqueKeyMigration(dataSource, false).hasUniqueKey()).isTrue();
+    }
+
+    private JobPosting jobPosting(CompanyUser company, String title, int applicationCount) {
+        JobPosting jobPosting = jobPostingRepository.save(JobPosting.builder()
+                .companyUser(company).title(title).content("내용").workLocation("서울")
+                .deadline(LocalDate.now().plusDays(7))
+                .build());
+        jdbcTemplate.update("UPDATE job_postings SET application_count = ? WHERE job_posting_id = ?",
+                applicationCount, jobPosting.getId());
+        return jobPosting;
+    }
+
+    private Application apply(JobPosting jobPosting, IndividualUser applicant) {
+        return applicationRepository.save(Application.builder()
+                .jobPosting(jobPosting).individualUser(applicant).status(ApplicationStatus.APPLIED)
+                .build());
+    }
+
+    private int applicationCount(JobPosting jobPosting) {
+        return jdbcTemplate.queryForObject("SELECT application_count FROM job_postings WHERE job_posting_id = ?",
+                Integer.class, jobPosting.getId());
+    }
+}
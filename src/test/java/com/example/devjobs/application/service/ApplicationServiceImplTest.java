@@ -3,6 +3,7 @@ package com.example.devjobs.application.service;
 import com.example.devjobs.application.dto.*;
 import com.example.devjobs.application.entity.Application;
 import com.example.devjobs.application.entity.ApplicationStatus;
+import com.example.devjobs.application.event.ApplicationStatusChangedEvent;
 import com.example.devjobs.application.repository.ApplicationRepository;
 import com.example.devjobs.jobposting.entity.JobPosting;
 import com.example.devjobs.jobposting.repository.JobPostingRepository;
@@ -15,18 +16,35 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.hibernate.exception.ConstraintViolationException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +56,10 @@ class ApplicationServiceImplTest {
     private JobPostingRepository jobPostingRepository;
     @Mock
     private IndividualUserRepository individualUserRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ApplicationCounter applicationCounter;
     
     @InjectMocks
     private ApplicationServiceImpl applicationService;
@@ -88,9 +110,7 @@ class ApplicationServiceImplTest {
             ApplicationRequestDTO request = new ApplicationRequestDTO(1L);
             when(individualUserRepository.findById(1L)).thenReturn(Optional.of(individualUser));
             when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(jobPosting));
-            when(applicationRepository.findByJobPostingAndIndividualUser(jobPosting, individualUser))
-                    .thenReturn(Optional.empty());
-            when(applicationRepository.save(any(Application.class))).thenReturn(application);
+            when(applicationRepository.saveAndFlush(any(Application.class))).thenReturn(application);
             
             // when
             ApplicationResponseDTO response = applicationService.createApplication(request, 1L);
@@ -99,7 +119,8 @@ class ApplicationServiceImplTest {
             assertNotNull(response);
             assertEquals(1L, response.getApplicationId());
             assertEquals(ApplicationStatus.APPLIED, response.getStatus());
-            verify(applicationRepository, times(1)).save(any(Application.class));
+            verify(applicationCounter).added(1L, ApplicationStatus.APPLIED);
+            verify(applicationRepository, times(1)).saveAndFlush(any(Application.class));
         }
         
         @Test
@@ -112,7 +133,7 @@ class ApplicationServiceImplTest {
             // when & then
             assertThrows(EntityNotFoundException.class,
                 () -> applicationService.createApplication(request, 1L));
-            verify(applicationRepository, never()).save(any());
+            verify(applicationRepository, never()).saveAndFlush(any());
         }
         
         @Test
@@ -126,7 +147,7 @@ class ApplicationServiceImplTest {
             // when & then
             assertThrows(EntityNotFoundException.class,
                 () -> applicationService.createApplication(request, 1L));
-            verify(applicationRepository, never()).save(any());
+            verify(applicationRepository, never()).saveAndFlush(any());
         }
         
         @Test
@@ -136,13 +157,34 @@ class ApplicationServiceImplTest {
             ApplicationRequestDTO request = new ApplicationRequestDTO(1L);
             when(individualUserRepository.findById(1L)).thenReturn(Optional.of(individualUser));
             when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(jobPosting));
-            when(applicationRepository.findByJobPostingAndIndividualUser(jobPosting, individualUser))
-                    .thenReturn(Optional.of(application));
+            when(applicationRepository.saveAndFlush(any(Application.class)))
+                    .thenThrow(new DataIntegrityViolationException("중복", new ConstraintViolationException(
+                            "중복 지원", new SQLException(), "UK_APPLICATIONS_JOB_POSTING_USER_INDEX_A")));
             
             // when & then
-            assertThrows(IllegalArgumentException.class,
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> applicationService.createApplication(request, 1L));
-            verify(applicationRepository, never()).save(any());
+            assertEquals("이미 지원한 공고입니다.", exception.getMessage());
+        }
+        
+        @Test
+        @DisplayName("중복 지원 유니크 키가 아닌 무결성 위반은 그대로 던진다")
+        void createApplication_OtherIntegrityViolation() {
+            // given
+            ApplicationRequestDTO request = new ApplicationRequestDTO(1L);
+            when(individualUserRepository.findById(1L)).thenReturn(Optional.of(individualUser));
+            when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(jobPosting));
+            DataIntegrityViolationException notNull = new DataIntegrityViolationException("NOT NULL", new ConstraintViolationException(
+                    "NULL not allowed", new SQLException(), null));
+            DataIntegrityViolationException foreignKey = new DataIntegrityViolationException("FK", new ConstraintViolationException(
+                    "FK 위반", new SQLException(), "fk_applications_job_posting"));
+            when(applicationRepository.saveAndFlush(any(Application.class))).thenThrow(notNull, foreignKey);
+            
+            // when & then
+            assertSame(notNull, assertThrows(DataIntegrityViolationException.class,
+                () -> applicationService.createApplication(request, 1L)));
+            assertSame(foreignKey, assertThrows(DataIntegrityViolationException.class,
+                () -> applicationService.createApplication(request, 1L)));
         }
     }
     
@@ -154,25 +196,40 @@ class ApplicationServiceImplTest {
         @DisplayName("삭제 성공")
         void deleteApplication_Success() {
             // given
-            when(applicationRepository.findById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.findWithJobPostingById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.deleteByIdAndStatus(1L, ApplicationStatus.APPLIED)).thenReturn(1);
             
             // when
             assertDoesNotThrow(() -> applicationService.deleteApplication(1L, 1L));
             
             // then
-            verify(applicationRepository, times(1)).delete(application);
+            verify(applicationCounter).removed(1L, ApplicationStatus.APPLIED);
+            verify(applicationRepository, times(1)).deleteByIdAndStatus(1L, ApplicationStatus.APPLIED);
+        }
+        
+        @Test
+        @DisplayName("삭제 실패 - 조회 후 다른 요청이 상태를 바꾸거나 삭제함")
+        void deleteApplication_Conflict() {
+            // given
+            when(applicationRepository.findWithJobPostingById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.deleteByIdAndStatus(1L, ApplicationStatus.APPLIED)).thenReturn(0);
+            
+            // when & then
+            assertThrows(IllegalArgumentException.class,
+                () -> applicationService.deleteApplication(1L, 1L));
         }
         
         @Test
         @DisplayName("삭제 실패 - 지원서 없음")
         void deleteApplication_NotFound() {
             // given
-            when(applicationRepository.findById(999L)).thenReturn(Optional.empty());
+            when(applicationRepository.findWithJobPostingById(999L)).thenReturn(Optional.empty());
             
             // when & then
             assertThrows(EntityNotFoundException.class,
                 () -> applicationService.deleteApplication(999L, 1L));
-            verify(applicationRepository, never()).delete(any());
+            verify(applicationRepository, never()).deleteByIdAndStatus(any(), any());
+            verifyNoInteractions(applicationCounter);
         }
     }
     
@@ -212,28 +269,49 @@ class ApplicationServiceImplTest {
         @DisplayName("기업 지원자 목록 조회 성공")
         void getJobApplicants_Success() {
             // given
-            List<Application> applications = Arrays.asList(application);
-            when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(jobPosting));
-            when(applicationRepository.findByJobPosting(jobPosting)).thenReturn(applications);
+            Page<ApplicationForCompanyResponse> applicants = new PageImpl<>(
+                    Arrays.asList(ApplicationForCompanyResponse.fromEntity(application)));
+            when(jobPostingRepository.existsById(1L)).thenReturn(true);
+            when(applicationRepository.findApplicants(eq(1L), isNull(), any(Pageable.class))).thenReturn(applicants);
             
             // when
-            List<ApplicationForCompanyResponse> responses = applicationService.getJobApplicants(1L, 2L);
+            Page<ApplicationForCompanyResponse> responses = applicationService.getJobApplicants(1L, 2L, null, PageRequest.of(0, 20));
             
             // then
-            assertEquals(1, responses.size());
-            assertEquals("테스트유저", responses.get(0).getApplicantName());
-            assertEquals("test@test.com", responses.get(0).getApplicantEmail());
+            assertEquals(1, responses.getTotalElements());
+            assertEquals("테스트유저", responses.getContent().get(0).getApplicantName());
+            assertEquals("test@test.com", responses.getContent().get(0).getApplicantEmail());
+        }
+        
+        @Test
+        @DisplayName("기업 지원자 목록 조회 - 허용된 정렬 필드만 쿼리 식으로 변환하고 ID로 순서를 고정")
+        void getJobApplicants_SortWhitelist() {
+            // given
+            when(jobPostingRepository.existsById(1L)).thenReturn(true);
+            when(applicationRepository.findApplicants(eq(1L), eq(ApplicationStatus.PASSED), any(Pageable.class)))
+                    .thenReturn(Page.empty());
+            Pageable requested = PageRequest.of(2, 10, Sort.by(Sort.Order.asc("applicantName"), Sort.Order.desc("password")));
+            
+            // when
+            applicationService.getJobApplicants(1L, 2L, ApplicationStatus.PASSED, requested);
+            
+            // then
+            ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+            verify(applicationRepository).findApplicants(eq(1L), eq(ApplicationStatus.PASSED), captor.capture());
+            assertEquals(2, captor.getValue().getPageNumber());
+            assertEquals(List.of("u.name", "a.id"),
+                    captor.getValue().getSort().stream().map(Sort.Order::getProperty).toList());
         }
         
         @Test
         @DisplayName("기업 지원자 목록 조회 실패 - 채용공고 없음")
         void getJobApplicants_JobPostingNotFound() {
             // given
-            when(jobPostingRepository.findById(999L)).thenReturn(Optional.empty());
+            when(jobPostingRepository.existsById(999L)).thenReturn(false);
             
             // when & then
             assertThrows(EntityNotFoundException.class,
-                () -> applicationService.getJobApplicants(999L, 2L));
+                () -> applicationService.getJobApplicants(999L, 2L, null, PageRequest.of(0, 20)));
         }
     }
     
@@ -246,14 +324,19 @@ class ApplicationServiceImplTest {
         void updateApplicationStatus_Success() {
             // given
             UpdateStatusRequestDTO request = new UpdateStatusRequestDTO(ApplicationStatus.PASSED);
-            when(applicationRepository.findById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.findWithJobPostingById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.updateStatus(eq(List.of(1L)), eq(ApplicationStatus.APPLIED), eq(ApplicationStatus.PASSED), any()))
+                    .thenReturn(1);
             
             // when
             applicationService.updateApplicationStatus(1L, request, 2L);
             
             // then
-            assertEquals(ApplicationStatus.PASSED, application.getStatus());
-            verify(applicationRepository, times(1)).save(application);
+            verify(applicationCounter).moved(1L, ApplicationStatus.APPLIED, ApplicationStatus.PASSED, 1);
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof ApplicationStatusChangedEvent changed
+                            && changed.applicantId().equals(1L)
+                            && changed.change().status() == ApplicationStatus.PASSED));
         }
         
         @Test
@@ -261,12 +344,108 @@ class ApplicationServiceImplTest {
         void updateApplicationStatus_NotFound() {
             // given
             UpdateStatusRequestDTO request = new UpdateStatusRequestDTO(ApplicationStatus.PASSED);
-            when(applicationRepository.findById(999L)).thenReturn(Optional.empty());
+            when(applicationRepository.findWithJobPostingById(999L)).thenReturn(Optional.empty());
             
             // when & then
             assertThrows(EntityNotFoundException.class,
                 () -> applicationService.updateApplicationStatus(999L, request, 2L));
-            verify(applicationRepository, never()).save(any());
+            verify(applicationRepository, never()).updateStatus(any(), any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+        
+        @Test
+        @DisplayName("상태 업데이트 실패 - 조회 후 다른 요청이 상태를 바꿈")
+        void updateApplicationStatus_Conflict() {
+            // given
+            UpdateStatusRequestDTO request = new UpdateStatusRequestDTO(ApplicationStatus.PASSED);
+            when(applicationRepository.findWithJobPostingById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.updateStatus(eq(List.of(1L)), eq(ApplicationStatus.APPLIED), eq(ApplicationStatus.PASSED), any()))
+                    .thenReturn(0);
+            
+            // when & then
+            assertThrows(IllegalArgumentException.class,
+                () -> applicationService.updateApplicationStatus(1L, request, 2L));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+        
+        @Test
+        @DisplayName("같은 상태로 변경하면 UPDATE와 이벤트 없이 종료")
+        void updateApplicationStatus_SameStatus() {
+            // given
+            UpdateStatusRequestDTO request = new UpdateStatusRequestDTO(ApplicationStatus.APPLIED);
+            when(applicationRepository.findWithJobPostingById(1L)).thenReturn(Optional.of(application));
+            
+            // when
+            applicationService.updateApplicationStatus(1L, request, 2L);
+            
+            // then
+            verify(applicationRepository, never()).updateStatus(any(), any(), any(), any());
+            verifyNoInteractions(applicationCounter, eventPublisher);
+        }
+    }
+    
+    @Nested
+    @DisplayName("지원 상태 일괄 변경")
+    class BulkUpdateStatusTest {
+        
+        @Test
+        @DisplayName("일괄 변경 성공 - 이미 같은 상태인 지원서는 제외하고 바뀐 지원자에게만 이벤트 발행")
+        void updateApplicationStatuses_Success() {
+            // given
+            BulkUpdateStatusRequest request = new BulkUpdateStatusRequest(List.of(1L, 2L, 3L, 1L), ApplicationStatus.INTERVIEW);
+            when(applicationRepository.findStatusTargets(Set.of(1L, 2L, 3L), 2L)).thenReturn(List.of(
+                    new ApplicationStatusTarget(1L, 11L, 1L, "백엔드 개발자 채용", ApplicationStatus.APPLIED),
+                    new ApplicationStatusTarget(2L, 12L, 1L, "백엔드 개발자 채용", ApplicationStatus.INTERVIEW),
+                    new ApplicationStatusTarget(3L, 13L, 1L, "백엔드 개발자 채용", ApplicationStatus.PASSED)));
+            when(applicationRepository.updateStatus(eq(List.of(1L)), eq(ApplicationStatus.APPLIED), eq(ApplicationStatus.INTERVIEW), any()))
+                    .thenReturn(1);
+            when(applicationRepository.updateStatus(eq(List.of(3L)), eq(ApplicationStatus.PASSED), eq(ApplicationStatus.INTERVIEW), any()))
+                    .thenReturn(1);
+            
+            // when
+            BulkUpdateStatusResponse response = applicationService.updateApplicationStatuses(request, 2L);
+            
+            // then
+            assertEquals(3, response.requestedCount());
+            assertEquals(2, response.updatedCount());
+            verify(applicationCounter).moved(1L, ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW, 1);
+            verify(applicationCounter).moved(1L, ApplicationStatus.PASSED, ApplicationStatus.INTERVIEW, 1);
+            ArgumentCaptor<ApplicationStatusChangedEvent> captor = ArgumentCaptor.forClass(ApplicationStatusChangedEvent.class);
+            verify(eventPublisher, times(2)).publishEvent(captor.capture());
+            assertEquals(List.of(11L, 13L), captor.getAllValues().stream().map(ApplicationStatusChangedEvent::applicantId).toList());
+            assertTrue(captor.getAllValues().stream().allMatch(event -> event.change().status() == ApplicationStatus.INTERVIEW));
+        }
+        
+        @Test
+        @DisplayName("일괄 변경 실패 - 다른 회사의 지원서나 없는 지원서가 섞여 있으면 아무것도 바꾸지 않음")
+        void updateApplicationStatuses_NotOwner() {
+            // given
+            BulkUpdateStatusRequest request = new BulkUpdateStatusRequest(List.of(1L, 2L), ApplicationStatus.REJECTED);
+            when(applicationRepository.findStatusTargets(Set.of(1L, 2L), 2L)).thenReturn(List.of(
+                    new ApplicationStatusTarget(1L, 11L, 1L, "백엔드 개발자 채용", ApplicationStatus.APPLIED)));
+            
+            // when & then
+            assertThrows(AccessDeniedException.class,
+                () -> applicationService.updateApplicationStatuses(request, 2L));
+            verify(applicationRepository, never()).updateStatus(any(), any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+        
+        @Test
+        @DisplayName("모두 이미 같은 상태면 UPDATE와 이벤트 없이 0건을 반환")
+        void updateApplicationStatuses_NothingChanged() {
+            // given
+            BulkUpdateStatusRequest request = new BulkUpdateStatusRequest(List.of(1L), ApplicationStatus.APPLIED);
+            when(applicationRepository.findStatusTargets(Set.of(1L), 2L)).thenReturn(List.of(
+                    new ApplicationStatusTarget(1L, 11L, 1L, "백엔드 개발자 채용", ApplicationStatus.APPLIED)));
+            
+            // when
+            BulkUpdateStatusResponse response = applicationService.updateApplicationStatuses(request, 2L);
+            
+            // then
+            assertEquals(0, response.updatedCount());
+            verify(applicationRepository, never()).updateStatus(any(), any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
     }
     
@@ -278,7 +457,7 @@ class ApplicationServiceImplTest {
         @DisplayName("지원서 소유자 확인 - true")
         void isApplicationOwner_True() {
             // given
-            when(applicationRepository.findById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.findWithJobPostingById(1L)).thenReturn(Optional.of(application));
             
             // when
             boolean result = applicationService.isApplicationOwner(1L, 1L);
@@ -291,7 +470,7 @@ class ApplicationServiceImplTest {
         @DisplayName("지원서 소유자 확인 - false")
         void isApplicationOwner_False() {
             // given
-            when(applicationRepository.findById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.findWithJobPostingById(1L)).thenReturn(Optional.of(application));
             
             // when
             boolean result = applicationService.isApplicationOwner(1L, 999L);
@@ -304,7 +483,7 @@ class ApplicationServiceImplTest {
         @DisplayName("지원서 소유자 확인 - 지원서 없음")
         void isApplicationOwner_NotFound() {
             // given
-            when(applicationRepository.findById(999L)).thenReturn(Optional.empty());
+            when(applicationRepository.findWithJobPostingById(999L)).thenReturn(Optional.empty());
             
             // when
             boolean result = applicationService.isApplicationOwner(999L, 1L);
@@ -317,7 +496,7 @@ class ApplicationServiceImplTest {
         @DisplayName("채용공고 소유자 확인 - true")
         void isJobPostingOwner_True() {
             // given
-            when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(jobPosting));
+            when(jobPostingRepository.existsByIdAndCompanyUserId(1L, 2L)).thenReturn(true);
             
             // when
             boolean result = applicationService.isJobPostingOwner(1L, 2L);
@@ -330,7 +509,7 @@ class ApplicationServiceImplTest {
         @DisplayName("채용공고 소유자 확인 - false")
         void isJobPostingOwner_False() {
             // given
-            when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(jobPosting));
+            when(jobPostingRepository.existsByIdAndCompanyUserId(1L, 999L)).thenReturn(false);
             
             // when
             boolean result = applicationService.isJobPostingOwner(1L, 999L);
@@ -343,7 +522,7 @@ class ApplicationServiceImplTest {
         @DisplayName("지원서를 통한 채용공고 소유자 확인 - true")
         void isJobPostingOwnerByApplication_True() {
             // given
-            when(applicationRepository.findById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.findWithJobPostingById(1L)).thenReturn(Optional.of(application));
             
             // when
             boolean result = applicationService.isJobPostingOwnerByApplication(1L, 2L);
@@ -356,7 +535,7 @@ class ApplicationServiceImplTest {
         @DisplayName("지원서를 통한 채용공고 소유자 확인 - false")
         void isJobPostingOwnerByApplication_False() {
             // given
-            when(applicationRepository.findById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.findWithJobPostingById(1L)).thenReturn(Optional.of(application));
             
             // when
             boolean result = applicationService.isJobPostingOwnerByApplication(1L, 999L);
@@ -364,5 +543,48 @@ class ApplicationServiceImplTest {
             // then
             assertFalse(result);
         }
+        
+        @Test
+        @DisplayName("같은 요청 안에서는 소유권 확인 결과를 재사용하고, 공고 존재 확인도 생략한다")
+        void ownershipCheck_MemoizedPerRequest() {
+            // given
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            when(jobPostingRepository.existsByIdAndCompanyUserId(1L, 2L)).thenReturn(true);
+            when(applicationRepository.findApplicants(eq(1L), isNull(), any(Pageable.class))).thenReturn(Page.empty());
+            
+            try {
+                // when
+                assertTrue(applicationService.isJobPostingOwner(1L, 2L));
+                assertTrue(applicationService.isJobPostingOwner(1L, 2L));
+                applicationService.getJobApplicants(1L, 2L, null, PageRequest.of(0, 20));
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+            
+            // then
+            verify(jobPostingRepository, times(1)).existsByIdAndCompanyUserId(1L, 2L);
+            verify(jobPostingRepository, never()).existsById(any());
+        }
+        
+        @Test
+        @DisplayName("같은 요청 안에서는 소유권 확인이 조회한 지원서를 삭제와 상태 변경에서 재사용한다")
+        void ownershipCheck_ReusesApplication() {
+            // given
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            when(applicationRepository.findWithJobPostingById(1L)).thenReturn(Optional.of(application));
+            when(applicationRepository.updateStatus(eq(List.of(1L)), eq(ApplicationStatus.APPLIED), eq(ApplicationStatus.PASSED), any()))
+                    .thenReturn(1);
+            
+            try {
+                // when
+                assertTrue(applicationService.isJobPostingOwnerByApplication(1L, 2L));
+                applicationService.updateApplicationStatus(1L, new UpdateStatusRequestDTO(ApplicationStatus.PASSED), 2L);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+            
+            // then
+            verify(applicationRepository, times(1)).findWithJobPostingById(1L);
+        }
     }
 }
\ No newline at end of file
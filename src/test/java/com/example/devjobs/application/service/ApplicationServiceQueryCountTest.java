@@ -0,0 +1,254 @@
+package com.example.devjobs.application.service;
+
+import com.example.devjobs.application.dto.ApplicationForCompanyResponse;
+import com.example.devjobs.application.dto.BulkUpdateStatusRequest;
+import com.example.devjobs.application.dto.BulkUpdateStatusResponse;
+import com.example.devjobs.application.dto.UpdateStatusRequestDTO;
+import com.example.devjobs.application.entity.Application;
+import com.example.devjobs.application.entity.ApplicationStatus;
+import com.example.devjobs.application.repository.ApplicationRepository;
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.entity.IndividualUser;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공고별 지원자 목록 조회의 SQL 실행 횟수가 지원자 수와 무관하게 일정한지,
+ * 상태 필터와 정렬이 쿼리에 반영되는지 검증합니다.
+ * (공고 존재 확인 1회 + 목록 조회 1회 + 다음 페이지가 있을 때만 전체 건수 조회 1회)
+ * 소유권 확인(같은 요청의 지원서 재사용 포함)과 일괄 상태 변경의 SQL 횟수, 공고의 지원서 수 반영도 함께 검증합니다.
+ */
+@DataJpaTest
+@Import(JobPostingCountCache.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ApplicationServiceQueryCountTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Object> events = new ArrayList<>();
+    private ApplicationCounter applicationCounter;
+    private ApplicationServiceImpl applicationService;
+    private Statistics statistics;
+    private JobPosting jobPosting;
+
+    @BeforeEach
+    void setUp() {
+        // 회원 저장소는 사용하지 않고, 발행한 이벤트는 목록에 기록
+        applicationCounter = new ApplicationCounter(jdbcTemplate);
+        applicationService = new ApplicationServiceImpl(applicationRepository, jobPostingRepository, null, events::add,
+                applicationCounter);
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        CompanyUser company = CompanyUser.builder()
+                .loginId("company").password("pw").name("담당자").email("company@devjobs.com")
+                .role("ROLE_COMPANY").companyName("회사").companyCode("code")
+                .companyAddress("서울").ceoName("대표")
+                .build();
+        em.persist(company);
+        jobPosting = JobPosting.builder()
+                .companyUser(company).title("백엔드 개발자").content("내용").workLocation("서울")
+                .deadline(LocalDate.now().plusDays(7))
+                .build();
+        em.persist(jobPosting);
+    }
+
+    @Test
+    @DisplayName("지원자가 한 페이지에 모두 담기면 SQL 2회, 이름과 이메일을 함께 조회")
+    void getJobApplicants_SinglePage() {
+        apply(5);
+
+        Page<ApplicationForCompanyResponse> page = countStatements(2,
+                () -> applicationService.getJobApplicants(jobPosting.getId(), null, null, PageRequest.of(0, PAGE_SIZE)));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).allSatisfy(applicant -> {
+            assertThat(applicant.getApplicantName()).startsWith("지원자");
+            assertThat(applicant.getApplicantEmail()).endsWith("@devjobs.com");
+            assertThat(applicant.getAppliedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("지원자 수와 무관하게 SQL 3회 (존재 확인 + 목록 + 전체 건수)")
+    void getJobApplicants_ConstantStatements() {
+        apply(PAGE_SIZE * 5);
+
+        Page<ApplicationForCompanyResponse> page = countStatements(3,
+                () -> applicationService.getJobApplicants(jobPosting.getId(), null, null, PageRequest.of(1, PAGE_SIZE)));
+
+        assertThat(page.getNumberOfElements()).isEqualTo(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(PAGE_SIZE * 5);
+    }
+
+    @Test
+    @DisplayName("상태로 필터링하고 지원자 이름순으로 정렬한다")
+    void getJobApplicants_FilterAndSort() {
+        apply(PAGE_SIZE * 2);
+
+        Page<ApplicationForCompanyResponse> page = countStatements(2,
+                () -> applicationService.getJobApplicants(jobPosting.getId(), null, ApplicationStatus.PASSED,
+                        PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "applicantName"))));
+
+        assertThat(page.getTotalElements()).isEqualTo(PAGE_SIZE * 2 / 3);
+        assertThat(page.getContent()).allSatisfy(applicant -> assertThat(applicant.getStatus()).isEqualTo(ApplicationStatus.PASSED));
+        assertThat(page.getContent()).isSortedAccordingTo(Comparator.comparing(ApplicationForCompanyResponse::getApplicantName));
+    }
+
+    @Test
+    @DisplayName("소유권 확인은 각각 SQL 1회로 끝나고, 공고 소유권은 엔티티를 읽지 않는다")
+    void ownershipChecks_SingleStatement() {
+        apply(1);
+        Application application = applicationRepository.findAll().get(0);
+        Long applicantId = application.getIndividualUser().getId();
+        Long companyId = jobPosting.getCompanyUser().getId();
+
+        assertThat(countStatement(() -> applicationService.isJobPostingOwner(jobPosting.getId(), companyId))).isTrue();
+        assertThat(countStatement(() -> applicationService.isJobPostingOwner(jobPosting.getId(), applicantId))).isFalse();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // 지원서 기준 확인은 서비스 로직에서 재사용할 지원서와 채용공고를 함께 읽음
+        assertThat(countStatement(() -> applicationService.isApplicationOwner(application.getId(), applicantId))).isTrue();
+        assertThat(countStatement(() -> applicationService.isApplicationOwner(application.getId(), companyId))).isFalse();
+        assertThat(countStatement(() -> applicationService.isJobPostingOwnerByApplication(application.getId(), companyId))).isTrue();
+        assertThat(countStatement(() -> applicationService.isJobPostingOwnerByApplication(application.getId(), applicantId))).isFalse();
+        assertThat(countStatement(() -> applicationService.isJobPostingOwnerByApplication(-1L, companyId))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 소유권 확인 후 삭제하면 지원서를 다시 조회하지 않는다 (조회 1회 + DELETE 1회)")
+    void ownershipCheckThenDelete_ReusesApplication() {
+        apply(1);
+        Application application = applicationRepository.findAll().get(0);
+        Long applicantId = application.getIndividualUser().getId();
+
+        em.clear();
+        statistics.clear();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            assertThat(applicationService.isApplicationOwner(application.getId(), applicantId)).isTrue();
+            applicationService.deleteApplication(application.getId(), applicantId);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // 공고 지원서 수 UPDATE는 JdbcTemplate이라 통계에 포함되지 않음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(applicationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 상태 변경은 지원서 수와 무관하게 소유권 확인 조회 1회 + 이전 상태별 UPDATE 1회씩, 지원서 수도 옮긴다")
+    void updateApplicationStatuses_StatementsPerPreviousStatus() {
+        apply(PAGE_SIZE * 3);
+        List<Long> ids = applicationRepository.findAll().stream().map(Application::getId).toList();
+        Long companyId = jobPosting.getCompanyUser().getId();
+
+        em.clear();
+        statistics.clear();
+        BulkUpdateStatusResponse response = applicationService.updateApplicationStatuses(
+                new BulkUpdateStatusRequest(ids, ApplicationStatus.INTERVIEW), companyId);
+
+        // APPLIED, PASSED, REJECTED 세 그룹 (공고 지원서 수 UPDATE는 JdbcTemplate이라 통계에 포함되지 않음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + 3);
+        assertThat(response.updatedCount()).isEqualTo(ids.size());
+        assertThat(jdbcTemplate.queryForMap("SELECT application_count, applied_count, passed_count, interview_count, " +
+                "rejected_count FROM job_postings WHERE job_posting_id = ?", jobPosting.getId()))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(
+                        "APPLICATION_COUNT", ids.size(), "APPLIED_COUNT", 0, "PASSED_COUNT", 0,
+                        "INTERVIEW_COUNT", ids.size(), "REJECTED_COUNT", 0));
+        assertThat(events).hasSize(ids.size());
+        assertThat(applicationRepository.findAll()).allSatisfy(application ->
+                assertThat(application.getStatus()).isEqualTo(ApplicationStatus.INTERVIEW));
+    }
+
+    @Test
+    @DisplayName("지원서 수가 보정되기 전(0)이어도 상태 변경과 삭제로 음수가 되지 않는다")
+    void counters_NeverGoNegative() {
+        IndividualUser user = IndividualUser.builder()
+                .loginId("legacy").password("pw").name("기존 지원자").email("legacy@devjobs.com").role("ROLE_INDIVIDUAL")
+                .build();
+        em.persist(user);
+        Application legacy = Application.builder()
+                .jobPosting(jobPosting).individualUser(user).status(ApplicationStatus.APPLIED)
+                .build();
+        em.persist(legacy);
+        em.flush();
+
+        applicationService.updateApplicationStatus(legacy.getId(), new UpdateStatusRequestDTO(ApplicationStatus.PASSED),
+                jobPosting.getCompanyUser().getId());
+        em.clear();
+        applicationService.deleteApplication(legacy.getId(), user.getId());
+
+        assertThat(jdbcTemplate.queryForMap("SELECT application_count, applied_count, passed_count FROM job_postings " +
+                "WHERE job_posting_id = ?", jobPosting.getId()))
+                .containsExactlyInAnyOrderEntriesOf(Map.of("APPLICATION_COUNT", 0, "APPLIED_COUNT", 0, "PASSED_COUNT", 0));
+    }
+
+    private boolean countStatement(Supplier<Boolean> check) {
+        em.clear();
+        statistics.clear();
+        boolean result = check.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        return result;
+    }
+
+    private <T> Page<T> countStatements(long expected, Supplier<Page<T>> query) {
+        em.clear();
+        statistics.clear();
+        Page<T> result = query.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+
+    // 지원자 count명을 만들어 APPLIED, PASSED, REJECTED 상태를 번갈아 지원 (공고의 지원서 수도 함께 반영)
+    private void apply(int count) {
+        ApplicationStatus[] statuses = {ApplicationStatus.APPLIED, ApplicationStatus.PASSED, ApplicationStatus.REJECTED};
+        for (int i = 0; i < count; i++) {
+            IndividualUser user = IndividualUser.builder()
+                    .loginId("user" + i).password("pw").name(String.format("지원자%03d", count - i))
+                    .email("user" + i + "@devjobs.com").role("ROLE_INDIVIDUAL")
+                    .build();
+            em.persist(user);
+            em.persist(Application.builder()
+                    .jobPosting(jobPosting).individualUser(user).status(statuses[i % 3])
+                    .build());
+            applicationCounter.added(jobPosting.getId(), statuses[i % 3]);
+        }
+        em.flush();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.devjobs.application.service;
+
+import com.example.devjobs.application.dto.ApplicationRequestDTO;
+import com.example.devjobs.application.repository.ApplicationRepository;
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 사용자가 같은 공고에 동시에 여러 번 지원해도 유니크 제약으로 한 건만 저장되고,
+ * 나머지는 "이미 지원한 공고입니다." 오류가 되는지, 공고의 지원서 수도 1만 증가하는지 검증합니다.
+ * 요청마다 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({JobPostingCountCache.class, ApplicationServiceImpl.class, ApplicationCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CreateApplicationConcurrencyTest {
+
+    private static final int REQUESTS = 100;
+
+    @Autowired
+    private ApplicationService applicationService;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        applicationRepository.deleteAll();
+        jobPostingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시에 100번 지원하면 정확히 한 건만 저장되고 지원서 수도 1이다")
+    void concurrentApplies_CreateExactlyOneApplication() throws Exception {
+        IndividualUser applicant = userRepository.save(IndividualUser.builder()
+                .loginId("applicant").password("pw").name("지원자").email("applicant@devjobs.com")
+                .role("ROLE_INDIVIDUAL")
+                .build());
+        CompanyUser company = userRepository.save(CompanyUser.builder()
+                .loginId("company").password("pw").name("담당자").email("company@devjobs.com")
+                .role("ROLE_COMPANY").companyName("회사").companyCode("code")
+                .companyAddress("서울").ceoName("대표")
+                .build());
+        JobPosting jobPosting = jobPostingRepository.save(JobPosting.builder()
+                .companyUser(company).title("백엔드 개발자").content("내용").workLocation("서울")
+                .deadline(LocalDate.now().plusDays(7))
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return applicationService.createApplication(new ApplicationRequestDTO(jobPosting.getId()), applicant.getId());
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(failures).hasSize(REQUESTS - 1)
+                .allSatisfy(failure -> assertThat(failure)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("이미 지원한 공고입니다."));
+        assertThat(applicationRepository.count()).isEqualTo(1);
+        JobPosting counted = jobPostingRepository.findById(jobPosting.getId()).orElseThrow();
+        assertThat(counted.getApplicationCount()).isEqualTo(1);
+        assertThat(counted.getAppliedCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.devjobs.batch.job;
+
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마감 공고 처리 배치(파티션 모드, 일괄 UPDATE 모드)가 대량 데이터에서 누락 없이 마감하는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "app.file.upload-dir=${java.io.tmpdir}/devjobs-test",
+        "app.batch.close-expired.threads=4"
+})
+@ActiveProfiles("test")
+@RecordApplicationEvents
+// @EnableBatchProcessing 사용 시 Boot의 배치 스키마 자동 생성이 꺼지므로 H2용 메타데이터 테이블을 직접 생성
+@Sql({"classpath:org/springframework/batch/core/schema-drop-h2.sql", "classpath:org/springframework/batch/core/schema-h2.sql"})
+class CloseExpiredJobPostingsJobTest {
+
+    private static final int TOTAL = 100_000;
+
+    @Autowired
+    private JobLauncher jobLauncher;
+    @Autowired
+    private Job closeExpiredJobPostingsJob;
+    @Autowired
+    private Job bulkCloseExpiredJobPostingsJob;
+    @Autowired
+    private ApplicationEvents events;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM job_postings");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("10만 건 중 마감일이 지난 활성 공고를 빠짐없이 마감하고, 나머지는 건드리지 않는다")
+    void closesEveryExpiredPosting() throws Exception {
+        int expected = insertJobPostings(saveCompany().getId());
+
+        JobExecution execution = launch(closeExpiredJobPostingsJob);
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        List<StepExecution> workers = execution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().startsWith("closeExpiredJobPostingsWorkerStep"))
+                .toList();
+        assertThat(workers).hasSize(4);
+        assertThat(workers.stream().mapToLong(StepExecution::getWriteCount).sum()).isEqualTo(expected);
+        assertThat(events.stream(JobPostingsClosedEvent.class)
+                .mapToLong(event -> event.jobPostingIds().size()).sum()).isEqualTo(expected);
+        assertOnlyExpiredPostingsClosed(expected);
+    }
+
+    @Test
+    @DisplayName("파티션 모드 라이터는 읽은 뒤 다른 요청이 상태를 바꾼 공고를 마감 이벤트에 넣지 않는다")
+    void writerPublishesOnlyClosedIds() throws Exception {
+        Long companyUserId = saveCompany().getId();
+        insertJobPostings(companyUserId);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT job_posting_id FROM job_postings WHERE title LIKE 'expired%' ORDER BY job_posting_id LIMIT 3", Long.class);
+        // 리더가 읽은 뒤 채용완료로 바뀐 공고
+        jdbcTemplate.update("UPDATE job_postings SET status = 'FILLED' WHERE job_posting_id = ?", ids.get(1));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try {
+                new CloseJobPostingsWriter(namedParameterJdbcTemplate, eventPublisher).write(new Chunk<>(ids));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(events.stream(JobPostingsClosedEvent.class).flatMap(event -> event.jobPostingIds().stream()))
+                .containsExactly(ids.get(0), ids.get(2));
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM job_postings WHERE job_posting_id = ?",
+                String.class, ids.get(1))).isEqualTo("FILLED");
+    }
+
+    @Test
+    @DisplayName("일괄 UPDATE 모드도 10만 건 중 마감 대상만 빠짐없이 마감하고, 건수와 ID를 남긴다")
+    void bulkModeClosesEveryExpiredPosting() throws Exception {
+        int expected = insertJobPostings(saveCompany().getId());
+
+        JobExecution execution = launch(bulkCloseExpiredJobPostingsJob);
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        StepExecution step = execution.getStepExecutions().iterator().next();
+        assertThat(step.getWriteCount()).isEqualTo(expected);
+        assertThat(step.getExecutionContext().getLong(BulkCloseExpiredJobPostingsTasklet.CLOSED_COUNT)).isEqualTo(expected);
+        assertThat(events.stream(JobPostingsClosedEvent.class)
+                .mapToLong(event -> event.jobPostingIds().size()).sum()).isEqualTo(expected);
+        assertOnlyExpiredPostingsClosed(expected);
+    }
+
+    @Test
+    @DisplayName("마감할 공고가 없으면 두 모드 모두 바로 완료한다")
+    void completesWithNothingToClose() throws Exception {
+        assertThat(launch(closeExpiredJobPostingsJob).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(launch(bulkCloseExpiredJobPostingsJob).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(events.stream(JobPostingsClosedEvent.class)).isEmpty();
+    }
+
+    private JobExecution launch(Job job) throws Exception {
+        return jobLauncher.run(job, new JobParametersBuilder()
+                .addLocalDateTime("runTime", LocalDateTime.now())
+                .toJobParameters());
+    }
+
+    private void assertOnlyExpiredPostingsClosed(int expected) {
+        assertThat(count("deadline < CURRENT_DATE AND status = 'ACTIVE'")).isZero();
+        assertThat(count("deadline < CURRENT_DATE AND status = 'CLOSED' AND title LIKE 'expired%'")).isEqualTo(expected);
+        assertThat(count("deadline >= CURRENT_DATE AND status = 'ACTIVE'")).isEqualTo(TOTAL / 3 + (TOTAL % 3 > 1 ? 1 : 0));
+        assertThat(count("status = 'FILLED'")).isEqualTo(TOTAL / 3);
+    }
+
+    private CompanyUser saveCompany() {
+        return userRepository.save(CompanyUser.builder()
+                .loginId("batch").password("pw").name("담당자").email("batch@devjobs.com").role("ROLE_COMPANY")
+                .companyName("배치회사").companyCode("000-00-00000").companyAddress("서울").ceoName("대표")
+                .build());
+    }
+
+    // 마감일이 지난 활성 공고, 진행 중인 공고, 마감일이 지났지만 이미 채용완료된 공고를 번갈아 생성
+    private int insertJobPostings(Long companyUserId) {
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        int expired = 0;
+        for (int i = 0; i < TOTAL; i++) {
+            String title;
+            LocalDate deadline;
+            String status;
+            switch (i % 3) {
+                case 0 -> {
+                    title = "expired " + i;
+                    deadline = today.minusDays(1 + i % 30);
+                    status = "ACTIVE";
+                    expired++;
+                }
+                case 1 -> {
+                    title = "open " + i;
+                    deadline = today.plusDays(i % 30);
+                    status = "ACTIVE";
+                }
+                default -> {
+                    title = "filled " + i;
+                    deadline = today.minusDays(1);
+                    status = "FILLED";
+                }
+            }
+            rows.add(new Object[]{companyUserId, title, "내용", Date.valueOf(deadline), "서울", 0L, status, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO job_postings (company_user_id, title, content, deadline, work_location, " +
+                "view_count, status, create_date, update_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return expired;
+    }
+
+    private long count(String condition) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_postings WHERE " + condition, Long.class);
+    }
+}
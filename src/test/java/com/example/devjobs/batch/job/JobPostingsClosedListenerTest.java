@@ -0,0 +1,103 @@
+package com.example.devjobs.batch.job;
+
+import com.example.devjobs.common.config.MetricsConfig;
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.jobposting.search.InvertedIndexJobPostingSearchEngine;
+import com.example.devjobs.jobposting.search.JobPostingSearchEngine;
+import com.example.devjobs.jobposting.service.JobPostingDetailCache;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마감 이벤트가 커밋된 뒤에만 공고를 검색 색인에서 제거하고, 롤백되면 색인에 그대로 두는지 검증합니다.
+ * 커밋 시점을 확인해야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({JobPostingCountCache.class, InvertedIndexJobPostingSearchEngine.class, JobPostingDetailCache.class,
+        JobPostingsClosedListener.class, MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "app.search.engine=index")
+class JobPostingsClosedListenerTest {
+
+    @Autowired
+    private JobPostingSearchEngine searchEngine;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long jobPostingId;
+
+    @BeforeEach
+    void setUp() {
+        CompanyUser company = userRepository.save(CompanyUser.builder()
+                .loginId("company").password("pw").name("담당자").email("company@devjobs.com")
+                .role("ROLE_COMPANY").companyName("회사").companyCode("code")
+                .companyAddress("서울").ceoName("대표")
+                .build());
+        jobPostingId = jobPostingRepository.save(JobPosting.builder()
+                .companyUser(company).title("마감될 공고").content("내용").workLocation("서울")
+                .deadline(LocalDate.now().plusDays(7))
+                .build()).getId();
+        searchEngine.refresh(List.of(jobPostingId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchEngine.remove(jobPostingId);
+        jobPostingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("마감이 커밋된 뒤에 색인에서 제거하고, 커밋 전에는 그대로 둔다")
+    void removesAfterCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new JobPostingsClosedEvent(List.of(jobPostingId)));
+            assertThat(indexedCount()).isEqualTo(1);
+        });
+
+        assertThat(indexedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("마감이 롤백되면 색인에서 제거하지 않는다")
+    void keepsIndexOnRollback() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new JobPostingsClosedEvent(List.of(jobPostingId)));
+            status.setRollbackOnly();
+        });
+
+        assertThat(indexedCount()).isEqualTo(1);
+    }
+
+    private long indexedCount() {
+        return searchEngine.search("마감될", null, null, null, null, null, null, PageRequest.of(0, 10))
+                .getTotalElements();
+    }
+}
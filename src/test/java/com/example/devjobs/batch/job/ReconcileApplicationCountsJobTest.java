@@ -0,0 +1,191 @@
+package com.example.devjobs.batch.job;
+
+import com.example.devjobs.application.entity.Application;
+import com.example.devjobs.application.entity.ApplicationStatus;
+import com.example.devjobs.application.repository.ApplicationRepository;
+import com.example.devjobs.batch.scheduler.JobPostingBatchScheduler;
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지원서 수 보정 배치가 여러 ID 구간에 걸쳐 어긋난 공고만 찾아 실제 지원서 집계로 다시 계산하는지,
+ * 시작 시 보정되지 않은 공고가 있을 때만 배치를 실행하는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "app.file.upload-dir=${java.io.tmpdir}/devjobs-test",
+        "app.batch.reconcile-application-counts.range-size=3"
+})
+@ActiveProfiles("test")
+// @EnableBatchProcessing 사용 시 Boot의 배치 스키마 자동 생성이 꺼지므로 H2용 메타데이터 테이블을 직접 생성
+@Sql({"classpath:org/springframework/batch/core/schema-drop-h2.sql", "classpath:org/springframework/batch/core/schema-h2.sql"})
+class ReconcileApplicationCountsJobTest {
+
+    private static final int POSTINGS = 10;
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    @Autowired
+    private JobLauncher jobLauncher;
+    @Autowired
+    private Job reconcileApplicationCountsJob;
+    @Autowired
+    private JobPostingBatchScheduler scheduler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        applicationRepository.deleteAll();
+        jobPostingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("저장된 지원서 수가 실제와 다른 공고만 보정하고, 맞는 공고는 건드리지 않는다")
+    void repairsOnlyDriftedPostings() throws Exception {
+        List<JobPosting> postings = saveJobPostings();
+        List<IndividualUser> applicants = saveApplicants();
+        // i번째 공고에 지원자 i명이 상태를 번갈아 지원 (지원서 수 컬럼은 0 그대로)
+        for (int i = 0; i < POSTINGS; i++) {
+            for (int j = 0; j < i; j++) {
+                applicationRepository.save(Application.builder()
+                        .jobPosting(postings.get(i)).individualUser(applicants.get(j)).status(STATUSES[j % STATUSES.length])
+                        .build());
+            }
+        }
+        // 지원서가 하나뿐인 공고는 미리 맞춰 두고, 지원서가 없는 공고는 값을 틀리게 설정
+        jdbcTemplate.update("UPDATE job_postings SET application_count = 1, applied_count = 1 WHERE job_posting_id = ?",
+                postings.get(1).getId());
+        jdbcTemplate.update("UPDATE job_postings SET application_count = 5, rejected_count = 5 WHERE job_posting_id = ?",
+                postings.get(0).getId());
+
+        JobExecution execution = launch();
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        StepExecution step = execution.getStepExecutions().iterator().next();
+        // 미리 맞춰 둔 1번 공고를 제외한 나머지만 보정
+        assertThat(step.getWriteCount()).isEqualTo(POSTINGS - 1);
+        assertThat(step.getExecutionContext().getLong(ReconcileApplicationCountsTasklet.REPAIRED_COUNT)).isEqualTo(POSTINGS - 1);
+        assertCountsMatchApplications();
+    }
+
+    @Test
+    @DisplayName("어긋난 공고가 없으면 아무것도 보정하지 않고 완료한다")
+    void completesWithNothingToRepair() throws Exception {
+        saveJobPostings();
+
+        JobExecution execution = launch();
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(execution.getStepExecutions().iterator().next().getWriteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("시작 시 지원서가 있는데 지원서 수가 0인 공고가 있으면 보정 배치를 실행한다")
+    void reconcilesOnStartupWhenUnreconciled() {
+        List<JobPosting> postings = saveJobPostings();
+        List<IndividualUser> applicants = saveApplicants();
+        applicationRepository.save(Application.builder()
+                .jobPosting(postings.get(0)).individualUser(applicants.get(0)).status(ApplicationStatus.PASSED)
+                .build());
+
+        scheduler.reconcileApplicationCountsOnStartup();
+
+        assertThat(jobInstances()).isEqualTo(1);
+        assertCountsMatchApplications();
+    }
+
+    @Test
+    @DisplayName("시작 시 보정할 공고가 없으면 배치를 실행하지 않는다")
+    void skipsStartupReconcileWhenConsistent() {
+        saveJobPostings();
+
+        scheduler.reconcileApplicationCountsOnStartup();
+
+        assertThat(jobInstances()).isZero();
+    }
+
+    private long jobInstances() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH_JOB_INSTANCE WHERE JOB_NAME = ?",
+                Long.class, reconcileApplicationCountsJob.getName());
+    }
+
+    private JobExecution launch() throws Exception {
+        return jobLauncher.run(reconcileApplicationCountsJob, new JobParametersBuilder()
+                .addLocalDateTime("runTime", LocalDateTime.now())
+                .toJobParameters());
+    }
+
+    private void assertCountsMatchApplications() {
+        jobPostingRepository.findAll().forEach(posting -> {
+            List<Application> applications = applicationRepository.findAll().stream()
+                    .filter(application -> application.getJobPosting().getId().equals(posting.getId()))
+                    .toList();
+            assertThat(posting.getApplicationCount()).isEqualTo(applications.size());
+            assertThat(posting.getAppliedCount()).isEqualTo(count(applications, ApplicationStatus.APPLIED));
+            assertThat(posting.getPassedCount()).isEqualTo(count(applications, ApplicationStatus.PASSED));
+            assertThat(posting.getInterviewCount()).isEqualTo(count(applications, ApplicationStatus.INTERVIEW));
+            assertThat(posting.getAcceptedCount()).isEqualTo(count(applications, ApplicationStatus.ACCEPTED));
+            assertThat(posting.getRejectedCount()).isEqualTo(count(applications, ApplicationStatus.REJECTED));
+        });
+    }
+
+    private int count(List<Application> applications, ApplicationStatus status) {
+        return (int) applications.stream().filter(application -> application.getStatus() == status).count();
+    }
+
+    private List<JobPosting> saveJobPostings() {
+        CompanyUser company = userRepository.save(CompanyUser.builder()
+                .loginId("batch").password("pw").name("담당자").email("batch@devjobs.com").role("ROLE_COMPANY")
+                .companyName("배치회사").companyCode("000-00-00000").companyAddress("서울").ceoName("대표")
+                .build());
+        List<JobPosting> postings = new ArrayList<>();
+        for (int i = 0; i < POSTINGS; i++) {
+            postings.add(jobPostingRepository.save(JobPosting.builder()
+                    .companyUser(company).title("공고 " + i).content("내용").workLocation("서울")
+                    .deadline(LocalDate.now().plusDays(7))
+                    .build()));
+        }
+        return postings;
+    }
+
+    private List<IndividualUser> saveApplicants() {
+        List<IndividualUser> applicants = new ArrayList<>();
+        for (int i = 0; i < POSTINGS; i++) {
+            applicants.add(userRepository.save(IndividualUser.builder()
+                    .loginId("applicant" + i).password("pw").name("지원자" + i).email("applicant" + i + "@devjobs.com")
+                    .role("ROLE_INDIVIDUAL")
+                    .build()));
+        }
+        return applicants;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.devjobs.home.service;
 import com.example.devjobs.application.repository.ApplicationRepository;
 import com.example.devjobs.home.dto.CategoryWithCountDto;
 import com.example.devjobs.home.dto.HomeResponse;
+import com.example.devjobs.home.dto.HomeSnapshotStatusDto;
 import com.example.devjobs.home.dto.HomeStatisticsDto;
 import com.example.devjobs.home.dto.SimpleJobPostingDto;
 import com.example.devjobs.jobcategory.entity.JobCategory;
@@ -21,6 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -29,6 +31,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -118,20 +121,19 @@ class HomeServiceImplTest {
         when(companyUserRepository.count()).thenReturn(50L);
         when(individualUserRepository.count()).thenReturn(1000L);
         
-        // 최신 채용공고
-        Pageable pageable = PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "createDate"));
-        Page<JobPosting> jobPostingPage = new PageImpl<>(Arrays.asList(jobPosting1, jobPosting2));
-        when(jobPostingRepository.findAll(any(Pageable.class))).thenReturn(jobPostingPage);
+        // 최신 채용공고 (필요한 컬럼만 조회, 본문은 100자 요약)
+        ReflectionTestUtils.setField(homeService, "recentJobExcerptLength", 100);
+        when(jobPostingRepository.findRecentJobSummaries(100, PageRequest.of(0, 6)))
+                .thenReturn(Arrays.asList(summary(jobPosting1), summary(jobPosting2)));
         
-        // 인기 카테고리
-        List<JobCategory> categories = Arrays.asList(backendCategory, frontendCategory);
-        when(jobCategoryRepository.findAll()).thenReturn(categories);
-        when(jobPostingRepository.countByJobCategoryAndDeadlineAfter(eq(backendCategory), any(LocalDate.class)))
-                .thenReturn(25L);
-        when(jobPostingRepository.countByJobCategoryAndDeadlineAfter(eq(frontendCategory), any(LocalDate.class)))
-                .thenReturn(20L);
+        // 인기 카테고리 (공고 수 내림차순으로 집계된 결과)
+        when(jobCategoryRepository.findPopularCategories(any(LocalDate.class), any(Pageable.class)))
+                .thenReturn(Arrays.asList(
+                        new CategoryWithCountDto(backendCategory.getId(), backendCategory.getCategoryName(), 25L),
+                        new CategoryWithCountDto(frontendCategory.getId(), frontendCategory.getCategoryName(), 20L)));
         
         // when
+        homeService.refreshSnapshot();
         HomeResponse response = homeService.getHomeData();
         
         // then
@@ -172,13 +174,13 @@ class HomeServiceImplTest {
         when(companyUserRepository.count()).thenReturn(0L);
         when(individualUserRepository.count()).thenReturn(0L);
         
-        Pageable pageable = PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "createDate"));
-        Page<JobPosting> emptyPage = new PageImpl<>(Arrays.asList());
-        when(jobPostingRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
+        when(jobPostingRepository.findRecentJobSummaries(anyInt(), any(Pageable.class))).thenReturn(Arrays.asList());
         
-        when(jobCategoryRepository.findAll()).thenReturn(Arrays.asList());
+        when(jobCategoryRepository.findPopularCategories(any(LocalDate.class), any(Pageable.class)))
+                .thenReturn(Arrays.asList());
         
         // when
+        homeService.refreshSnapshot();
         HomeResponse response = homeService.getHomeData();
         
         // then
@@ -207,34 +209,107 @@ class HomeServiceImplTest {
         when(individualUserRepository.count()).thenReturn(1000L);
         
         // 최신 채용공고 (이전과 동일)
-        Pageable pageable = PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "createDate"));
-        Page<JobPosting> jobPostingPage = new PageImpl<>(Arrays.asList(jobPosting1));
-        when(jobPostingRepository.findAll(any(Pageable.class))).thenReturn(jobPostingPage);
-        
-        // 10개의 카테고리 생성
-        List<JobCategory> categories = Arrays.asList();
-        for (int i = 1; i <= 10; i++) {
-            JobCategory category = JobCategory.builder()
-                    .id((long) i)
-                    .categoryName("카테고리" + i)
-                    .build();
-            categories = appendToList(categories, category);
-            when(jobPostingRepository.countByJobCategoryAndDeadlineAfter(eq(category), any(LocalDate.class)))
-                    .thenReturn((long) (10 - i + 1) * 5); // 역순으로 카운트 설정
+        when(jobPostingRepository.findRecentJobSummaries(anyInt(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(summary(jobPosting1)));
+        
+        // 8개의 카테고리 집계 결과 (조회 개수 제한은 쿼리에서 처리)
+        List<CategoryWithCountDto> categories = Arrays.asList();
+        for (int i = 1; i <= 8; i++) {
+            categories = appendToList(categories, new CategoryWithCountDto((long) i, "카테고리" + i, (long) (10 - i + 1) * 5));
         }
-        when(jobCategoryRepository.findAll()).thenReturn(categories);
+        when(jobCategoryRepository.findPopularCategories(any(LocalDate.class), any(Pageable.class))).thenReturn(categories);
         
         // when
+        homeService.refreshSnapshot();
         HomeResponse response = homeService.getHomeData();
         
         // then
         List<CategoryWithCountDto> popularCategories = response.popularCategories();
         assertEquals(8, popularCategories.size()); // 8개로 제한됨
+        verify(jobCategoryRepository).findPopularCategories(any(LocalDate.class), eq(PageRequest.of(0, 8)));
+        verify(jobPostingRepository, never()).countByJobCategoryAndDeadlineAfter(any(), any()); // 카테고리별 개별 조회 없음
         
         // 첫 번째 카테고리가 가장 많은 공고 수를 가져야 함
         assertTrue(popularCategories.get(0).jobCount() >= popularCategories.get(1).jobCount());
     }
     
+    @Test
+    @DisplayName("홈 데이터 조회 - 요청 시에는 DB를 조회하지 않고 스냅샷을 반환")
+    void getHomeData_ServedFromSnapshot() {
+        // given
+        when(jobPostingRepository.count()).thenReturn(100L);
+        when(jobPostingRepository.findRecentJobSummaries(anyInt(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(summary(jobPosting1)));
+        when(jobCategoryRepository.findPopularCategories(any(LocalDate.class), any(Pageable.class))).thenReturn(Arrays.asList());
+        homeService.refreshSnapshot();
+        clearInvocations(jobPostingRepository, jobCategoryRepository, companyUserRepository, individualUserRepository);
+        
+        // when
+        HomeResponse first = homeService.getHomeData();
+        HomeResponse second = homeService.getHomeData();
+        
+        // then
+        assertSame(first, second);
+        assertEquals(100L, first.statistics().totalJobs());
+        verifyNoInteractions(jobPostingRepository, jobCategoryRepository, companyUserRepository, individualUserRepository);
+    }
+    
+    @Test
+    @DisplayName("스냅샷 생성 실패 시 이전 스냅샷을 유지하고 실패 횟수를 기록")
+    void refreshSnapshot_FailureKeepsPrevious() {
+        // given
+        when(jobPostingRepository.count()).thenReturn(100L).thenThrow(new RuntimeException("DB 오류"));
+        when(jobPostingRepository.findRecentJobSummaries(anyInt(), any(Pageable.class))).thenReturn(Arrays.asList());
+        when(jobCategoryRepository.findPopularCategories(any(LocalDate.class), any(Pageable.class))).thenReturn(Arrays.asList());
+        homeService.refreshSnapshot();
+        
+        // when
+        homeService.refreshSnapshot();
+        
+        // then
+        assertEquals(100L, homeService.getHomeData().statistics().totalJobs());
+        HomeSnapshotStatusDto status = homeService.getSnapshotStatus();
+        assertNotNull(status.builtAt());
+        assertTrue(status.ageMillis() >= 0);
+        assertEquals(1L, status.consecutiveFailures());
+    }
+    
+    @Test
+    @DisplayName("첫 스냅샷 생성 전에는 빈 데이터를 반환")
+    void getHomeData_BeforeFirstSnapshot() {
+        // when
+        HomeResponse response = homeService.getHomeData();
+        
+        // then
+        assertEquals(0L, response.statistics().totalJobs());
+        assertTrue(response.recentJobs().isEmpty());
+        assertNull(homeService.getSnapshotStatus().builtAt());
+        verifyNoInteractions(jobPostingRepository);
+    }
+    
+    @Test
+    @DisplayName("최신 채용공고 - 요약 길이가 0이면 본문 전체를 조회")
+    void getHomeData_FullContentWhenExcerptDisabled() {
+        // given
+        ReflectionTestUtils.setField(homeService, "recentJobExcerptLength", 0);
+        when(jobPostingRepository.findRecentJobSummaries(anyInt(), any(Pageable.class))).thenReturn(Arrays.asList());
+        when(jobCategoryRepository.findPopularCategories(any(LocalDate.class), any(Pageable.class))).thenReturn(Arrays.asList());
+        
+        // when
+        homeService.refreshSnapshot();
+        
+        // then
+        verify(jobPostingRepository).findRecentJobSummaries(eq(Integer.MAX_VALUE), any(Pageable.class));
+    }
+    
+    private SimpleJobPostingDto summary(JobPosting posting) {
+        return new SimpleJobPostingDto(posting.getId(), posting.getTitle(), posting.getContent(), posting.getSalary(),
+                posting.getDeadline(), posting.getWorkLocation(), posting.getRequiredExperienceYears(),
+                posting.getJobCategory().getId(), posting.getJobCategory().getCategoryName(),
+                posting.getCompanyUser().getCompanyName(), posting.getCompanyUser().getCompanyCode(),
+                posting.getCreateDate());
+    }
+    
     // Reflection helper to set createDate
     private void setCreateDate(JobPosting jobPosting, LocalDateTime dateTime) {
         try {
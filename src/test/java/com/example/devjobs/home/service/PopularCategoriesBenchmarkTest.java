@@ -0,0 +1,131 @@
+package com.example.devjobs.home.service;
+
+import com.example.devjobs.home.dto.CategoryWithCountDto;
+import com.example.devjobs.jobcategory.entity.JobCategory;
+import com.example.devjobs.jobcategory.repository.JobCategoryRepository;
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 인기 카테고리 집계: 카테고리별 COUNT 쿼리(기존) vs 단일 GROUP BY 쿼리 비교.
+ * 기본 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다 (H2 기준 수치).
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(JobPostingCountCache.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PopularCategoriesBenchmarkTest {
+
+    private static final int POSTINGS_PER_CATEGORY = 5;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private JobCategoryRepository jobCategoryRepository;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @ParameterizedTest(name = "카테고리 {0}개")
+    @ValueSource(ints = {10, 100, 1000})
+    @DisplayName("기존 방식과 GROUP BY 방식의 결과가 같고, 쿼리 수와 소요 시간을 비교한다")
+    void compare(int categoryCount) {
+        LocalDate today = LocalDate.now();
+        insertData(categoryCount, today);
+
+        List<CategoryWithCountDto> legacy = legacyPopularCategories(today);
+        List<CategoryWithCountDto> grouped = groupedPopularCategories(today);
+        // 공고 수가 같은 카테고리의 순서는 기존 방식에서 정해져 있지 않으므로 공고 수 순서만 비교
+        assertEquals(legacy.stream().map(CategoryWithCountDto::jobCount).toList(),
+                grouped.stream().map(CategoryWithCountDto::jobCount).toList());
+
+        Result legacyResult = measure(() -> legacyPopularCategories(today));
+        Result groupedResult = measure(() -> groupedPopularCategories(today));
+        System.out.printf("[benchmark] categories=%4d  legacy: %8.3f ms, %4d queries  |  grouped: %8.3f ms, %d queries%n",
+                categoryCount, legacyResult.avgMillis(), legacyResult.queries(),
+                groupedResult.avgMillis(), groupedResult.queries());
+        assertEquals(1, groupedResult.queries());
+    }
+
+    // 변경 전 HomeServiceImpl.getPopularCategories와 동일한 방식
+    private List<CategoryWithCountDto> legacyPopularCategories(LocalDate today) {
+        return jobCategoryRepository.findAll().stream()
+                .map(category -> new CategoryWithCountDto(category.getId(), category.getCategoryName(),
+                        jobPostingRepository.countByJobCategoryAndDeadlineAfter(category, today)))
+                .sorted((a, b) -> Long.compare(b.jobCount(), a.jobCount()))
+                .limit(8)
+                .collect(Collectors.toList());
+    }
+
+    private List<CategoryWithCountDto> groupedPopularCategories(LocalDate today) {
+        return jobCategoryRepository.findPopularCategories(today, PageRequest.of(0, 8));
+    }
+
+    private Result measure(Supplier<List<CategoryWithCountDto>> path) {
+        for (int i = 0; i < WARMUP; i++) {
+            path.get();
+            em.clear();
+        }
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long elapsed = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            path.get();
+            elapsed += System.nanoTime() - start;
+            em.clear();
+        }
+        return new Result(elapsed / 1_000_000.0 / ITERATIONS, statistics.getPrepareStatementCount() / ITERATIONS);
+    }
+
+    private void insertData(int categoryCount, LocalDate today) {
+        CompanyUser company = CompanyUser.builder()
+                .loginId("bench").password("pw").name("벤치").email("bench@devjobs.com").role("ROLE_COMPANY")
+                .companyName("벤치회사").companyCode("000-00-00000").companyAddress("서울").ceoName("대표")
+                .build();
+        em.persist(company);
+        for (int c = 0; c < categoryCount; c++) {
+            JobCategory category = JobCategory.builder().categoryName("카테고리" + c).build();
+            em.persist(category);
+            // 카테고리마다 진행 중인 공고 수를 다르게 하고, 마감된 공고도 섞는다
+            int active = c % (POSTINGS_PER_CATEGORY + 1);
+            for (int p = 0; p < POSTINGS_PER_CATEGORY; p++) {
+                em.persist(JobPosting.builder()
+                        .companyUser(company)
+                        .jobCategory(category)
+                        .title("공고 " + c + "-" + p)
+                        .content("내용")
+                        .workLocation("서울")
+                        .deadline(p < active ? today.plusDays(7) : today.minusDays(1))
+                        .build());
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private record Result(double avgMillis, long queries) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.devjobs.jobposting.repository;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * countMode=APPROXIMATE 검색이 상한까지만 DB에서 세고, 상한을 넘으면 "N건 이상"으로 표시하는지 검증합니다.
+ */
+@DataJpaTest
+@Import(JobPostingCountCache.class)
+@TestPropertySource(properties = "app.search.count.approximate-cap=5")
+class JobPostingApproximateCountTest {
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        CompanyUser backendCompany = company("backend", "백엔드랩");
+        CompanyUser otherCompany = company("other", "디자인스튜디오");
+        for (int i = 0; i < 8; i++) {
+            jobPostingRepository.save(JobPosting.builder()
+                    .companyUser(i < 2 ? backendCompany : otherCompany)
+                    .title(i == 2 ? "백엔드 개발자" : "디자이너 " + i).content("내용").workLocation("서울")
+                    .salary(3000L + i * 500)
+                    .deadline(LocalDate.now().plusDays(7))
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("상한 이하이면 정확한 건수를 반환한다 (회사명 조인 조건, 바인딩 값 포함)")
+    void belowCap_ExactTotal() {
+        Page<JobPosting> page = search("백엔드", null, PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(((ApproximateCountPage<JobPosting>) page).isTotalApproximate()).isFalse();
+        assertThat(search(null, 5000, PageRequest.of(0, 2)).getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 상한 + 1까지만 세고 근사치로 표시한다")
+    void aboveCap_ApproximateTotal() {
+        Page<JobPosting> page = search(null, null, PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(((ApproximateCountPage<JobPosting>) page).isTotalApproximate()).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청한 페이지가 상한보다 뒤에 있으면 그 페이지 다음 한 건까지 센다")
+    void pageBeyondCap_CountsPastPage() {
+        Page<JobPosting> page = search(null, null, PageRequest.of(1, 4));
+
+        assertThat(page.getTotalElements()).isEqualTo(8);
+        assertThat(((ApproximateCountPage<JobPosting>) page).isTotalApproximate()).isFalse();
+    }
+
+    private Page<JobPosting> search(String keyword, Integer minSalary, PageRequest pageable) {
+        return jobPostingRepository.search(keyword, null, minSalary, null, null, null, null,
+                pageable, SearchCountMode.APPROXIMATE);
+    }
+
+    private CompanyUser company(String loginId, String companyName) {
+        return userRepository.save(CompanyUser.builder()
+                .loginId(loginId).password("pw").name("담당자").email(loginId + "@devjobs.com")
+                .role("ROLE_COMPANY").companyName(companyName).companyCode(loginId)
+                .companyAddress("서울").ceoName("대표")
+                .build());
+    }
+}
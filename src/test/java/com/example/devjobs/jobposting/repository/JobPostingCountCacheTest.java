@@ -0,0 +1,59 @@
+package com.example.devjobs.jobposting.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobPostingCountCacheTest {
+
+    private final JobPostingCountCache countCache = new JobPostingCountCache(30, 2);
+
+    @Test
+    @DisplayName("검색어 대소문자가 달라도 같은 조건으로 캐시된다")
+    void get_NormalizedKey() {
+        long generation = countCache.generation();
+        countCache.put(JobPostingCountCache.key("Spring", null, 3000, null, null, null, 1L), 42L, generation);
+
+        assertEquals(OptionalLong.of(42L), countCache.get(JobPostingCountCache.key("spring", null, 3000, null, null, null, 1L)));
+        assertTrue(countCache.get(JobPostingCountCache.key("spring", null, 3000, null, null, null, 2L)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 캐시가 비고, 무효화 이전에 시작한 계산 결과는 저장되지 않는다")
+    void invalidateAll_DiscardsStaleCounts() {
+        JobPostingCountCache.Key key = JobPostingCountCache.key(null, "서울", null, null, null, null, null);
+        long generation = countCache.generation();
+        countCache.put(key, 10L, generation);
+
+        countCache.invalidateAll();
+        countCache.put(key, 10L, generation);
+
+        assertTrue(countCache.get(key).isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 조회되지 않는다")
+    void get_Expired() throws InterruptedException {
+        JobPostingCountCache expiring = new JobPostingCountCache(0, 10);
+        JobPostingCountCache.Key key = JobPostingCountCache.key("java", null, null, null, null, null, null);
+        expiring.put(key, 5L, expiring.generation());
+        Thread.sleep(5);
+
+        assertTrue(expiring.get(key).isEmpty());
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 기존 항목을 비우고 저장한다")
+    void put_Bounded() {
+        long generation = countCache.generation();
+        for (int i = 0; i < 3; i++) {
+            countCache.put(JobPostingCountCache.key(null, null, i, null, null, null, null), i, generation);
+        }
+
+        assertEquals(OptionalLong.of(2L), countCache.get(JobPostingCountCache.key(null, null, 2, null, null, null, null)));
+        assertTrue(countCache.get(JobPostingCountCache.key(null, null, 0, null, null, null, null)).isEmpty());
+    }
+}
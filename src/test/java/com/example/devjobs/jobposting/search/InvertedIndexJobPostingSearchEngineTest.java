@@ -0,0 +1,209 @@
+package com.example.devjobs.jobposting.search;
+
+import com.example.devjobs.jobcategory.entity.JobCategory;
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class InvertedIndexJobPostingSearchEngineTest {
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @InjectMocks
+    private InvertedIndexJobPostingSearchEngine searchEngine;
+
+    private final Map<Long, JobPosting> store = new HashMap<>();
+    private CompanyUser techCompany;
+    private CompanyUser gameCompany;
+    private JobCategory backend;
+    private JobCategory frontend;
+
+    @BeforeEach
+    void setUp() {
+        techCompany = CompanyUser.builder().id(1L).companyName("테크코프").build();
+        gameCompany = CompanyUser.builder().id(2L).companyName("게임데브").build();
+        backend = JobCategory.builder().id(1L).categoryName("백엔드 개발").build();
+        frontend = JobCategory.builder().id(2L).categoryName("프론트엔드 개발").build();
+
+        when(jobPostingRepository.findAllWithCompanyUserByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(store::get).filter(java.util.Objects::nonNull).collect(Collectors.toList());
+        });
+
+        add(posting(1L, "시니어 백엔드 개발자", "Spring Boot 기반 서비스 개발", techCompany, backend, 5000L, 5, "서울시 강남구", 1));
+        add(posting(2L, "주니어 프론트엔드 개발자", "React 화면 개발", techCompany, frontend, 3500L, 1, "경기도 판교", 2));
+        add(posting(3L, "게임 서버 프로그래머", "Java 백엔드 게임 서버", gameCompany, backend, null, 3, "서울시 서초구", 3));
+    }
+
+    @Test
+    @DisplayName("한글 키워드는 제목, 내용, 회사명 전체에서 검색된다")
+    void search_KoreanKeyword() {
+        Page<JobPosting> result = search("백엔드", null, null, null, null, null, null);
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(3L, 1L), ids(result)); // 기본 정렬: 최신순
+    }
+
+    @Test
+    @DisplayName("회사명과 영문 키워드로 검색한다")
+    void search_CompanyNameAndLatinKeyword() {
+        assertEquals(List.of(3L), ids(search("게임데브", null, null, null, null, null, null)));
+        assertEquals(List.of(1L), ids(search("spring", null, null, null, null, null, null)));
+        assertEquals(0, search("kotlin", null, null, null, null, null, null).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("영문 키워드도 LIKE와 같이 단어 일부로 검색된다")
+    void search_LatinSubstring() {
+        add(posting(4L, "JavaScript 개발자", "Node.js 서비스", techCompany, frontend, 4000L, 2, "서울시 마포구", 4));
+
+        assertEquals(List.of(1L), ids(search("spr", null, null, null, null, null, null)));
+        assertEquals(List.of(4L, 3L), ids(search("java", null, null, null, null, null, null)));
+        assertEquals(List.of(4L), ids(search("NODE.JS", null, null, null, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("검색어의 용어가 모두 있어도 연속해서 나오지 않으면 LIKE와 같이 제외된다")
+    void search_RecheckContiguous() {
+        add(posting(4L, "프론트엔드와 백엔 협업", "디자인 시스템", gameCompany, frontend, 4000L, 2, "서울시 마포구", 4));
+        add(posting(5L, "C++ 엔진 개발자", "게임 엔진", gameCompany, backend, 6000L, 7, "서울시 마포구", 5));
+
+        assertEquals(List.of(3L, 1L), ids(search("백엔드", null, null, null, null, null, null)));
+        assertEquals(List.of(5L), ids(search("++", null, null, null, null, null, null)));
+        assertEquals(0, search("엔드 백", null, null, null, null, null, null).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("급여, 경력, 지역, 카테고리 필터를 적용한다 (급여가 없는 공고는 급여 조건에서 제외)")
+    void search_Filters() {
+        assertEquals(List.of(1L), ids(search(null, null, 4000, null, null, null, null)));
+        assertEquals(List.of(3L, 1L), ids(search(null, null, null, null, 3, null, null)));
+        assertEquals(List.of(3L, 1L), ids(search(null, "서울", null, null, null, null, null)));
+        assertEquals(List.of(2L), ids(search("개발", null, null, null, null, null, 2L)));
+    }
+
+    @Test
+    @DisplayName("정렬과 페이징을 적용한다")
+    void search_SortAndPaging() {
+        Page<JobPosting> result = searchEngine.search(null, null, null, null, null, null, null,
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "salary")));
+
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertEquals(List.of(1L, 2L), ids(result));
+    }
+
+    @Test
+    @DisplayName("수정, 마감, 삭제가 색인에 반영된다")
+    void index_UpdateAndRemove() {
+        JobPosting updated = posting(1L, "시니어 데이터 엔지니어", "Spark 파이프라인", techCompany, backend, 5000L, 5, "서울시 강남구", 1);
+        add(updated);
+        assertEquals(List.of(3L), ids(search("백엔드", null, null, null, null, null, null)));
+
+        updated.close();
+        searchEngine.index(updated);
+        assertEquals(0, search("데이터", null, null, null, null, null, null).getTotalElements());
+
+        searchEngine.remove(2L);
+        assertEquals(List.of(3L), ids(search(null, null, null, null, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("refresh는 DB의 현재 상태로 다시 색인하고, 없어진 공고는 제거한다")
+    void refresh_ReloadsFromRepository() {
+        store.put(1L, posting(1L, "시니어 데이터 엔지니어", "Spark 파이프라인", techCompany, backend, 5000L, 5, "서울시 강남구", 1));
+        store.remove(2L);
+
+        searchEngine.refresh(List.of(1L, 2L));
+
+        assertEquals(List.of(3L), ids(search("백엔드", null, null, null, null, null, null)));
+        assertEquals(List.of(1L), ids(search("데이터", null, null, null, null, null, null)));
+        assertEquals(List.of(3L, 1L), ids(search(null, null, null, null, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("반영된 조회수가 조회수 정렬에 반영된다")
+    void addViews_UpdatesViewCountSort() {
+        searchEngine.addViews(Map.of(2L, 5L, 3L, 2L));
+
+        Page<JobPosting> result = searchEngine.search(null, null, null, null, null, null, null,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "viewCount")));
+
+        assertEquals(List.of(2L, 3L, 1L), ids(result));
+    }
+
+    @Test
+    @DisplayName("삭제된 문서가 많아지면 압축 후에도 검색 결과가 유지된다")
+    void remove_Compaction() {
+        for (long id = 100; id < 2200; id++) {
+            add(posting(id, "임시 공고 " + id, "임시 내용", gameCompany, frontend, 1000L, 0, "부산시", 4));
+        }
+        for (long id = 100; id < 2200; id++) {
+            searchEngine.remove(id);
+        }
+
+        assertEquals(List.of(3L, 1L), ids(search("백엔드", null, null, null, null, null, null)));
+        assertEquals(3, search(null, null, null, null, null, null, null).getTotalElements());
+    }
+
+    private Page<JobPosting> search(String keyword, String location, Integer minSalary, Integer maxSalary,
+                                    Integer minExperience, Integer maxExperience, Long jobCategoryId) {
+        return searchEngine.search(keyword, location, minSalary, maxSalary, minExperience, maxExperience,
+                jobCategoryId, PageRequest.of(0, 10));
+    }
+
+    private void add(JobPosting jobPosting) {
+        store.put(jobPosting.getId(), jobPosting);
+        searchEngine.index(jobPosting);
+    }
+
+    private List<Long> ids(Page<JobPosting> page) {
+        return page.getContent().stream().map(JobPosting::getId).collect(Collectors.toList());
+    }
+
+    private JobPosting posting(Long id, String title, String content, CompanyUser company, JobCategory category,
+                               Long salary, int experience, String location, int createdOrder) {
+        JobPosting jobPosting = JobPosting.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .companyUser(company)
+                .jobCategory(category)
+                .salary(salary)
+                .requiredExperienceYears(experience)
+                .workLocation(location)
+                .deadline(LocalDate.now().plusDays(30))
+                .status(JobPostingStatus.ACTIVE)
+                .build();
+        jobPosting.setCreateDate(LocalDateTime.now().minusDays(10).plusHours(createdOrder));
+        return jobPosting;
+    }
+}
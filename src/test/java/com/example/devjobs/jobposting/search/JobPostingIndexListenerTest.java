@@ -0,0 +1,105 @@
+package com.example.devjobs.jobposting.search;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채용공고 변경이 커밋된 뒤에만 검색 색인에 반영되고, 롤백된 변경은 색인에 남지 않는지 검증합니다.
+ * 커밋 시점을 확인해야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({JobPostingCountCache.class, InvertedIndexJobPostingSearchEngine.class, JobPostingIndexListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "app.search.engine=index")
+class JobPostingIndexListenerTest {
+
+    @Autowired
+    private JobPostingSearchEngine searchEngine;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CompanyUser company;
+
+    @BeforeEach
+    void setUp() {
+        company = userRepository.save(CompanyUser.builder()
+                .loginId("company").password("pw").name("담당자").email("company@devjobs.com")
+                .role("ROLE_COMPANY").companyName("회사").companyCode("code")
+                .companyAddress("서울").ceoName("대표")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobPostingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("커밋된 공고는 색인되고, 롤백된 공고는 색인되지 않는다")
+    void indexesOnlyCommittedChanges() {
+        Long committed = saveAndPublish("커밋된 백엔드 공고", false);
+        Long rolledBack = saveAndPublish("롤백된 백엔드 공고", true);
+
+        assertThat(searchEngine.search("백엔드", null, null, null, null, null, null, PageRequest.of(0, 10))
+                .map(JobPosting::getId).getContent()).containsExactly(committed);
+        assertThat(jobPostingRepository.existsById(rolledBack)).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제가 커밋되면 색인에서 제거된다")
+    void removesDeletedPosting() {
+        Long id = saveAndPublish("삭제할 공고", false);
+        assertThat(searchEngine.search("삭제할", null, null, null, null, null, null, PageRequest.of(0, 10))
+                .getTotalElements()).isEqualTo(1);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jobPostingRepository.deleteById(id);
+            eventPublisher.publishEvent(JobPostingsChangedEvent.of(id));
+        });
+
+        assertThat(searchEngine.search("삭제할", null, null, null, null, null, null, PageRequest.of(0, 10))
+                .getTotalElements()).isZero();
+    }
+
+    private Long saveAndPublish(String title, boolean rollback) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            JobPosting jobPosting = jobPostingRepository.save(JobPosting.builder()
+                    .companyUser(company).title(title).content("내용").workLocation("서울")
+                    .deadline(LocalDate.now().plusDays(7))
+                    .build());
+            eventPublisher.publishEvent(JobPostingsChangedEvent.of(jobPosting.getId()));
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+            return jobPosting.getId();
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.devjobs.jobposting.service;
+
+import com.example.devjobs.jobposting.dto.JobPostingResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobPostingDetailCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private JobPostingDetailCache detailCache;
+
+    @BeforeEach
+    void setUp() {
+        detailCache = new JobPostingDetailCache(100, 600, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 반환하고 적중/미스 통계를 남긴다")
+    void get_ReadThrough() {
+        JobPostingResponse.Detail first = detailCache.get(1L, this::load);
+        JobPostingResponse.Detail second = detailCache.get(1L, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jobPostingDetail").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jobPostingDetail").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("공고 단위, 회사 단위로 무효화한다")
+    void evict() {
+        detailCache.get(1L, this::load);
+        detailCache.get(2L, this::load);
+        detailCache.get(3L, id -> detail(id, 20L));
+
+        detailCache.evict(1L);
+        assertEquals(2, detailCache.size());
+
+        detailCache.evictByCompany(10L);
+        assertEquals(1, detailCache.size());
+        detailCache.get(3L, this::load);
+        assertEquals(2, loads.get()); // 다른 회사의 공고는 유지
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 직후 다시 무효화한다")
+    void evict_AfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        detailCache.get(1L, this::load);
+
+        detailCache.evict(1L);
+        detailCache.get(1L, this::load); // 커밋 전에 이전 값이 다시 적재된 경우
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(0, detailCache.size());
+    }
+
+    private JobPostingResponse.Detail load(Long id) {
+        loads.incrementAndGet();
+        return detail(id, 10L);
+    }
+
+    private JobPostingResponse.Detail detail(Long id, Long companyId) {
+        return JobPostingResponse.Detail.builder()
+                .id(id)
+                .title("공고 " + id)
+                .viewCount(0L)
+                .companyInfo(new JobPostingResponse.CompanyInfo(companyId, "회사", "IT", "서울"))
+                .build();
+    }
+}
@@ -6,7 +6,12 @@ import com.example.devjobs.jobposting.dto.JobPostingRequest;
 import com.example.devjobs.jobposting.dto.JobPostingResponse;
 import com.example.devjobs.jobposting.entity.JobPosting;
 import com.example.devjobs.jobposting.entity.enums.JobPostingStatus;
+import com.example.devjobs.jobposting.repository.ApproximateCountPage;
+import com.example.devjobs.jobposting.repository.JobPostingCursor;
 import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.jobposting.repository.SearchCountMode;
+import com.example.devjobs.jobposting.search.JobPostingSearchEngine;
+import com.example.devjobs.jobposting.search.JobPostingsChangedEvent;
 import com.example.devjobs.user.entity.CompanyUser;
 import com.example.devjobs.user.repository.CompanyUserRepository;
 import com.example.devjobs.user.repository.UserRepository;
@@ -19,16 +24,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -45,6 +55,17 @@ class JobPostingServiceImplTest {
     private CompanyUserRepository companyUserRepository;
     @Mock
     private JobCategoryRepository jobCategoryRepository;
+    @Mock
+    private JobPostingSearchEngine jobPostingSearchEngine;
+
+    @Mock
+    private JobPostingViewCounter jobPostingViewCounter;
+
+    @Mock
+    private JobPostingDetailCache jobPostingDetailCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     
     @InjectMocks
     private JobPostingServiceImpl jobPostingService;
@@ -118,6 +139,7 @@ class JobPostingServiceImplTest {
             assertEquals("백엔드 개발자 채용", response.getTitle());
             assertEquals(50000000L, response.getSalary());
             verify(jobPostingRepository, times(1)).save(any(JobPosting.class));
+            verify(eventPublisher, times(1)).publishEvent(JobPostingsChangedEvent.of(1L));
         }
         
         @Test
@@ -151,12 +173,21 @@ class JobPostingServiceImplTest {
     @DisplayName("채용공고 조회")
     class GetJobPostingTest {
         
+        @BeforeEach
+        void setUpCache() {
+            // 캐시 미스: 로더를 그대로 호출
+            lenient().when(jobPostingDetailCache.get(anyLong(), any())).thenAnswer(invocation -> {
+                Function<Long, JobPostingResponse.Detail> loader = invocation.getArgument(1);
+                return loader.apply(invocation.getArgument(0));
+            });
+        }
+        
         @Test
         @DisplayName("상세 조회 성공 - 조회수 증가")
         void getJobPosting_Success() {
             // given
-            when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(jobPosting));
-            when(jobPostingRepository.save(any(JobPosting.class))).thenReturn(jobPosting);
+            when(jobPostingRepository.findWithCompanyUserById(1L)).thenReturn(Optional.of(jobPosting));
+            when(jobPostingViewCounter.pendingCount(1L)).thenReturn(1L);
             
             // when
             JobPostingResponse.Detail response = jobPostingService.getJobPosting(1L);
@@ -164,15 +195,34 @@ class JobPostingServiceImplTest {
             // then
             assertNotNull(response);
             assertEquals("백엔드 개발자 채용", response.getTitle());
-            assertEquals(1L, jobPosting.getViewCount()); // 조회수 증가 확인
-            verify(jobPostingRepository, times(1)).save(jobPosting);
+            assertEquals(1L, response.getViewCount()); // 미반영 조회수 포함
+            verify(jobPostingViewCounter).increment(1L);
+            verify(jobPostingRepository, never()).save(any(JobPosting.class));
+        }
+        
+        @Test
+        @DisplayName("상세 조회 - 캐시 적중 시 DB를 조회하지 않는다")
+        void getJobPosting_CacheHit() {
+            // given
+            JobPostingResponse.Detail cached = JobPostingResponse.Detail.builder()
+                    .id(1L).title("백엔드 개발자 채용").viewCount(10L).build();
+            doReturn(cached).when(jobPostingDetailCache).get(eq(1L), any());
+            when(jobPostingViewCounter.pendingCount(1L)).thenReturn(3L);
+            
+            // when
+            JobPostingResponse.Detail response = jobPostingService.getJobPosting(1L);
+            
+            // then
+            assertEquals(13L, response.getViewCount());
+            assertEquals(10L, cached.getViewCount()); // 캐시된 응답은 변경하지 않음
+            verifyNoInteractions(jobPostingRepository);
         }
         
         @Test
         @DisplayName("상세 조회 실패 - 공고 없음")
         void getJobPosting_NotFound() {
             // given
-            when(jobPostingRepository.findById(999L)).thenReturn(Optional.empty());
+            when(jobPostingRepository.findWithCompanyUserById(999L)).thenReturn(Optional.empty());
             
             // when & then
             assertThrows(EntityNotFoundException.class,
@@ -207,18 +257,102 @@ class JobPostingServiceImplTest {
             // given
             Pageable pageable = PageRequest.of(0, 10);
             Page<JobPosting> jobPostingPage = new PageImpl<>(Arrays.asList(jobPosting), pageable, 1);
-            when(jobPostingRepository.search(anyString(), anyString(), any(), any(), any(), any(), any(), any()))
+            when(jobPostingSearchEngine.search(anyString(), anyString(), any(), any(), any(), any(), any(), any(),
+                    eq(SearchCountMode.EXACT)))
                     .thenReturn(jobPostingPage);
             
             // when
             Page<JobPostingResponse.Simple> response = jobPostingService.searchJobPostings(
-                    "백엔드", "서울", 40000000, 60000000, 1, 5, 1L, pageable);
+                    "백엔드", "서울", 40000000, 60000000, 1, 5, 1L, pageable, SearchCountMode.EXACT);
             
             // then
             assertNotNull(response);
             assertEquals(1, response.getTotalElements());
             assertEquals("백엔드 개발자 채용", response.getContent().get(0).getTitle());
         }
+        
+        @Test
+        @DisplayName("근사 건수 검색 - 변환 후에도 근사 여부 유지")
+        void searchJobPostings_ApproximateCount() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<JobPosting> jobPostingPage = new ApproximateCountPage<>(Arrays.asList(jobPosting), pageable, 1001, true);
+            when(jobPostingSearchEngine.search(any(), any(), any(), any(), any(), any(), any(), any(),
+                    eq(SearchCountMode.APPROXIMATE)))
+                    .thenReturn(jobPostingPage);
+            
+            // when
+            Page<JobPostingResponse.Simple> response = jobPostingService.searchJobPostings(
+                    null, null, null, null, null, null, null, pageable, SearchCountMode.APPROXIMATE);
+            
+            // then
+            assertEquals(1001, response.getTotalElements());
+            assertTrue(((ApproximateCountPage<JobPostingResponse.Simple>) response).isTotalApproximate());
+        }
+    }
+    
+    @Nested
+    @DisplayName("채용공고 커서 검색")
+    class ScrollJobPostingTest {
+        
+        @Test
+        @DisplayName("다음 구간이 있으면 마지막 공고 위치로 커서를 발급")
+        void scrollJobPostings_HasNext() {
+            // given
+            Sort sort = Sort.by(Sort.Direction.DESC, "salary");
+            Slice<JobPosting> slice = new SliceImpl<>(List.of(jobPosting), PageRequest.of(0, 1), true);
+            when(jobPostingRepository.searchByCursor(any(), any(), any(), any(), any(), any(), any(),
+                    isNull(), eq(Sort.Order.desc("salary")), eq(1))).thenReturn(slice);
+            
+            // when
+            JobPostingResponse.CursorSlice response = jobPostingService.scrollJobPostings(
+                    null, null, null, null, null, null, null, null, 1, sort);
+            
+            // then
+            assertTrue(response.isHasNext());
+            assertEquals(1, response.getContent().size());
+            JobPostingCursor cursor = JobPostingCursor.decode(response.getNextCursor());
+            assertEquals("salary", cursor.getProperty());
+            assertEquals(50000000L, cursor.getValue());
+            assertEquals(1L, cursor.getId());
+        }
+        
+        @Test
+        @DisplayName("전달받은 커서로 다음 구간을 조회하고 마지막 구간이면 커서가 없음")
+        void scrollJobPostings_LastSlice() {
+            // given
+            Sort sort = Sort.by(Sort.Direction.DESC, "salary");
+            String cursor = JobPostingCursor.of(jobPosting, Sort.Order.desc("salary")).encode();
+            when(jobPostingRepository.searchByCursor(any(), any(), any(), any(), any(), any(), any(),
+                    any(JobPostingCursor.class), any(), anyInt()))
+                    .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+            
+            // when
+            JobPostingResponse.CursorSlice response = jobPostingService.scrollJobPostings(
+                    null, null, null, null, null, null, null, cursor, 20, sort);
+            
+            // then
+            assertFalse(response.isHasNext());
+            assertNull(response.getNextCursor());
+        }
+        
+        @Test
+        @DisplayName("조회 실패 - 정렬 조건이 다른 커서")
+        void scrollJobPostings_SortMismatch() {
+            // given
+            String cursor = JobPostingCursor.of(jobPosting, Sort.Order.desc("salary")).encode();
+            
+            // when & then
+            assertThrows(IllegalArgumentException.class, () -> jobPostingService.scrollJobPostings(
+                    null, null, null, null, null, null, null, cursor, 20, Sort.by(Sort.Direction.ASC, "deadline")));
+        }
+        
+        @Test
+        @DisplayName("조회 실패 - 변조된 커서")
+        void scrollJobPostings_InvalidCursor() {
+            assertThrows(IllegalArgumentException.class, () -> jobPostingService.scrollJobPostings(
+                    null, null, null, null, null, null, null, "not-a-cursor", 20, Sort.unsorted()));
+        }
     }
     
     @Nested
@@ -238,6 +372,8 @@ class JobPostingServiceImplTest {
             // then
             assertNotNull(response);
             verify(jobPostingRepository, times(1)).save(jobPosting);
+            verify(eventPublisher, times(1)).publishEvent(JobPostingsChangedEvent.of(1L));
+            verify(jobPostingDetailCache, times(1)).evict(1L);
         }
         
         @Test
@@ -301,6 +437,8 @@ class JobPostingServiceImplTest {
             
             // then
             verify(jobPostingRepository, times(1)).delete(jobPosting);
+            verify(eventPublisher, times(1)).publishEvent(JobPostingsChangedEvent.of(1L));
+            verify(jobPostingDetailCache, times(1)).evict(1L);
         }
         
         @Test
@@ -0,0 +1,124 @@
+package com.example.devjobs.jobposting.service;
+
+import com.example.devjobs.jobposting.search.JobPostingSearchEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobPostingViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JobPostingDetailCache jobPostingDetailCache;
+
+    @Mock
+    private JobPostingSearchEngine jobPostingSearchEngine;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JobPostingViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        viewCounter = new JobPostingViewCounter(jdbcTemplate, new TransactionTemplate(transactionManager),
+                jobPostingDetailCache, jobPostingSearchEngine, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("누적된 조회수를 공고별 한 번의 배치 UPDATE로 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush_BatchUpdate() {
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        viewCounter.increment(2L);
+        assertEquals(2L, viewCounter.pendingCount(1L));
+
+        assertEquals(2, viewCounter.flush());
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        List<Object[]> rows = captor.getValue().stream()
+                .sorted(Comparator.comparing(row -> (Long) row[1]))
+                .toList();
+        assertArrayEquals(new Object[]{2L, 1L}, rows.get(0));
+        assertArrayEquals(new Object[]{1L, 2L}, rows.get(1));
+        assertEquals(0L, viewCounter.pendingCount(1L));
+        assertEquals(3.0, meterRegistry.get("jobposting.viewcount.flushed").counter().count());
+        verify(jobPostingDetailCache).evict(1L);
+        verify(jobPostingDetailCache).evict(2L);
+        verify(jobPostingSearchEngine).addViews(Map.of(1L, 2L, 2L, 1L));
+
+        // 반영할 조회수가 없으면 UPDATE하지 않는다
+        assertEquals(0, viewCounter.flush());
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 조회수를 되돌려 다음 주기에 다시 반영한다")
+    void flush_FailureRestoresPending() {
+        viewCounter.increment(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("db down"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> viewCounter.flush());
+
+        assertEquals(1L, viewCounter.pendingCount(1L));
+        assertEquals(1.0, meterRegistry.get("jobposting.viewcount.flush.failures").counter().count());
+    }
+
+    @Test
+    @DisplayName("동시에 증가해도 반영 중 조회수가 유실되지 않는다")
+    void increment_ConcurrentWithFlush() throws InterruptedException {
+        long[] flushed = new long[1];
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> flushed[0] += (Long) row[0]);
+            return new int[rows.size()];
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    viewCounter.increment(1L);
+                }
+            });
+        }
+        for (int i = 0; i < 20; i++) {
+            viewCounter.flush();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        viewCounter.drainOnShutdown();
+
+        assertEquals(40_000L, flushed[0]);
+        assertEquals(0L, viewCounter.pendingCount(1L));
+    }
+}
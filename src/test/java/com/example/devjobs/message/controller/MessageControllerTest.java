@@ -0,0 +1,89 @@
+package com.example.devjobs.message.controller;
+
+import com.example.devjobs.common.ApiResponse;
+import com.example.devjobs.message.service.ConversationService;
+import com.example.devjobs.message.service.MessageService;
+import com.example.devjobs.message.service.UnreadMessageCountCache;
+import com.example.devjobs.user.service.UserDetailsImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageControllerTest {
+
+    @Mock
+    private MessageService messageService;
+    @Mock
+    private ConversationService conversationService;
+    @Mock
+    private UnreadMessageCountCache unreadMessageCountCache;
+
+    @InjectMocks
+    private MessageController messageController;
+
+    private UserDetailsImpl userDetails;
+
+    @BeforeEach
+    void setUp() {
+        userDetails = new UserDetailsImpl(2L, "receiver", null, "ROLE_INDIVIDUAL");
+    }
+
+    @Test
+    @DisplayName("읽지 않은 쪽지 개수 - 개수와 함께 ETag를 내려준다")
+    void getUnreadCount_ReturnsETag() {
+        when(unreadMessageCountCache.get(2L)).thenReturn(5L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ApiResponse<Map<String, Long>> body = messageController.getUnreadCount(userDetails,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/messages/unread-count"), response));
+
+        assertNotNull(body);
+        assertEquals(5L, body.data().get("count"));
+        assertEquals(200, response.getStatus());
+        assertEquals("\"unread-5\"", response.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("읽지 않은 쪽지 개수 - If-None-Match가 같으면 본문 없이 304")
+    void getUnreadCount_NotModified() {
+        when(unreadMessageCountCache.get(2L)).thenReturn(5L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/messages/unread-count");
+        request.addHeader("If-None-Match", "\"unread-5\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ApiResponse<Map<String, Long>> body = messageController.getUnreadCount(userDetails,
+                new ServletWebRequest(request, response));
+
+        assertNull(body);
+        assertEquals(304, response.getStatus());
+        verifyNoInteractions(messageService);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 쪽지 개수 - 개수가 바뀌었으면 새 값과 ETag로 응답")
+    void getUnreadCount_Changed() {
+        when(unreadMessageCountCache.get(2L)).thenReturn(6L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/messages/unread-count");
+        request.addHeader("If-None-Match", "\"unread-5\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ApiResponse<Map<String, Long>> body = messageController.getUnreadCount(userDetails,
+                new ServletWebRequest(request, response));
+
+        assertEquals(6L, body.data().get("count"));
+        assertEquals("\"unread-6\"", response.getHeader("ETag"));
+    }
+}
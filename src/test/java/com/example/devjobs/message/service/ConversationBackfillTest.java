@@ -0,0 +1,106 @@
+package com.example.devjobs.message.service;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.message.dto.ConversationResponse;
+import com.example.devjobs.message.entity.Message;
+import com.example.devjobs.message.repository.MessageRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.entity.User;
+import com.example.devjobs.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대화방 도입 이전에 보낸 메시지가 여러 배치에 걸쳐 대화방에 연결되고,
+ * 대화 목록의 마지막 메시지와 읽지 않은 수가 메시지 기준으로 채워지는지 검증합니다.
+ */
+@DataJpaTest
+@Import({JobPostingCountCache.class, ConversationBackfill.class, ConversationService.class})
+@TestPropertySource(properties = "app.message.conversation-backfill.batch-size=2")
+class ConversationBackfillTest {
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    @Autowired
+    private MessageRepository messageRepository;
+    @Autowired
+    private ConversationService conversationService;
+    @Autowired
+    private ConversationBackfill conversationBackfill;
+
+    private User applicant;
+    private User recruiter;
+    private JobPosting jobPosting;
+
+    @BeforeEach
+    void setUp() {
+        applicant = userRepository.save(IndividualUser.builder()
+                .loginId("applicant").password("pw").name("지원자").email("applicant@test.com").role("ROLE_INDIVIDUAL")
+                .build());
+        CompanyUser company = userRepository.save(CompanyUser.builder()
+                .loginId("company").password("pw").name("담당자").email("company@test.com").role("ROLE_COMPANY")
+                .companyName("테스트회사").companyCode("000-00-00000").companyAddress("서울").ceoName("대표")
+                .build());
+        recruiter = company;
+        jobPosting = jobPostingRepository.save(JobPosting.builder()
+                .companyUser(company).title("백엔드 개발자").content("내용").workLocation("서울")
+                .deadline(LocalDate.now().plusDays(7))
+                .build());
+    }
+
+    @Test
+    @DisplayName("대화방이 없는 메시지를 공고별 대화방에 연결하고 마지막 메시지와 읽지 않은 수를 채운다")
+    void backfill_LinksLegacyMessages() {
+        legacyMessage(applicant, recruiter, jobPosting, "지원했습니다", true);
+        legacyMessage(recruiter, applicant, jobPosting, "면접 안내", false);
+        legacyMessage(recruiter, applicant, jobPosting, "일정 확인 부탁드립니다", false);
+        legacyMessage(applicant, recruiter, null, "공고 없는 문의", false);
+        em.flush();
+        em.clear();
+
+        assertThat(conversationBackfill.backfill()).isEqualTo(4);
+        em.clear();
+
+        assertThat(messageRepository.existsByConversationIsNull()).isFalse();
+        List<ConversationResponse> applicantConversations = conversationService
+                .getMyConversations(applicant.getId(), PageRequest.of(0, 10)).getContent();
+        assertThat(applicantConversations).hasSize(2);
+        ConversationResponse withPosting = applicantConversations.stream()
+                .filter(conversation -> conversation.getJobPostingId() != null).findFirst().orElseThrow();
+        assertThat(withPosting.getLastMessagePreview()).isEqualTo("일정 확인 부탁드립니다");
+        assertThat(withPosting.getUnreadCount()).isEqualTo(2);
+        assertThat(conversationService.getMyConversations(recruiter.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(ConversationResponse::getUnreadCount).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    @DisplayName("연결할 메시지가 없으면 아무것도 하지 않는다")
+    void backfill_NothingToLink() {
+        assertThat(conversationBackfill.backfill()).isZero();
+    }
+
+    private void legacyMessage(User sender, User receiver, JobPosting jobPosting, String content, boolean read) {
+        messageRepository.save(Message.builder()
+                .sender(sender).receiver(receiver).jobPosting(jobPosting).content(content).isRead(read)
+                .build());
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.devjobs.message.service;
+
+import com.example.devjobs.common.config.MetricsConfig;
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.message.dto.ConversationResponse;
+import com.example.devjobs.message.dto.MarkAsReadResponse;
+import com.example.devjobs.message.dto.MessageResponse;
+import com.example.devjobs.message.dto.SendMessageRequest;
+import com.example.devjobs.notification.service.NotificationPushService;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.entity.User;
+import com.example.devjobs.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 메시지 전송/읽음 처리가 대화방과 참여자별 읽지 않은 수를 함께 갱신하는지 실제 쿼리로 검증합니다.
+ */
+@DataJpaTest
+@Import({JobPostingCountCache.class, MessageService.class, ConversationService.class, UnreadMessageCountCache.class,
+        NotificationPushService.class, MetricsConfig.class})
+class ConversationServiceTest {
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+    @Autowired
+    private MessageService messageService;
+    @Autowired
+    private ConversationService conversationService;
+
+    private User applicant;
+    private User recruiter;
+    private User other;
+    private JobPosting jobPosting;
+
+    @BeforeEach
+    void setUp() {
+        applicant = userRepository.save(IndividualUser.builder()
+                .loginId("applicant").password("pw").name("지원자").email("applicant@test.com").role("ROLE_INDIVIDUAL")
+                .build());
+        other = userRepository.save(IndividualUser.builder()
+                .loginId("other").password("pw").name("다른사람").email("other@test.com").role("ROLE_INDIVIDUAL")
+                .build());
+        CompanyUser company = userRepository.save(CompanyUser.builder()
+                .loginId("company").password("pw").name("담당자").email("company@test.com").role("ROLE_COMPANY")
+                .companyName("테스트회사").companyCode("000-00-00000").companyAddress("서울").ceoName("대표")
+                .build());
+        recruiter = company;
+        jobPosting = jobPostingRepository.save(JobPosting.builder()
+                .companyUser(company).title("백엔드 개발자").content("내용")
+                .deadline(LocalDate.now().plusDays(30)).workLocation("서울")
+                .build());
+    }
+
+    @Test
+    @DisplayName("같은 두 사용자와 채용공고의 메시지는 하나의 대화방에 모이고, 목록은 최근 메시지 순이다")
+    void sendMessage_GroupsIntoConversation() {
+        send(applicant, recruiter, jobPosting.getId(), "지원 관련 문의드립니다.");
+        send(recruiter, applicant, jobPosting.getId(), "네, 말씀하세요.");
+        MessageResponse last = send(applicant, recruiter, jobPosting.getId(), "면접 일정이 궁금합니다.");
+        send(other, recruiter, null, "다른 문의");
+        em.flush();
+        em.clear();
+
+        Page<ConversationResponse> recruiterConversations =
+                conversationService.getMyConversations(recruiter.getId(), PageRequest.of(0, 10));
+
+        assertThat(recruiterConversations.getTotalElements()).isEqualTo(2);
+        assertThat(recruiterConversations.getContent().get(0).getCounterpartName()).isEqualTo("다른사람");
+        ConversationResponse withApplicant = recruiterConversations.getContent().get(1);
+        assertThat(withApplicant.getCounterpartId()).isEqualTo(applicant.getId());
+        assertThat(withApplicant.getJobPostingTitle()).isEqualTo("백엔드 개발자");
+        assertThat(withApplicant.getLastMessageId()).isEqualTo(last.getMessageId());
+        assertThat(withApplicant.getLastMessagePreview()).isEqualTo("면접 일정이 궁금합니다.");
+        assertThat(withApplicant.getUnreadCount()).isEqualTo(2);
+
+        ConversationResponse forApplicant = conversationService.getMyConversations(applicant.getId(), PageRequest.of(0, 10))
+                .getContent().get(0);
+        assertThat(forApplicant.getConversationId()).isEqualTo(withApplicant.getConversationId());
+        assertThat(forApplicant.getUnreadCount()).isEqualTo(1);
+
+        Page<MessageResponse> messages = conversationService.getMessages(
+                applicant.getId(), withApplicant.getConversationId(), PageRequest.of(0, 10));
+        assertThat(messages.getContent()).extracting(MessageResponse::getContent)
+                .containsExactly("면접 일정이 궁금합니다.", "네, 말씀하세요.", "지원 관련 문의드립니다.");
+    }
+
+    @Test
+    @DisplayName("메시지를 읽으면 대화방의 읽지 않은 수가 줄고, 다시 읽어도 더 줄지 않는다")
+    void markAsRead_DecrementsUnreadOnce() {
+        MessageResponse first = send(applicant, recruiter, jobPosting.getId(), "첫 번째");
+        MessageResponse second = send(applicant, recruiter, jobPosting.getId(), "두 번째");
+
+        messageService.markAsRead(recruiter.getId(), first.getMessageId());
+        messageService.markAsRead(recruiter.getId(), first.getMessageId());
+        messageService.getMessage(recruiter.getId(), second.getMessageId());
+        em.flush();
+        em.clear();
+
+        assertThat(conversationService.getMyConversations(recruiter.getId(), PageRequest.of(0, 10))
+                .getContent().get(0).getUnreadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 읽음 처리는 본인이 받은 메시지만 바꾸고, 대화방별 읽지 않은 수와 전체 읽지 않은 수를 맞춘다")
+    void bulkMarkAsRead_KeepsCountersConsistent() {
+        MessageResponse a1 = send(applicant, recruiter, jobPosting.getId(), "지원자 1");
+        send(applicant, recruiter, jobPosting.getId(), "지원자 2");
+        send(applicant, recruiter, jobPosting.getId(), "지원자 3");
+        MessageResponse o1 = send(other, recruiter, null, "다른사람 1");
+        send(other, recruiter, null, "다른사람 2");
+        MessageResponse toApplicant = send(recruiter, applicant, jobPosting.getId(), "회신");
+
+        // 남이 받은 메시지(toApplicant)는 ID를 보내도 바뀌지 않음
+        MarkAsReadResponse byIds = messageService.markAsRead(recruiter.getId(),
+                List.of(a1.getMessageId(), o1.getMessageId(), toApplicant.getMessageId()));
+        assertThat(byIds.getUpdatedCount()).isEqualTo(2);
+        assertThat(byIds.getUnreadCount()).isEqualTo(3);
+        assertThat(unreadByCounterpart(recruiter)).containsExactlyInAnyOrder(
+                entry("지원자", 2), entry("다른사람", 1));
+
+        Long applicantConversation = conversationService.getMyConversations(applicant.getId(), PageRequest.of(0, 10))
+                .getContent().get(0).getConversationId();
+        MarkAsReadResponse byConversation = messageService.markConversationAsRead(recruiter.getId(), applicantConversation);
+        assertThat(byConversation.getUpdatedCount()).isEqualTo(2);
+        assertThat(byConversation.getUnreadCount()).isEqualTo(1);
+        assertThat(unreadByCounterpart(recruiter)).containsExactlyInAnyOrder(
+                entry("지원자", 0), entry("다른사람", 1));
+
+        MarkAsReadResponse all = messageService.markAllAsRead(recruiter.getId());
+        assertThat(all.getUpdatedCount()).isEqualTo(1);
+        assertThat(all.getUnreadCount()).isZero();
+        assertThat(unreadByCounterpart(recruiter)).containsExactlyInAnyOrder(
+                entry("지원자", 0), entry("다른사람", 0));
+        // 상대방의 읽지 않은 수는 그대로
+        assertThat(messageService.markAllAsRead(applicant.getId()).getUpdatedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 대화 메시지를 조회할 수 없다")
+    void getMessages_NotParticipant() {
+        send(applicant, recruiter, null, "안녕하세요");
+        Long conversationId = conversationService.getMyConversations(applicant.getId(), PageRequest.of(0, 10))
+                .getContent().get(0).getConversationId();
+
+        assertThatThrownBy(() -> conversationService.getMessages(other.getId(), conversationId, PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("대화를 찾을 수 없습니다.");
+    }
+
+    private List<Map.Entry<String, Integer>> unreadByCounterpart(User user) {
+        em.flush();
+        em.clear();
+        return conversationService.getMyConversations(user.getId(), PageRequest.of(0, 10)).getContent().stream()
+                .map(conversation -> Map.entry(conversation.getCounterpartName(), conversation.getUnreadCount()))
+                .toList();
+    }
+
+    private MessageResponse send(User sender, User receiver, Long jobPostingId, String content) {
+        SendMessageRequest request = new SendMessageRequest();
+        request.setReceiverId(receiver.getId());
+        request.setJobPostingId(jobPostingId);
+        request.setContent(content);
+        return messageService.sendMessage(sender.getId(), request);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.devjobs.message.service;
+
+import com.example.devjobs.common.config.MetricsConfig;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.message.dto.MessageResponse;
+import com.example.devjobs.message.dto.SendMessageRequest;
+import com.example.devjobs.message.repository.ConversationParticipantRepository;
+import com.example.devjobs.message.repository.ConversationRepository;
+import com.example.devjobs.message.repository.MessageRepository;
+import com.example.devjobs.message.repository.UnreadMessageCounterRepository;
+import com.example.devjobs.notification.service.NotificationPushService;
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.entity.User;
+import com.example.devjobs.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신자가 메시지를 상세 조회하면 읽음 상태가 실제로 저장되고,
+ * 대화방과 사용자의 읽지 않은 수가 한 번만 줄어드는지 검증합니다.
+ * 서비스의 트랜잭션 설정(읽기 전용 여부)이 그대로 적용되도록 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({JobPostingCountCache.class, MessageService.class, ConversationService.class, UnreadMessageCountCache.class,
+        NotificationPushService.class, MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MessageReadTransactionTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MessageRepository messageRepository;
+    @Autowired
+    private ConversationRepository conversationRepository;
+    @Autowired
+    private ConversationParticipantRepository participantRepository;
+    @Autowired
+    private UnreadMessageCounterRepository counterRepository;
+    @Autowired
+    private MessageService messageService;
+    @Autowired
+    private ConversationService conversationService;
+    @Autowired
+    private UnreadMessageCountCache unreadMessageCountCache;
+
+    private User sender;
+    private User receiver;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(user("sender"));
+        receiver = userRepository.save(user("receiver"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+        participantRepository.deleteAll();
+        conversationRepository.deleteAll();
+        counterRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("상세 조회로 읽음 처리가 저장되고, 다시 조회해도 읽지 않은 수는 더 줄지 않는다")
+    void getMessage_PersistsReadAndDecrementsOnce() {
+        MessageResponse first = send("첫 번째");
+        send("두 번째");
+        assertThat(unreadMessageCountCache.getUncached(receiver.getId())).isEqualTo(2);
+
+        assertThat(messageService.getMessage(receiver.getId(), first.getMessageId()).getIsRead()).isTrue();
+        messageService.getMessage(receiver.getId(), first.getMessageId());
+
+        assertThat(messageRepository.findById(first.getMessageId())).get()
+                .extracting("isRead").isEqualTo(true);
+        assertThat(unreadMessageCountCache.getUncached(receiver.getId())).isEqualTo(1);
+        assertThat(conversationService.getMyConversations(receiver.getId(), PageRequest.of(0, 10))
+                .getContent().get(0).getUnreadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발신자가 조회하면 읽음 처리하지 않는다")
+    void getMessage_BySenderKeepsUnread() {
+        MessageResponse message = send("안녕하세요");
+
+        messageService.getMessage(sender.getId(), message.getMessageId());
+
+        assertThat(messageRepository.findById(message.getMessageId())).get()
+                .extracting("isRead").isEqualTo(false);
+        assertThat(unreadMessageCountCache.getUncached(receiver.getId())).isEqualTo(1);
+    }
+
+    private MessageResponse send(String content) {
+        SendMessageRequest request = new SendMessageRequest();
+        request.setReceiverId(receiver.getId());
+        request.setContent(content);
+        return messageService.sendMessage(sender.getId(), request);
+    }
+
+    private User user(String loginId) {
+        return IndividualUser.builder()
+                .loginId(loginId).password("pw").name(loginId).email(loginId + "@devjobs.com").role("ROLE_INDIVIDUAL")
+                .build();
+    }
+}
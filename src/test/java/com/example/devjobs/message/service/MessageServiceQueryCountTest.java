@@ -0,0 +1,142 @@
+package com.example.devjobs.message.service;
+
+import com.example.devjobs.jobposting.entity.JobPosting;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.message.dto.MessageSummaryResponse;
+import com.example.devjobs.message.entity.Message;
+import com.example.devjobs.message.repository.MessageRepository;
+import com.example.devjobs.user.entity.CompanyUser;
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 받은/보낸 쪽지함 조회의 SQL 실행 횟수가 페이지에 담긴 쪽지 수와 무관하게 일정한지 검증합니다.
+ * (목록 조회 1회 + 다음 페이지가 있을 때만 전체 건수 조회 1회)
+ */
+@DataJpaTest
+@Import(JobPostingCountCache.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MessageServiceQueryCountTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private MessageRepository messageRepository;
+
+    private MessageService messageService;
+    private Statistics statistics;
+    private IndividualUser applicant;
+    private CompanyUser company;
+    private JobPosting jobPosting;
+
+    @BeforeEach
+    void setUp() {
+        // 목록 조회만 검증하므로 나머지 의존성은 사용하지 않음
+        messageService = new MessageService(messageRepository, null, null, null, null, null);
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        applicant = IndividualUser.builder()
+                .loginId("applicant").password("pw").name("지원자").email("applicant@devjobs.com")
+                .role("ROLE_INDIVIDUAL")
+                .build();
+        em.persist(applicant);
+        company = CompanyUser.builder()
+                .loginId("company").password("pw").name("담당자").email("company@devjobs.com")
+                .role("ROLE_COMPANY").companyName("회사").companyCode("code")
+                .companyAddress("서울").ceoName("대표")
+                .build();
+        em.persist(company);
+        jobPosting = JobPosting.builder()
+                .companyUser(company).title("백엔드 개발자").content("내용").workLocation("서울")
+                .deadline(LocalDate.now().plusDays(7))
+                .build();
+        em.persist(jobPosting);
+    }
+
+    @Test
+    @DisplayName("받은 쪽지함 - 한 페이지에 모두 담기면 SQL 1회, 보낸 사람 이름과 공고 제목을 함께 조회")
+    void getReceivedMessages_SinglePage() {
+        sendMessages(company, applicant, 5);
+
+        Page<MessageSummaryResponse> page = countStatements(1, () -> messageService.getReceivedMessages(applicant.getId(), firstPage()));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).allSatisfy(summary -> {
+            assertThat(summary.getSenderName()).isEqualTo("담당자");
+            assertThat(summary.getReceiverName()).isEqualTo("지원자");
+            assertThat(summary.getJobPostingTitle()).isEqualTo("백엔드 개발자");
+        });
+    }
+
+    @Test
+    @DisplayName("받은 쪽지함 - 여러 페이지여도 쪽지 수와 무관하게 SQL 2회 (목록 + 전체 건수)")
+    void getReceivedMessages_ConstantStatements() {
+        sendMessages(company, applicant, PAGE_SIZE * 3);
+
+        Page<MessageSummaryResponse> page = countStatements(2, () -> messageService.getReceivedMessages(applicant.getId(), firstPage()));
+
+        assertThat(page.getNumberOfElements()).isEqualTo(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(PAGE_SIZE * 3);
+        // 최신순 정렬
+        assertThat(page.getContent().get(0).getMessageId()).isGreaterThan(page.getContent().get(1).getMessageId());
+    }
+
+    @Test
+    @DisplayName("보낸 쪽지함 - 공고 없는 쪽지도 같은 횟수로 조회하고, 내용은 미리보기 길이로 자른다")
+    void getSentMessages_ConstantStatements() {
+        for (int i = 0; i < PAGE_SIZE * 2; i++) {
+            em.persist(Message.builder().sender(applicant).receiver(company).content("가".repeat(300)).build());
+        }
+        em.flush();
+
+        Page<MessageSummaryResponse> page = countStatements(2, () -> messageService.getSentMessages(applicant.getId(), firstPage()));
+
+        assertThat(page.getContent()).allSatisfy(summary -> {
+            assertThat(summary.getJobPostingId()).isNull();
+            assertThat(summary.getJobPostingTitle()).isNull();
+            assertThat(summary.getPreview()).hasSize(MessageSummaryResponse.PREVIEW_LENGTH);
+        });
+    }
+
+    private <T> Page<T> countStatements(long expected, Supplier<Page<T>> query) {
+        em.clear();
+        statistics.clear();
+        Page<T> result = query.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+
+    // 컨트롤러 기본값과 같이 createdAt 정렬이 붙어 와도 쿼리의 정렬을 그대로 사용
+    private PageRequest firstPage() {
+        return PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    private void sendMessages(User sender, User receiver, int count) {
+        for (int i = 0; i < count; i++) {
+            em.persist(Message.builder()
+                    .sender(sender).receiver(receiver).jobPosting(jobPosting).content("쪽지" + i)
+                    .build());
+        }
+        em.flush();
+    }
+}
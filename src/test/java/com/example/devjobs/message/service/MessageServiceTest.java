@@ -2,10 +2,13 @@ package com.example.devjobs.message.service;
 
 import com.example.devjobs.jobposting.entity.JobPosting;
 import com.example.devjobs.jobposting.repository.JobPostingRepository;
+import com.example.devjobs.message.dto.MarkAsReadResponse;
 import com.example.devjobs.message.dto.MessageResponse;
+import com.example.devjobs.message.dto.MessageSummaryResponse;
 import com.example.devjobs.message.dto.SendMessageRequest;
 import com.example.devjobs.message.entity.Message;
 import com.example.devjobs.message.repository.MessageRepository;
+import com.example.devjobs.notification.service.NotificationPushService;
 import com.example.devjobs.user.entity.CompanyUser;
 import com.example.devjobs.user.entity.IndividualUser;
 import com.example.devjobs.user.entity.User;
@@ -22,10 +25,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,6 +46,12 @@ class MessageServiceTest {
     private UserRepository userRepository;
     @Mock
     private JobPostingRepository jobPostingRepository;
+    @Mock
+    private ConversationService conversationService;
+    @Mock
+    private UnreadMessageCountCache unreadMessageCountCache;
+    @Mock
+    private NotificationPushService notificationPushService;
     
     @InjectMocks
     private MessageService messageService;
@@ -102,11 +113,12 @@ class MessageServiceTest {
         @DisplayName("메시지 전송 성공 - 채용공고 없음")
         void sendMessage_WithoutJobPosting_Success() {
             // given
+            when(userRepository.findById(1L)).thenReturn(Optional.of(sender));
             when(userRepository.findById(2L)).thenReturn(Optional.of(receiver));
             when(messageRepository.save(any(Message.class))).thenReturn(message);
             
             // when
-            MessageResponse response = messageService.sendMessage(sender, sendRequest);
+            MessageResponse response = messageService.sendMessage(sender.getId(), sendRequest);
             
             // then
             assertNotNull(response);
@@ -115,6 +127,10 @@ class MessageServiceTest {
             assertEquals("안녕하세요, 문의드립니다.", response.getContent());
             assertFalse(response.getIsRead());
             verify(messageRepository, times(1)).save(any(Message.class));
+            verify(conversationService).getOrCreate(sender, receiver, null);
+            verify(conversationService).onMessageSent(message);
+            verify(unreadMessageCountCache).add(2L, 1);
+            verify(notificationPushService).push(2L, MessageService.MESSAGE_EVENT, response);
         }
         
         @Test
@@ -132,30 +148,33 @@ class MessageServiceTest {
                     .createdAt(LocalDateTime.now())
                     .build();
                     
+            when(userRepository.findById(1L)).thenReturn(Optional.of(sender));
             when(userRepository.findById(2L)).thenReturn(Optional.of(receiver));
             when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(jobPosting));
             when(messageRepository.save(any(Message.class))).thenReturn(message);
             
             // when
-            MessageResponse response = messageService.sendMessage(sender, sendRequest);
+            MessageResponse response = messageService.sendMessage(sender.getId(), sendRequest);
             
             // then
             assertNotNull(response);
             assertEquals(1L, response.getJobPostingId());
             assertEquals("백엔드 개발자 채용", response.getJobPostingTitle());
             verify(jobPostingRepository, times(1)).findById(1L);
+            verify(conversationService).getOrCreate(sender, receiver, jobPosting);
         }
         
         @Test
         @DisplayName("메시지 전송 실패 - 수신자 없음")
         void sendMessage_ReceiverNotFound() {
             // given
+            when(userRepository.findById(1L)).thenReturn(Optional.of(sender));
             when(userRepository.findById(999L)).thenReturn(Optional.empty());
             sendRequest.setReceiverId(999L);
             
             // when & then
             assertThrows(IllegalArgumentException.class,
-                () -> messageService.sendMessage(sender, sendRequest),
+                () -> messageService.sendMessage(sender.getId(), sendRequest),
                 "존재하지 않는 사용자입니다.");
             verify(messageRepository, never()).save(any());
         }
@@ -169,7 +188,7 @@ class MessageServiceTest {
             
             // when & then
             assertThrows(IllegalArgumentException.class,
-                () -> messageService.sendMessage(sender, sendRequest),
+                () -> messageService.sendMessage(sender.getId(), sendRequest),
                 "자기 자신에게는 메시지를 보낼 수 없습니다.");
             verify(messageRepository, never()).save(any());
         }
@@ -179,12 +198,13 @@ class MessageServiceTest {
         void sendMessage_JobPostingNotFound() {
             // given
             sendRequest.setJobPostingId(999L);
+            when(userRepository.findById(1L)).thenReturn(Optional.of(sender));
             when(userRepository.findById(2L)).thenReturn(Optional.of(receiver));
             when(jobPostingRepository.findById(999L)).thenReturn(Optional.empty());
             
             // when & then
             assertThrows(IllegalArgumentException.class,
-                () -> messageService.sendMessage(sender, sendRequest),
+                () -> messageService.sendMessage(sender.getId(), sendRequest),
                 "존재하지 않는 채용공고입니다.");
             verify(messageRepository, never()).save(any());
         }
@@ -199,11 +219,11 @@ class MessageServiceTest {
         void getReceivedMessages_Success() {
             // given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Message> messagePage = new PageImpl<>(Arrays.asList(message), pageable, 1);
-            when(messageRepository.findByReceiverOrderByCreatedAtDesc(receiver, pageable)).thenReturn(messagePage);
+            Page<MessageSummaryResponse> messagePage = new PageImpl<>(Arrays.asList(summary()), pageable, 1);
+            when(messageRepository.findReceivedSummaries(receiver.getId(), pageable)).thenReturn(messagePage);
             
             // when
-            Page<MessageResponse> response = messageService.getReceivedMessages(receiver, pageable);
+            Page<MessageSummaryResponse> response = messageService.getReceivedMessages(receiver.getId(), pageable);
             
             // then
             assertNotNull(response);
@@ -216,11 +236,11 @@ class MessageServiceTest {
         void getSentMessages_Success() {
             // given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Message> messagePage = new PageImpl<>(Arrays.asList(message), pageable, 1);
-            when(messageRepository.findBySenderOrderByCreatedAtDesc(sender, pageable)).thenReturn(messagePage);
+            Page<MessageSummaryResponse> messagePage = new PageImpl<>(Arrays.asList(summary()), pageable, 1);
+            when(messageRepository.findSentSummaries(sender.getId(), pageable)).thenReturn(messagePage);
             
             // when
-            Page<MessageResponse> response = messageService.getSentMessages(sender, pageable);
+            Page<MessageSummaryResponse> response = messageService.getSentMessages(sender.getId(), pageable);
             
             // then
             assertNotNull(response);
@@ -229,16 +249,44 @@ class MessageServiceTest {
         }
         
         @Test
-        @DisplayName("읽지 않은 메시지 개수 조회")
+        @DisplayName("목록 조회 시 요청의 정렬 조건은 무시하고 최신순 쿼리를 사용한다")
+        void getReceivedMessages_IgnoresRequestedSort() {
+            // given
+            Pageable pageable = PageRequest.of(1, 10, Sort.by("content"));
+            when(messageRepository.findReceivedSummaries(receiver.getId(), PageRequest.of(1, 10)))
+                    .thenReturn(Page.empty());
+            
+            // when
+            messageService.getReceivedMessages(receiver.getId(), pageable);
+            
+            // then
+            verify(messageRepository).findReceivedSummaries(receiver.getId(), PageRequest.of(1, 10));
+        }
+        
+        private MessageSummaryResponse summary() {
+            return MessageSummaryResponse.builder()
+                    .messageId(message.getId())
+                    .senderId(sender.getId())
+                    .senderName(sender.getName())
+                    .receiverId(receiver.getId())
+                    .receiverName(receiver.getName())
+                    .preview(message.getContent())
+                    .isRead(false)
+                    .build();
+        }
+        
+        @Test
+        @DisplayName("읽지 않은 메시지 개수 조회 - COUNT 대신 카운터 캐시 사용")
         void getUnreadCount_Success() {
             // given
-            when(messageRepository.countByReceiverAndIsReadFalse(receiver)).thenReturn(5L);
+            when(unreadMessageCountCache.get(2L)).thenReturn(5L);
             
             // when
-            Long count = messageService.getUnreadCount(receiver);
+            Long count = messageService.getUnreadCount(receiver.getId());
             
             // then
             assertEquals(5L, count);
+            verify(messageRepository, never()).countByReceiverAndIsReadFalse(any());
         }
     }
     
@@ -250,25 +298,42 @@ class MessageServiceTest {
         @DisplayName("읽음 처리 성공")
         void markAsRead_Success() {
             // given
-            when(messageRepository.findByIdAndUser(1L, receiver)).thenReturn(Optional.of(message));
+            when(messageRepository.findByIdAndUserId(1L, receiver.getId())).thenReturn(Optional.of(message));
             
             // when
-            messageService.markAsRead(receiver, 1L);
+            messageService.markAsRead(receiver.getId(), 1L);
             
             // then
             assertTrue(message.getIsRead());
-            verify(messageRepository, times(1)).findByIdAndUser(1L, receiver);
+            verify(messageRepository, times(1)).findByIdAndUserId(1L, receiver.getId());
+            verify(conversationService).onMessageRead(message);
+            verify(unreadMessageCountCache).add(2L, -1);
+        }
+        
+        @Test
+        @DisplayName("이미 읽은 메시지는 대화방 읽지 않은 수를 다시 줄이지 않음")
+        void markAsRead_AlreadyRead() {
+            // given
+            message.markAsRead();
+            when(messageRepository.findByIdAndUserId(1L, receiver.getId())).thenReturn(Optional.of(message));
+            
+            // when
+            messageService.markAsRead(receiver.getId(), 1L);
+            
+            // then
+            verify(conversationService, never()).onMessageRead(any());
+            verify(unreadMessageCountCache, never()).add(any(), anyLong());
         }
         
         @Test
         @DisplayName("읽음 처리 실패 - 메시지 없음")
         void markAsRead_MessageNotFound() {
             // given
-            when(messageRepository.findByIdAndUser(999L, receiver)).thenReturn(Optional.empty());
+            when(messageRepository.findByIdAndUserId(999L, receiver.getId())).thenReturn(Optional.empty());
             
             // when & then
             assertThrows(IllegalArgumentException.class,
-                () -> messageService.markAsRead(receiver, 999L),
+                () -> messageService.markAsRead(receiver.getId(), 999L),
                 "메시지를 찾을 수 없습니다.");
         }
         
@@ -276,15 +341,73 @@ class MessageServiceTest {
         @DisplayName("읽음 처리 실패 - 권한 없음")
         void markAsRead_NoPermission() {
             // given
-            when(messageRepository.findByIdAndUser(1L, sender)).thenReturn(Optional.of(message));
+            when(messageRepository.findByIdAndUserId(1L, sender.getId())).thenReturn(Optional.of(message));
             
             // when & then
             assertThrows(IllegalArgumentException.class,
-                () -> messageService.markAsRead(sender, 1L),
+                () -> messageService.markAsRead(sender.getId(), 1L),
                 "권한이 없습니다.");
         }
     }
     
+    @Nested
+    @DisplayName("메시지 일괄 읽음 처리")
+    class BulkMarkAsReadTest {
+        
+        @Test
+        @DisplayName("모두 읽음 - UPDATE 한 번 후 대화방과 읽지 않은 수 갱신")
+        void markAllAsRead_Success() {
+            // given
+            when(messageRepository.markAllAsRead(2L)).thenReturn(3);
+            when(unreadMessageCountCache.getUncached(2L)).thenReturn(0L);
+            
+            // when
+            MarkAsReadResponse response = messageService.markAllAsRead(receiver.getId());
+            
+            // then
+            assertEquals(3, response.getUpdatedCount());
+            assertEquals(0L, response.getUnreadCount());
+            verify(conversationService).onMessagesRead(2L, null, null);
+            verify(unreadMessageCountCache).add(2L, -3);
+            verify(messageRepository, never()).findByIdAndUserId(any(), any());
+        }
+        
+        @Test
+        @DisplayName("대화 읽음 - 해당 대화방만 다시 계산")
+        void markConversationAsRead_Success() {
+            // given
+            when(messageRepository.markConversationAsRead(2L, 10L)).thenReturn(2);
+            when(unreadMessageCountCache.getUncached(2L)).thenReturn(4L);
+            
+            // when
+            MarkAsReadResponse response = messageService.markConversationAsRead(receiver.getId(), 10L);
+            
+            // then
+            assertEquals(2, response.getUpdatedCount());
+            assertEquals(4L, response.getUnreadCount());
+            verify(conversationService).onMessagesRead(2L, 10L, null);
+            verify(unreadMessageCountCache).add(2L, -2);
+        }
+        
+        @Test
+        @DisplayName("ID 목록 읽음 - 바뀐 메시지가 없으면 카운터를 건드리지 않음")
+        void markAsReadByIds_NothingUpdated() {
+            // given
+            List<Long> ids = List.of(1L, 2L);
+            when(messageRepository.markAsReadByIds(2L, ids)).thenReturn(0);
+            when(unreadMessageCountCache.getUncached(2L)).thenReturn(5L);
+            
+            // when
+            MarkAsReadResponse response = messageService.markAsRead(receiver.getId(), ids);
+            
+            // then
+            assertEquals(0, response.getUpdatedCount());
+            assertEquals(5L, response.getUnreadCount());
+            verify(conversationService, never()).onMessagesRead(any(), any(), any());
+            verify(unreadMessageCountCache, never()).add(any(), anyLong());
+        }
+    }
+    
     @Nested
     @DisplayName("메시지 상세 조회")
     class GetMessageTest {
@@ -293,26 +416,28 @@ class MessageServiceTest {
         @DisplayName("메시지 조회 성공 - 수신자가 조회 (읽음 처리)")
         void getMessage_AsReceiver_Success() {
             // given
-            when(messageRepository.findByIdAndUser(1L, receiver)).thenReturn(Optional.of(message));
+            when(messageRepository.findByIdAndUserId(1L, receiver.getId())).thenReturn(Optional.of(message));
             when(messageRepository.save(any(Message.class))).thenReturn(message);
             
             // when
-            MessageResponse response = messageService.getMessage(receiver, 1L);
+            MessageResponse response = messageService.getMessage(receiver.getId(), 1L);
             
             // then
             assertNotNull(response);
             assertTrue(message.getIsRead());
             verify(messageRepository, times(1)).save(message);
+            verify(conversationService).onMessageRead(message);
+            verify(unreadMessageCountCache).add(2L, -1);
         }
         
         @Test
         @DisplayName("메시지 조회 성공 - 발신자가 조회 (읽음 처리 안함)")
         void getMessage_AsSender_Success() {
             // given
-            when(messageRepository.findByIdAndUser(1L, sender)).thenReturn(Optional.of(message));
+            when(messageRepository.findByIdAndUserId(1L, sender.getId())).thenReturn(Optional.of(message));
             
             // when
-            MessageResponse response = messageService.getMessage(sender, 1L);
+            MessageResponse response = messageService.getMessage(sender.getId(), 1L);
             
             // then
             assertNotNull(response);
@@ -325,10 +450,10 @@ class MessageServiceTest {
         void getMessage_AlreadyRead_Success() {
             // given
             message.markAsRead();
-            when(messageRepository.findByIdAndUser(1L, receiver)).thenReturn(Optional.of(message));
+            when(messageRepository.findByIdAndUserId(1L, receiver.getId())).thenReturn(Optional.of(message));
             
             // when
-            MessageResponse response = messageService.getMessage(receiver, 1L);
+            MessageResponse response = messageService.getMessage(receiver.getId(), 1L);
             
             // then
             assertNotNull(response);
@@ -340,11 +465,11 @@ class MessageServiceTest {
         @DisplayName("메시지 조회 실패 - 메시지 없음")
         void getMessage_NotFound() {
             // given
-            when(messageRepository.findByIdAndUser(999L, receiver)).thenReturn(Optional.empty());
+            when(messageRepository.findByIdAndUserId(999L, receiver.getId())).thenReturn(Optional.empty());
             
             // when & then
             assertThrows(IllegalArgumentException.class,
-                () -> messageService.getMessage(receiver, 999L),
+                () -> messageService.getMessage(receiver.getId(), 999L),
                 "메시지를 찾을 수 없습니다.");
         }
     }
@@ -0,0 +1,113 @@
+package com.example.devjobs.message.service;
+
+import com.example.devjobs.common.config.MetricsConfig;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.message.dto.SendMessageRequest;
+import com.example.devjobs.message.entity.Message;
+import com.example.devjobs.message.repository.ConversationParticipantRepository;
+import com.example.devjobs.message.repository.ConversationRepository;
+import com.example.devjobs.message.repository.MessageRepository;
+import com.example.devjobs.message.repository.UnreadMessageCounterRepository;
+import com.example.devjobs.notification.service.NotificationPushService;
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.entity.User;
+import com.example.devjobs.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대화방이 없는 두 사용자가 서로에게 동시에 첫 메시지를 보내도 모든 전송이 성공하고,
+ * 대화방과 참여자가 한 번씩만 생성되는지 검증합니다.
+ * 요청마다 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({JobPostingCountCache.class, MessageService.class, ConversationService.class, UnreadMessageCountCache.class,
+        NotificationPushService.class, MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SendMessageConcurrencyTest {
+
+    private static final int REQUESTS = 20;
+
+    @Autowired
+    private MessageService messageService;
+    @Autowired
+    private ConversationService conversationService;
+    @Autowired
+    private MessageRepository messageRepository;
+    @Autowired
+    private ConversationRepository conversationRepository;
+    @Autowired
+    private ConversationParticipantRepository participantRepository;
+    @Autowired
+    private UnreadMessageCounterRepository counterRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+        participantRepository.deleteAll();
+        conversationRepository.deleteAll();
+        counterRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("서로에게 동시에 20번 첫 메시지를 보내면 모두 성공하고 대화방은 하나만 생긴다")
+    void concurrentFirstMessages_CreateOneConversation() throws Exception {
+        User first = userRepository.save(user("first"));
+        User second = userRepository.save(user("second"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            User sender = i % 2 == 0 ? first : second;
+            User receiver = i % 2 == 0 ? second : first;
+            futures.add(executor.submit(() -> {
+                start.await();
+                SendMessageRequest request = new SendMessageRequest();
+                request.setReceiverId(receiver.getId());
+                request.setContent("안녕하세요");
+                return messageService.sendMessage(sender.getId(), request);
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(conversationRepository.count()).isEqualTo(1);
+        assertThat(participantRepository.count()).isEqualTo(2);
+        assertThat(messageRepository.findAll()).hasSize(REQUESTS)
+                .extracting(Message::getConversation).doesNotContainNull();
+        assertThat(conversationService.getMyConversations(first.getId(), PageRequest.of(0, 10))
+                .getContent().get(0).getUnreadCount()).isEqualTo(REQUESTS / 2);
+        assertThat(conversationService.getMyConversations(second.getId(), PageRequest.of(0, 10))
+                .getContent().get(0).getUnreadCount()).isEqualTo(REQUESTS / 2);
+    }
+
+    private User user(String loginId) {
+        return IndividualUser.builder()
+                .loginId(loginId).password("pw").name(loginId).email(loginId + "@devjobs.com").role("ROLE_INDIVIDUAL")
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.devjobs.message.service;
+
+import com.example.devjobs.common.config.MetricsConfig;
+import com.example.devjobs.jobposting.repository.JobPostingCountCache;
+import com.example.devjobs.message.entity.Message;
+import com.example.devjobs.message.repository.MessageRepository;
+import com.example.devjobs.message.repository.UnreadMessageCounterRepository;
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.entity.User;
+import com.example.devjobs.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽지 않은 메시지 카운터가 COUNT로 한 번 초기화된 뒤 증감으로 유지되고,
+ * 변경이 없는 동안에는 DB에 접근하지 않는지 검증합니다.
+ * 카운터 초기화가 별도 트랜잭션에서 실행되므로 테스트 트랜잭션 없이 커밋된 데이터로 검증합니다.
+ */
+@DataJpaTest
+@Import({JobPostingCountCache.class, UnreadMessageCountCache.class, MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UnreadMessageCountCacheTest {
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MessageRepository messageRepository;
+    @Autowired
+    private UnreadMessageCounterRepository counterRepository;
+    @Autowired
+    private UnreadMessageCountCache unreadMessageCountCache;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User sender;
+    private User receiver;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(user("sender"));
+        receiver = userRepository.save(user("receiver"));
+        for (int i = 0; i < 3; i++) {
+            messageRepository.save(Message.builder().sender(sender).receiver(receiver).content("쪽지 " + i).build());
+        }
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterRepository.deleteAll();
+        messageRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 COUNT로 카운터를 만들고, 이후 조회는 DB에 접근하지 않는다")
+    void get_InitializesOnceThenServesFromCache() {
+        assertThat(unreadMessageCountCache.get(receiver.getId())).isEqualTo(3);
+        assertThat(counterRepository.findById(receiver.getId())).get()
+                .extracting("unreadCount").isEqualTo(3L);
+
+        statistics.clear();
+        assertThat(unreadMessageCountCache.get(receiver.getId())).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("증감은 카운터에 반영되고 캐시를 비우며, 0 미만으로 내려가지 않는다")
+    void add_UpdatesCounterAndEvicts() {
+        assertThat(unreadMessageCountCache.get(receiver.getId())).isEqualTo(3);
+
+        inTransaction(() -> unreadMessageCountCache.add(receiver.getId(), 1));
+        assertThat(unreadMessageCountCache.get(receiver.getId())).isEqualTo(4);
+
+        inTransaction(() -> unreadMessageCountCache.add(receiver.getId(), -10));
+        assertThat(unreadMessageCountCache.get(receiver.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("카운터가 없는 사용자에게 메시지가 오면 기존 메시지 수에 더해 만든다")
+    void add_InitializesMissingCounter() {
+        inTransaction(() -> {
+            messageRepository.save(Message.builder().sender(sender).receiver(receiver).content("새 쪽지").build());
+            unreadMessageCountCache.add(receiver.getId(), 1);
+        });
+
+        assertThat(unreadMessageCountCache.get(receiver.getId())).isEqualTo(4);
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+
+    private IndividualUser user(String loginId) {
+        return IndividualUser.builder()
+                .loginId(loginId).password("pw").name(loginId).email(loginId + "@test.com").role("ROLE_INDIVIDUAL")
+                .build();
+    }
+}
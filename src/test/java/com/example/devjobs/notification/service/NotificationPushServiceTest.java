@@ -0,0 +1,246 @@
+package com.example.devjobs.notification.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationPushServiceTest {
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private NotificationPushService service;
+
+    @BeforeEach
+    void setUp() {
+        // 전송 스레드 풀 대신 호출한 스레드에서 바로 전송 (잠금 밖에서 호출됨)
+        service = new NotificationPushService(3, 2, 60000, 0, 1, 10, new SimpleMeterRegistry()) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+
+            @Override
+            protected void execute(Runnable task) {
+                task.run();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("연결된 사용자에게만 알림을 보내고, ID는 증가한다")
+    void push_DeliversToConnectedUser() {
+        service.subscribe(1L, null);
+        service.subscribe(2L, null);
+
+        service.push(1L, "message", "첫 번째");
+        service.push(1L, "message", "두 번째");
+
+        List<String> received = emitters.get(0).eventsNamed("message");
+        assertEquals(2, received.size());
+        assertTrue(received.get(0).contains("첫 번째"));
+        assertTrue(idOf(received.get(0)) < idOf(received.get(1)));
+        assertTrue(emitters.get(1).eventsNamed("message").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 재연결하면 그 이후의 알림만 다시 보낸다")
+    void subscribe_ReplaysMissedEvents() {
+        service.subscribe(1L, null);
+        service.push(1L, "message", "받은 알림");
+        long lastEventId = idOf(emitters.get(0).eventsNamed("message").get(0));
+        emitters.get(0).complete();
+
+        service.push(1L, "message", "놓친 알림 1");
+        service.push(1L, "application-status", "놓친 알림 2");
+        service.subscribe(1L, lastEventId);
+
+        String replayed = String.join("\n", emitters.get(1).events);
+        assertFalse(replayed.contains("받은 알림"));
+        assertTrue(replayed.contains("놓친 알림 1"));
+        assertTrue(replayed.contains("놓친 알림 2"));
+        assertTrue(emitters.get(1).eventsNamed(NotificationPushService.RESYNC).isEmpty());
+    }
+
+    @Test
+    @DisplayName("보관 범위를 벗어난 Last-Event-ID면 resync 이벤트를 보낸다")
+    void subscribe_ResyncWhenBufferOverflowed() {
+        service.subscribe(1L, null);
+        service.push(1L, "message", "알림 0");
+        long lastEventId = idOf(emitters.get(0).eventsNamed("message").get(0));
+        for (int i = 1; i <= 4; i++) {
+            service.push(1L, "message", "알림 " + i);
+        }
+
+        service.subscribe(1L, lastEventId);
+
+        assertEquals(1, emitters.get(1).eventsNamed(NotificationPushService.RESYNC).size());
+        assertTrue(emitters.get(1).eventsNamed("message").isEmpty());
+    }
+
+    @Test
+    @DisplayName("보내지 못한 알림이 있으면 연결된 클라이언트와 이전 ID로 재연결하는 클라이언트에 resync를 보낸다")
+    void resync_NotifiesConnectedAndReconnectingClients() {
+        service.subscribe(1L, null);
+        service.push(1L, "message", "받은 알림");
+        long beforeDrop = idOf(emitters.get(0).eventsNamed("message").get(0));
+
+        service.resync(1L);
+        List<String> resync = emitters.get(0).eventsNamed(NotificationPushService.RESYNC);
+        assertEquals(1, resync.size());
+        emitters.get(0).complete();
+        service.push(1L, "message", "이후 알림");
+
+        service.subscribe(1L, beforeDrop);
+        assertEquals(1, emitters.get(1).eventsNamed(NotificationPushService.RESYNC).size());
+        service.subscribe(1L, idOf(resync.get(0)));
+        assertTrue(emitters.get(2).eventsNamed(NotificationPushService.RESYNC).isEmpty());
+        assertEquals(1, emitters.get(2).eventsNamed("message").size());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 보낸 알림은 커밋된 뒤에 전송된다")
+    void push_DeferredUntilCommit() {
+        service.subscribe(1L, null);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.push(1L, "message", "커밋 후");
+        assertTrue(emitters.get(0).eventsNamed("message").isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, emitters.get(0).eventsNamed("message").size());
+    }
+
+    @Test
+    @DisplayName("사용자당 연결 수를 넘으면 가장 오래된 연결을 닫고, 끊긴 연결은 heartbeat에서 정리한다")
+    void connectionLimitAndHeartbeat() {
+        service.subscribe(1L, null);
+        service.subscribe(1L, null);
+        service.subscribe(1L, null);
+        assertEquals(2, service.connectionCount());
+
+        emitters.get(1).failing = true;
+        service.heartbeat();
+
+        assertEquals(1, service.connectionCount());
+        assertTrue(emitters.get(2).events.stream().anyMatch(event -> event.contains(":heartbeat")));
+    }
+
+    @Test
+    @DisplayName("느린 연결로의 전송이 막혀도 알림을 보내는 스레드와 다른 사용자의 전송은 기다리지 않고, 밀린 연결은 닫는다")
+    void slowConnectionDoesNotBlockOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<RecordingEmitter> created = new CopyOnWriteArrayList<>();
+        NotificationPushService async = new NotificationPushService(3, 2, 60000, 0, 2, 10, new SimpleMeterRegistry()) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                if (created.isEmpty()) {
+                    emitter.blocker = release;
+                }
+                created.add(emitter);
+                return emitter;
+            }
+        };
+        try {
+            async.subscribe(1L, null);
+            async.subscribe(2L, null);
+
+            // 사용자 1의 전송이 막힌 동안 밀린 전송이 (3 + 2) × 2개를 넘으면 연결을 닫음
+            assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+                for (int i = 0; i < 12; i++) {
+                    async.push(1L, "message", "알림 " + i);
+                }
+                async.push(2L, "message", "다른 사용자");
+            });
+            awaitUntil(() -> created.get(1).eventsNamed("message").size() == 1);
+            assertEquals(1, async.connectionCount());
+
+            release.countDown();
+            awaitUntil(() -> created.get(0).isCompleted());
+            assertTrue(created.get(0).eventsNamed("message").isEmpty());
+        } finally {
+            release.countDown();
+            async.close();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "5초 안에 조건을 만족하지 않았습니다.");
+            Thread.sleep(10);
+        }
+    }
+
+    private static long idOf(String event) {
+        return event.lines().filter(line -> line.startsWith("id:"))
+                .map(line -> Long.parseLong(line.substring(3).trim()))
+                .findFirst().orElseThrow();
+    }
+
+    // 전송한 이벤트를 SSE 문자열로 기록하는 Emitter
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+        private volatile boolean completed;
+        // 설정되면 풀릴 때까지 전송이 막힘 (느린 연결)
+        private CountDownLatch blocker;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("연결 끊김");
+            }
+            if (blocker != null) {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        private boolean isCompleted() {
+            return completed;
+        }
+
+        private List<String> eventsNamed(String name) {
+            return events.stream().filter(event -> event.contains("event:" + name + "\n")).toList();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.devjobs.user.config;
+
+import com.example.devjobs.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 BCrypt로 해시/검증하고 소요 시간을 기록한다")
+    void encodeAndMatches() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 10, 5000, 1, meterRegistry);
+
+        String encoded = encoder.encode("password123");
+
+        assertTrue(encoder.matches("password123", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+        assertTrue(encoded.startsWith("$2a$04$"));
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    @DisplayName("해시를 기다리는 요청이 한도에 이르면 기다리지 않고 Retry-After와 함께 거부한다")
+    void rejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(started, release), 1, 2, 5000, 3, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitForQueueDepth(1);
+        assertEquals(1.0, meterRegistry.get("auth.password.queue.depth").gauge().value());
+        assertEquals(2.0, meterRegistry.get("auth.password.requests").gauge().value());
+
+        ServiceBusyException exception = assertThrows(ServiceBusyException.class, () -> encoder.encode("c"));
+        assertEquals(3, exception.getRetryAfterSeconds());
+
+        release.countDown();
+        assertEquals("encoded-a", running.get(5, TimeUnit.SECONDS));
+        assertEquals("encoded-b", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("해시가 밀려도 요청 스레드 대부분은 블로킹되지 않고 다른 요청을 처리한다")
+    void otherRequestsServedWhileSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(started, release), 1, 2, 5000, 1, meterRegistry);
+        ExecutorService requestThreads = Executors.newFixedThreadPool(4); // Tomcat 요청 스레드
+        try {
+            List<Future<String>> logins = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String password = "p" + i;
+                logins.add(requestThreads.submit(() -> encoder.encode(password)));
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // 한도를 넘은 로그인은 바로 503으로 끝나 요청 스레드를 돌려줌
+            long deadline = System.currentTimeMillis() + 5000;
+            while (logins.stream().filter(Future::isDone).count() < 6 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            List<Future<String>> rejected = logins.stream().filter(Future::isDone).toList();
+            assertEquals(6, rejected.size());
+            for (Future<String> login : rejected) {
+                ExecutionException exception = assertThrows(ExecutionException.class, login::get);
+                assertInstanceOf(ServiceBusyException.class, exception.getCause());
+            }
+            assertEquals("ok", requestThreads.submit(() -> "ok").get(1, TimeUnit.SECONDS));
+
+            release.countDown();
+            for (Future<String> login : logins) {
+                if (!rejected.contains(login)) {
+                    assertTrue(login.get(5, TimeUnit.SECONDS).startsWith("encoded-"));
+                }
+            }
+        } finally {
+            release.countDown();
+            requestThreads.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 거부한다")
+    void rejectsOnTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(new CountDownLatch(1), release), 1, 1, 100, 1, meterRegistry);
+
+        assertThrows(ServiceBusyException.class, () -> encoder.encode("a"));
+        release.countDown();
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (encoder.queueDepth() < depth && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
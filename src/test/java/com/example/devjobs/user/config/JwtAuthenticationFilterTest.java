@@ -0,0 +1,93 @@
+package com.example.devjobs.user.config;
+
+import com.example.devjobs.user.entity.IndividualUser;
+import com.example.devjobs.user.provider.JwtProvider;
+import com.example.devjobs.user.service.UserDetailsImpl;
+import com.example.devjobs.user.service.UserDetailsServiceImpl;
+import com.example.devjobs.user.service.UserPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    private final JwtProvider jwtProvider = new JwtProvider("testsecret");
+    private UserPrincipalCache principalCache;
+    private JwtAuthenticationFilter filter;
+    private IndividualUser user;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new UserPrincipalCache(100, 300, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtProvider, userDetailsService, principalCache);
+        user = IndividualUser.builder()
+                .id(1L).loginId("user1").password("encoded").name("회원").email("user1@devjobs.com")
+                .role("ROLE_INDIVIDUAL")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 반복 요청하면 사용자를 한 번만 조회한다")
+    void doFilter_CachesPrincipal() throws Exception {
+        when(userDetailsService.loadUserByUsername("user1")).thenReturn(UserDetailsImpl.from(user));
+        String token = jwtProvider.create("user1", "ROLE_INDIVIDUAL", 1L);
+
+        UserDetailsImpl first = authenticate("/api/applications/my", token);
+        UserDetailsImpl second = authenticate("/api/applications/my", token);
+
+        assertSame(first, second);
+        assertEquals(1L, second.getUserId());
+        assertNull(second.getPassword()); // 캐시된 Principal에는 비밀번호를 남기지 않음
+        verify(userDetailsService, times(1)).loadUserByUsername("user1");
+
+        principalCache.evict(1L); // 프로필 변경
+        authenticate("/api/applications/my", token);
+        verify(userDetailsService, times(2)).loadUserByUsername("user1");
+    }
+
+    @Test
+    @DisplayName("stateless 모드에서는 경로와 관계없이 클레임으로 Principal을 만든다")
+    void doFilter_StatelessMode() throws Exception {
+        ReflectionTestUtils.setField(filter, "stateless", true);
+        String token = jwtProvider.create("user1", "ROLE_INDIVIDUAL", 1L);
+
+        UserDetailsImpl fromClaims = authenticate("/api/applications/my", token);
+        assertEquals(1L, fromClaims.getUserId());
+        assertEquals("user1", fromClaims.getUsername());
+        assertEquals("ROLE_INDIVIDUAL", fromClaims.getAuthorities().iterator().next().getAuthority());
+
+        UserDetailsImpl forMessages = authenticate("/api/messages/received", token);
+        assertEquals(1L, forMessages.getUserId());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private UserDetailsImpl authenticate(String path, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+}
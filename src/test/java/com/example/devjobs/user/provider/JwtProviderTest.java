@@ -0,0 +1,90 @@
+package com.example.devjobs.user.provider;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtProviderTest {
+
+    private static final String SECRET = "testsecret";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(SECRET, 100, 60, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("검증한 토큰은 캐시에서 반환한다")
+    void validate_CachesVerifiedToken() {
+        String token = jwtProvider.create("user1", "ROLE_INDIVIDUAL", 1L);
+
+        DecodedJWT first = jwtProvider.validate(token);
+        DecodedJWT second = jwtProvider.validate(token);
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1L, jwtProvider.getUserIdFromToken(token));
+        assertEquals(2.0, cacheGets("jwtVerified", "hit"));
+    }
+
+    @Test
+    @DisplayName("거부한 토큰은 다시 검증하지 않고 거부하며, 사유별로 실패를 집계한다")
+    void validate_CachesRejectedToken() {
+        String forged = JWT.create().withSubject("user1").sign(Algorithm.HMAC256("other-secret"));
+
+        assertNull(jwtProvider.validate(forged));
+        assertNull(jwtProvider.validate(forged));
+
+        assertEquals(1.0, cacheGets("jwtRejected", "hit"));
+        assertEquals(2.0, meterRegistry.get("jwt.validation.failures")
+                .tag("reason", "SignatureVerificationException").counter().count());
+        assertNull(jwtProvider.validate(null));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에 있더라도 반환하지 않는다")
+    void validate_ExpiredToken() throws InterruptedException {
+        String token = JWT.create()
+                .withSubject("user1")
+                .withExpiresAt(Date.from(Instant.now().plusMillis(1500)))
+                .sign(Algorithm.HMAC256(SECRET));
+        assertNotNull(jwtProvider.validate(token));
+
+        Thread.sleep(1600);
+
+        assertNull(jwtProvider.validate(token));
+        assertEquals(1.0, meterRegistry.get("jwt.validation.failures")
+                .tag("reason", "TokenExpiredException").counter().count());
+    }
+
+    @Test
+    @DisplayName("캐시 키는 토큰 원문이 아닌 SHA-256 다이제스트이다")
+    void digest_Sha256Hex() {
+        String token = jwtProvider.create("user1", "ROLE_INDIVIDUAL", 1L);
+
+        String digest = JwtProvider.digest(token);
+
+        assertEquals(64, digest.length());
+        assertFalse(digest.contains(token));
+        assertEquals(digest, JwtProvider.digest(token));
+        assertNotEquals(digest, JwtProvider.digest(token + "x"));
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", JwtProvider.digest(""));
+    }
+
+    private double cacheGets(String cache, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
+}
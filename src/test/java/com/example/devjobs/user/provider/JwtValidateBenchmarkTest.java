@@ -0,0 +1,78 @@
+package com.example.devjobs.user.provider;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * JwtProvider.validate 처리량: 캐시 없이 매번 서명 검증 vs 캐시 미적중(cold) vs 캐시 적중(warm).
+ * 기본 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+class JwtValidateBenchmarkTest {
+
+    private static final String SECRET = "benchmarksecret";
+    private static final int TOKENS = 10_000;
+    private static final int ROUNDS = 5;
+    private static final JWTVerifier VERIFIER = JWT.require(Algorithm.HMAC256(SECRET)).build();
+
+    @Test
+    @DisplayName("검증 캐시 적중 시 처리량을 캐시 미적중, 서명 검증만 하는 경우와 비교한다")
+    void validateThroughput() {
+        JwtProvider issuer = new JwtProvider(SECRET);
+        List<String> tokens = LongStream.rangeClosed(1, TOKENS)
+                .mapToObj(userId -> issuer.create("user" + userId, "ROLE_INDIVIDUAL", userId))
+                .toList();
+        String forged = JWT.create().withSubject("bot").sign(Algorithm.HMAC256("other-secret"));
+
+        measure(tokens, VERIFIER::verify); // JIT 워밍업
+        double baseline = measure(tokens, VERIFIER::verify);
+
+        double cold = 0;
+        double warm = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            JwtProvider provider = new JwtProvider(SECRET); // 라운드마다 빈 캐시
+            cold += measure(tokens, token -> assertNotNull(provider.validate(token)));
+            warm += measure(tokens, token -> assertNotNull(provider.validate(token)));
+        }
+
+        JwtProvider provider = new JwtProvider(SECRET);
+        measure(List.of(forged), JwtValidateBenchmarkTest::verifyRejected); // JIT 워밍업
+        double rejectedUncached = measure(List.of(forged), JwtValidateBenchmarkTest::verifyRejected);
+        double rejectedCached = measure(List.of(forged), token -> assertNull(provider.validate(token)));
+
+        System.out.printf("[benchmark] tokens=%d  verify only: %8.1f ops/ms  |  cold: %8.1f ops/ms  |  warm: %8.1f ops/ms%n",
+                TOKENS, baseline, cold / ROUNDS, warm / ROUNDS);
+        System.out.printf("[benchmark] rejected token  verify only: %8.1f ops/ms  |  cached: %8.1f ops/ms%n",
+                rejectedUncached, rejectedCached);
+    }
+
+    private static void verifyRejected(String token) {
+        try {
+            VERIFIER.verify(token);
+        } catch (JWTVerificationException expected) {
+            // 거부가 정상
+        }
+    }
+
+    // 같은 토큰 목록을 TOKENS번 처리하는 데 걸린 시간으로 ms당 처리 건수를 계산
+    private static double measure(List<String> tokens, Consumer<String> validate) {
+        int operations = Math.max(tokens.size(), TOKENS);
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            validate.accept(tokens.get(i % tokens.size()));
+        }
+        return operations / ((System.nanoTime() - start) / 1_000_000.0);
+    }
+}
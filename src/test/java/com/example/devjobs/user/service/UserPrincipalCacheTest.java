@@ -0,0 +1,82 @@
+package com.example.devjobs.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserPrincipalCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private UserPrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new UserPrincipalCache(100, 300, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 토큰 버전이면 캐시에서 반환하고, 토큰 버전이 다르면 다시 조회한다")
+    void get_KeyedByUserAndTokenVersion() {
+        UserDetailsImpl first = principalCache.get(1L, 100L, () -> load(1L));
+        UserDetailsImpl second = principalCache.get(1L, 100L, () -> load(1L));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals("user1", second.getUsername());
+        assertNull(second.getPassword()); // 클레임 수준 정보만 캐시
+
+        principalCache.get(1L, 200L, () -> load(1L)); // 재로그인으로 받은 토큰
+        assertEquals(2, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userPrincipal").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("사용자 단위로 모든 토큰 버전의 항목을 무효화한다")
+    void evict() {
+        principalCache.get(1L, 100L, () -> load(1L));
+        principalCache.get(1L, 200L, () -> load(1L));
+        principalCache.get(2L, 100L, () -> load(2L));
+
+        principalCache.evict(1L);
+
+        assertEquals(1, principalCache.size());
+        principalCache.get(2L, 100L, () -> load(2L));
+        assertEquals(3, loads.get()); // 다른 사용자는 유지
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 직후 다시 무효화한다")
+    void evict_AfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        principalCache.get(1L, 100L, () -> load(1L));
+
+        principalCache.evict(1L);
+        principalCache.get(1L, 100L, () -> load(1L)); // 커밋 전에 이전 값이 다시 적재된 경우
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(0, principalCache.size());
+    }
+
+    private UserDetailsImpl load(Long userId) {
+        loads.incrementAndGet();
+        return new UserDetailsImpl(userId, "user" + userId, "pw", "ROLE_INDIVIDUAL");
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.devjobs.user.service.profile;
 
 import com.example.devjobs.common.file.FileService;
+import com.example.devjobs.jobposting.service.JobPostingDetailCache;
 import com.example.devjobs.user.dto.profile.*;
 import com.example.devjobs.user.entity.*;
 import com.example.devjobs.user.entity.enums.WorkStatus;
 import com.example.devjobs.user.repository.*;
+import com.example.devjobs.user.service.UserPrincipalCache;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,6 +49,10 @@ class ProfileServiceImplTest {
     private CertificationRepository certificationRepository;
     @Mock
     private FileService fileService;
+    @Mock
+    private JobPostingDetailCache jobPostingDetailCache;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
     
     @InjectMocks
     private ProfileServiceImpl profileService;
@@ -130,6 +136,7 @@ class ProfileServiceImplTest {
             assertEquals("수정된이름", individualUser.getName());
             assertEquals("010-9999-8888", individualUser.getPhoneNumber());
             verify(individualUserRepository, times(1)).findById(userId);
+            verify(userPrincipalCache).evict(userId);
         }
         
         @Test
@@ -342,6 +349,8 @@ class ProfileServiceImplTest {
             // then
             assertEquals("서울시 강남구 테헤란로", companyUser.getCompanyAddress());
             assertEquals("IT", companyUser.getIndustry());
+            verify(jobPostingDetailCache).evictByCompany(userId);
+            verify(userPrincipalCache).evict(userId);
         }
         
         @Test